@@ -0,0 +1,317 @@
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load generator for POST /api/v1/time/convert.
+ *
+ * <p>Opens the requested number of keep-alive connections, each driven by its own
+ * virtual thread, and reports throughput and latency percentiles for the measured
+ * interval as one CSV line. Uses only the JDK so it runs as a single-file program:
+ *
+ * <pre>
+ * java loadtest/LoadTest.java --connections 10000 --duration 60s
+ * </pre>
+ *
+ * <p>Options: {@code --host} (localhost), {@code --port} (8080), {@code --connections}
+ * (1000), {@code --ramp-up} (10s), {@code --warmup} (10s), {@code --duration} (30s),
+ * {@code --think-time} (0ms, pause between requests on a connection).
+ */
+public final class LoadTest {
+
+  private static final String PATH = "/api/v1/time/convert";
+
+  /** Log-linear histogram of microseconds: 16 linear sub-buckets per power of two. */
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final String host;
+  private final int port;
+  private final int connections;
+  private final Duration rampUp;
+  private final Duration warmup;
+  private final Duration duration;
+  private final Duration thinkTime;
+
+  private final byte[][] requestsByMinute = new byte[24 * 60][];
+  private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+  private final LongAdder connectFailures = new LongAdder();
+  private volatile boolean measuring;
+  private volatile boolean running = true;
+
+  private LoadTest(String host, int port, int connections, Duration rampUp, Duration warmup,
+      Duration duration, Duration thinkTime) {
+    this.host = host;
+    this.port = port;
+    this.connections = connections;
+    this.rampUp = rampUp;
+    this.warmup = warmup;
+    this.duration = duration;
+    this.thinkTime = thinkTime;
+    for (int minuteOfDay = 0; minuteOfDay < requestsByMinute.length; minuteOfDay++) {
+      requestsByMinute[minuteOfDay] = request(minuteOfDay);
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    String host = "localhost";
+    int port = 8080;
+    int connections = 1000;
+    Duration rampUp = Duration.ofSeconds(10);
+    Duration warmup = Duration.ofSeconds(10);
+    Duration duration = Duration.ofSeconds(30);
+    Duration thinkTime = Duration.ZERO;
+    boolean header = false;
+
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--host" -> host = args[++i];
+        case "--port" -> port = Integer.parseInt(args[++i]);
+        case "--connections" -> connections = Integer.parseInt(args[++i]);
+        case "--ramp-up" -> rampUp = parseDuration(args[++i]);
+        case "--warmup" -> warmup = parseDuration(args[++i]);
+        case "--duration" -> duration = parseDuration(args[++i]);
+        case "--think-time" -> thinkTime = parseDuration(args[++i]);
+        case "--header" -> header = true;
+        default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+      }
+    }
+
+    if (header) {
+      System.out.println(
+          "connections,requests,errors,connect_failures,throughput_rps,p50_ms,p99_ms,max_ms");
+    }
+    new LoadTest(host, port, connections, rampUp, warmup, duration, thinkTime).run();
+  }
+
+  private void run() throws InterruptedException {
+    ThreadFactory factory = Thread.ofVirtual().name("load-", 0).factory();
+    CountDownLatch done = new CountDownLatch(connections);
+    long rampNanosPerConnection = rampUp.toNanos() / Math.max(1, connections);
+
+    try (var executor = Executors.newThreadPerTaskExecutor(factory)) {
+      long rampStart = System.nanoTime();
+      for (int i = 0; i < connections; i++) {
+        int worker = i;
+        executor.execute(() -> {
+          try {
+            drive(worker);
+          } finally {
+            done.countDown();
+          }
+        });
+        long due = rampStart + (i + 1) * rampNanosPerConnection;
+        long wait = due - System.nanoTime();
+        if (wait > 0) {
+          Thread.sleep(Duration.ofNanos(wait));
+        }
+      }
+
+      Thread.sleep(warmup);
+      measuring = true;
+      long start = System.nanoTime();
+      Thread.sleep(duration);
+      measuring = false;
+      double seconds = (System.nanoTime() - start) / 1e9;
+      running = false;
+
+      report(seconds);
+      done.await();
+    }
+  }
+
+  private void drive(int worker) {
+    int minuteOfDay = (worker * 7) % requestsByMinute.length;
+    while (running) {
+      try (Socket socket = new Socket()) {
+        socket.setTcpNoDelay(true);
+        socket.connect(new InetSocketAddress(host, port), 30_000);
+        socket.setSoTimeout(60_000);
+        OutputStream out = socket.getOutputStream();
+        InputStream in = new BufferedInputStream(socket.getInputStream(), 4096);
+
+        boolean open = true;
+        while (running && open) {
+          byte[] request = requestsByMinute[minuteOfDay];
+          minuteOfDay = (minuteOfDay + 1) % requestsByMinute.length;
+
+          long sent = System.nanoTime();
+          out.write(request);
+          out.flush();
+          int status = readResponse(in);
+          long micros = (System.nanoTime() - sent) / 1_000;
+
+          if (measuring) {
+            requests.increment();
+            histogram.incrementAndGet(bucket(micros));
+            if (Math.abs(status) != 200) {
+              errors.increment();
+            }
+          }
+          open = status > 0;
+          if (!thinkTime.isZero()) {
+            Thread.sleep(thinkTime);
+          }
+        }
+      } catch (IOException e) {
+        if (measuring) {
+          connectFailures.increment();
+        }
+        pause();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  private byte[] request(int minuteOfDay) {
+    String body = String.format("{\"time\":\"%02d:%02d\"}", minuteOfDay / 60, minuteOfDay % 60);
+    String request = "POST " + PATH + " HTTP/1.1\r\n"
+        + "Host: " + host + ":" + port + "\r\n"
+        + "Content-Type: application/json\r\n"
+        + "Content-Length: " + body.length() + "\r\n"
+        + "\r\n"
+        + body;
+    return request.getBytes(StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Reads one response and returns its status, or the negated status if the server
+   * asked to close the connection.
+   */
+  private static int readResponse(InputStream in) throws IOException {
+    String statusLine = readLine(in);
+    int status = Integer.parseInt(statusLine.substring(9, 12));
+    long contentLength = -1;
+    boolean chunked = false;
+    boolean close = false;
+
+    String line;
+    while (!(line = readLine(in)).isEmpty()) {
+      String lower = line.toLowerCase(Locale.ROOT);
+      if (lower.startsWith("content-length:")) {
+        contentLength = Long.parseLong(lower.substring(15).trim());
+      } else if (lower.startsWith("transfer-encoding:") && lower.contains("chunked")) {
+        chunked = true;
+      } else if (lower.startsWith("connection:") && lower.contains("close")) {
+        close = true;
+      }
+    }
+
+    if (chunked) {
+      long size;
+      while ((size = Long.parseLong(readLine(in).trim(), 16)) > 0) {
+        skip(in, size + 2);
+      }
+      readLine(in);
+    } else if (contentLength > 0) {
+      skip(in, contentLength);
+    }
+    return close ? -status : status;
+  }
+
+  private static String readLine(InputStream in) throws IOException {
+    StringBuilder line = new StringBuilder(64);
+    int c;
+    while ((c = in.read()) != '\n') {
+      if (c < 0) {
+        throw new IOException("Connection closed by server");
+      }
+      if (c != '\r') {
+        line.append((char) c);
+      }
+    }
+    return line.toString();
+  }
+
+  private static void skip(InputStream in, long bytes) throws IOException {
+    long remaining = bytes;
+    while (remaining > 0) {
+      long skipped = in.skip(remaining);
+      if (skipped <= 0) {
+        if (in.read() < 0) {
+          throw new IOException("Connection closed by server");
+        }
+        skipped = 1;
+      }
+      remaining -= skipped;
+    }
+  }
+
+  private void report(double seconds) {
+    long total = requests.sum();
+    System.out.printf(Locale.ROOT, "%d,%d,%d,%d,%.0f,%.3f,%.3f,%.3f%n",
+        connections, total, errors.sum(), connectFailures.sum(), total / seconds,
+        percentile(0.50) / 1000.0, percentile(0.99) / 1000.0, percentile(1.0) / 1000.0);
+  }
+
+  private long percentile(double quantile) {
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      total += histogram.get(i);
+    }
+    long target = Math.max(1, (long) Math.ceil(total * quantile));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += histogram.get(i);
+      if (seen >= target) {
+        return upperBound(i);
+      }
+    }
+    return 0;
+  }
+
+  private static int bucket(long micros) {
+    if (micros < SUB_BUCKETS) {
+      return (int) Math.max(0, micros);
+    }
+    int magnitude = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS + 1;
+    int sub = (int) (micros >>> magnitude) - SUB_BUCKETS / 2;
+    return magnitude * SUB_BUCKETS / 2 + SUB_BUCKETS / 2 + sub;
+  }
+
+  private static long upperBound(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int magnitude = (bucket - SUB_BUCKETS / 2) / (SUB_BUCKETS / 2);
+    int sub = (bucket - SUB_BUCKETS / 2) % (SUB_BUCKETS / 2) + SUB_BUCKETS / 2;
+    return ((long) sub + 1 << magnitude) - 1;
+  }
+
+  private static void pause() {
+    try {
+      Thread.sleep(100);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static Duration parseDuration(String value) {
+    if (value.endsWith("ms")) {
+      return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+    }
+    if (value.endsWith("s")) {
+      return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+    }
+    if (value.endsWith("m")) {
+      return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+    }
+    return Duration.ofSeconds(Long.parseLong(value));
+  }
+}
@@ -0,0 +1,136 @@
+#!/usr/bin/env bash
+#
+# Compares platform-thread, virtual-thread and edge-server request handling under load.
+#
+# For every mode and connection count a fresh server is started with a fixed heap,
+# driven by LoadTest.java, and sampled once a second for resident memory and live
+# threads. Results are written as CSV to target/loadtest/results.csv.
+#
+# Environment overrides:
+#   CONNECTIONS   connection counts to test        (default: "1000 10000 50000")
+#   MODES         server modes to test             (default: "platform virtual-threads")
+#                 one or more of platform, virtual-threads, reactive, edge
+#   DURATION      measured interval per run        (default: 30s)
+#   WARMUP        unmeasured load before measuring (default: 15s)
+#   RAMP_UP       time to open all connections     (default: 20s)
+#   THINK_TIME    pause between requests per conn  (default: 0ms)
+#   HEAP          server -Xms/-Xmx                 (default: 512m)
+#   SERVER_CPUS   taskset CPU list for the server  (default: unpinned)
+#   CLIENT_CPUS   taskset CPU list for the client  (default: unpinned)
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+CONNECTIONS="${CONNECTIONS:-1000 10000 50000}"
+MODES="${MODES:-platform virtual-threads}"
+DURATION="${DURATION:-30s}"
+WARMUP="${WARMUP:-15s}"
+RAMP_UP="${RAMP_UP:-20s}"
+THINK_TIME="${THINK_TIME:-0ms}"
+HEAP="${HEAP:-512m}"
+PORT="${PORT:-18080}"
+OUT_DIR=target/loadtest
+RESULTS="$OUT_DIR/results.csv"
+
+mkdir -p "$OUT_DIR"
+
+# Every connection needs a descriptor in the client and one in the server
+if ! ulimit -n 120000 2>/dev/null; then
+  echo "warning: open-file limit is $(ulimit -n); runs above ~$(( $(ulimit -n) - 1000 ))" \
+    "connections will see connect failures" >&2
+fi
+
+# The reactive mode needs WebFlux, which only the reactive Maven profile packages
+BUILD_PROFILES=()
+if [[ " $MODES " == *" reactive "* ]]; then
+  BUILD_PROFILES=(-Preactive)
+fi
+
+JAR=$(ls target/british-spoken-time-*.jar 2>/dev/null | grep -v original | head -1 || true)
+if [[ -z "$JAR" ]] || { [[ ${#BUILD_PROFILES[@]} -gt 0 ]] && ! jar tf "$JAR" | grep -q spring-webflux; }; then
+  ./mvnw -q -B "${BUILD_PROFILES[@]}" package -DskipTests
+  JAR=$(ls target/british-spoken-time-*.jar | grep -v original | head -1)
+fi
+
+# Prints a taskset prefix when a CPU list is given; taskset execs the command,
+# so a backgrounded server keeps its own PID
+pinned() {
+  if [[ -n "$1" ]]; then
+    echo taskset -c "$1"
+  fi
+}
+
+# Records peak RSS (MB) and peak thread count of a process until it exits
+sample() {
+  local pid="$1" file="$2" rss=0 threads=0
+  while kill -0 "$pid" 2>/dev/null; do
+    local status
+    status=$(cat "/proc/$pid/status" 2>/dev/null || true)
+    local r t
+    r=$(awk '/^VmRSS:/ {print int($2 / 1024)}' <<<"$status")
+    t=$(awk '/^Threads:/ {print $2}' <<<"$status")
+    (( ${r:-0} > rss )) && rss=$r
+    (( ${t:-0} > threads )) && threads=$t
+    echo "$rss,$threads" > "$file"
+    sleep 1
+  done
+}
+
+echo "mode,connections,requests,errors,connect_failures,throughput_rps,p50_ms,p99_ms,max_ms,peak_rss_mb,peak_threads" \
+  > "$RESULTS"
+
+for mode in $MODES; do
+  profile=()
+  launcher=()
+  case "$mode" in
+    virtual-threads|reactive) profile=(--spring.profiles.active="$mode") ;;
+    edge) launcher=(-Dloader.main=com.britishspokentime.edge.EdgeServer) ;;
+  esac
+
+  for connections in $CONNECTIONS; do
+    echo "== $mode, $connections connections" >&2
+    if curl -sf "http://localhost:$PORT/api/v1/time/health" > /dev/null; then
+      echo "port $PORT is already serving; stop that process or set PORT" >&2
+      exit 1
+    fi
+
+    $(pinned "${SERVER_CPUS:-}") java "-Xms$HEAP" "-Xmx$HEAP" "${launcher[@]}" -jar "$JAR" \
+      --server.port="$PORT" \
+      --server.tomcat.max-connections=60000 \
+      --server.tomcat.accept-count=1000 \
+      --server.tomcat.max-keep-alive-requests=-1 \
+      --server.tomcat.keep-alive-timeout=120s \
+      --logging.level.com.britishspokentime=WARN \
+      "${profile[@]}" > "$OUT_DIR/server-$mode-$connections.log" 2>&1 &
+    server=$!
+
+    until curl -sf "http://localhost:$PORT/api/v1/time/health" > /dev/null; do
+      if ! kill -0 "$server" 2>/dev/null; then
+        echo "server failed to start, see $OUT_DIR/server-$mode-$connections.log" >&2
+        exit 1
+      fi
+      sleep 0.5
+    done
+
+    sample "$server" "$OUT_DIR/sample-$mode-$connections" &
+    sampler=$!
+
+    line=$($(pinned "${CLIENT_CPUS:-}") java -Xss256k loadtest/LoadTest.java \
+      --port "$PORT" --connections "$connections" --ramp-up "$RAMP_UP" \
+      --warmup "$WARMUP" --duration "$DURATION" --think-time "$THINK_TIME")
+
+    peak=$(cat "$OUT_DIR/sample-$mode-$connections")
+    kill "$server"
+    wait "$server" 2>/dev/null || true
+    wait "$sampler" 2>/dev/null || true
+
+    echo "$mode,$line,$peak" >> "$RESULTS"
+  done
+done
+
+if command -v column > /dev/null; then
+  column -t -s, "$RESULTS"
+else
+  cat "$RESULTS"
+fi
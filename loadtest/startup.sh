@@ -0,0 +1,103 @@
+#!/usr/bin/env bash
+#
+# Measures time to first successful conversion for each server mode.
+#
+# Each run starts a fresh JVM from the packaged jar and posts a conversion until it
+# succeeds; the time from launch to the first 200 is recorded together with the
+# resident memory at that point. Results are written as CSV to
+# target/loadtest/startup.csv.
+#
+# Modes: platform, virtual-threads, reactive and edge run the plain jar, built with
+# the reactive Maven profile when reactive is requested; aot, cds and aot-cds run the
+# startup-optimized build (./mvnw -Pstartup package) with Spring AOT initialization,
+# the class data sharing archive, or both.
+#
+# Environment overrides:
+#   MODES   server modes to test       (default: "platform aot cds aot-cds edge")
+#   RUNS    launches per mode          (default: 5)
+#   HEAP    server -Xms/-Xmx           (default: 512m)
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+MODES="${MODES:-platform aot cds aot-cds edge}"
+RUNS="${RUNS:-5}"
+HEAP="${HEAP:-512m}"
+PORT="${PORT:-18080}"
+OUT_DIR=target/loadtest
+RESULTS="$OUT_DIR/startup.csv"
+CONVERT="http://localhost:$PORT/api/v1/time/convert"
+CDS_DIR=target/cds
+
+mkdir -p "$OUT_DIR"
+
+# The reactive mode needs WebFlux, which only the reactive Maven profile packages
+BUILD_PROFILES=-Pstartup
+if [[ " $MODES " == *" reactive "* ]]; then
+  BUILD_PROFILES=-Pstartup,reactive
+fi
+
+JAR=$(ls target/british-spoken-time-*.jar 2>/dev/null | grep -v original | head -1 || true)
+if [[ -z "$JAR" ]] || { [[ "$MODES" == *aot* || "$MODES" == *cds* ]] && [[ ! -d "$CDS_DIR" ]]; } \
+    || { [[ "$BUILD_PROFILES" == *reactive* ]] && ! jar tf "$JAR" | grep -q spring-webflux; }; then
+  ./mvnw -q -B "$BUILD_PROFILES" package -DskipTests
+  JAR=$(ls target/british-spoken-time-*.jar | grep -v original | head -1)
+fi
+EXTRACTED_JAR="$CDS_DIR/$(basename "$JAR")"
+
+# Answers whether a conversion request succeeds
+converts() {
+  curl -sf -H 'Content-Type: application/json' -d '{"time":"7:30"}' "$CONVERT" > /dev/null
+}
+
+echo "mode,run,first_response_ms,rss_mb" > "$RESULTS"
+
+for mode in $MODES; do
+  profile=()
+  launcher=()
+  jar="$JAR"
+  case "$mode" in
+    virtual-threads|reactive) profile=(--spring.profiles.active="$mode") ;;
+    edge) launcher=(-Dloader.main=com.britishspokentime.edge.EdgeServer) ;;
+    aot) launcher=(-Dspring.aot.enabled=true) ;;
+    cds) launcher=(-XX:SharedArchiveFile="$CDS_DIR/application.jsa"); jar="$EXTRACTED_JAR" ;;
+    aot-cds)
+      launcher=(-XX:SharedArchiveFile="$CDS_DIR/application.jsa" -Dspring.aot.enabled=true)
+      jar="$EXTRACTED_JAR"
+      ;;
+  esac
+
+  for run in $(seq 1 "$RUNS"); do
+    if converts; then
+      echo "port $PORT is already serving; stop that process or set PORT" >&2
+      exit 1
+    fi
+
+    start=$(date +%s%N)
+    java "-Xms$HEAP" "-Xmx$HEAP" "${launcher[@]}" -jar "$jar" \
+      --server.port="$PORT" "${profile[@]}" > "$OUT_DIR/startup-$mode-$run.log" 2>&1 &
+    server=$!
+
+    until converts; do
+      if ! kill -0 "$server" 2>/dev/null; then
+        echo "server failed to start, see $OUT_DIR/startup-$mode-$run.log" >&2
+        exit 1
+      fi
+      sleep 0.01
+    done
+    elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+    rss=$(awk '/^VmRSS:/ {print int($2 / 1024)}' "/proc/$server/status")
+
+    kill "$server"
+    wait "$server" 2>/dev/null || true
+
+    echo "$mode,$run,$elapsed,$rss" >> "$RESULTS"
+  done
+done
+
+if command -v column > /dev/null; then
+  column -t -s, "$RESULTS"
+else
+  cat "$RESULTS"
+fi
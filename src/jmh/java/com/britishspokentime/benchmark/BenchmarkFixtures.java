@@ -0,0 +1,67 @@
+package com.britishspokentime.benchmark;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.service.BritishTimeConverter;
+import com.britishspokentime.service.ConversionComponents;
+import com.britishspokentime.service.TimeService;
+import com.britishspokentime.service.factory.TimeFormatStrategyFactory;
+import com.britishspokentime.service.metrics.ConversionMetrics;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * Wires the conversion components without a Spring context, so benchmarks measure
+ * the code under test rather than container startup.
+ */
+final class BenchmarkFixtures {
+
+  private BenchmarkFixtures() {
+    throw new UnsupportedOperationException("Utility class");
+  }
+
+  static TimeFormatStrategyFactory strategyFactory() {
+    return TimeFormatStrategyFactory.standard();
+  }
+
+  static TimeProperties properties(TimeProperties.Engine engine) {
+    TimeProperties properties = new TimeProperties();
+    properties.getConverter().setEngine(engine);
+    return properties;
+  }
+
+  /**
+   * Wires the components with metrics backed by the Prometheus registry used in
+   * production.
+   */
+  static ConversionComponents components(TimeProperties properties) {
+    return ConversionComponents.create(properties,
+        new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+  }
+
+  static BritishTimeConverter converter(TimeProperties properties) {
+    return components(properties).converter();
+  }
+
+  static TimeService timeService(TimeProperties properties) {
+    ConversionComponents components = components(properties);
+    return new TimeService(components.converter(), properties, components.metrics(),
+        components.eventLogger());
+  }
+
+  static ConversionMetrics metrics(TimeProperties properties) {
+    return components(properties).metrics();
+  }
+
+  /**
+   * Returns every minute of the day as a zero-padded HH:mm string.
+   */
+  static String[] canonicalInputs() {
+    String[] inputs = new String[TimeConstants.MINUTES_IN_DAY];
+    for (int i = 0; i < inputs.length; i++) {
+      inputs[i] = String.format("%02d:%02d",
+          i / TimeConstants.MINUTES_IN_HOUR, i % TimeConstants.MINUTES_IN_HOUR);
+    }
+    return inputs;
+  }
+}
@@ -0,0 +1,92 @@
+package com.britishspokentime.benchmark;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.dto.BatchTimeRequest;
+import com.britishspokentime.dto.BatchTimeResponse;
+import com.britishspokentime.service.TimeService;
+import com.britishspokentime.service.binary.BinaryConversionService;
+import com.britishspokentime.service.binary.BinaryFormat;
+import com.britishspokentime.service.factory.TimeFormatStrategyFactory;
+import com.britishspokentime.service.logging.ConversionEventLogger;
+import com.britishspokentime.service.metrics.ConversionMetrics;
+import com.britishspokentime.service.table.SpokenTimeTable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a JSON batch round trip (decode request, convert, encode response) with
+ * the binary protocol for the same items, cycling through every minute of the day.
+ * Run with {@code -prof gc} to see the allocation difference as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class BinaryProtocolBenchmark {
+
+  @Param("1000000")
+  private int items;
+
+  private ObjectMapper objectMapper;
+  private TimeService timeService;
+  private BinaryConversionService binaryService;
+  private byte[] jsonRequest;
+  private byte[] binaryRequest;
+
+  @Setup
+  public void setUp() throws Exception {
+    TimeProperties properties = BenchmarkFixtures.properties(TimeProperties.Engine.TABLE);
+    properties.getBatch().setMaxSize(items);
+    objectMapper = new ObjectMapper();
+    timeService = BenchmarkFixtures.timeService(properties);
+
+    TimeFormatStrategyFactory factory = BenchmarkFixtures.strategyFactory();
+    SpokenTimeTable table = new SpokenTimeTable(factory);
+    ConversionMetrics metrics = BenchmarkFixtures.metrics(properties);
+    binaryService = new BinaryConversionService(table, metrics,
+        new ConversionEventLogger(table, factory, metrics, properties), properties);
+
+    String[] inputs = BenchmarkFixtures.canonicalInputs();
+    String[] times = new String[items];
+    binaryRequest = new byte[items * 2];
+    for (int i = 0; i < items; i++) {
+      int minuteOfDay = i % TimeConstants.MINUTES_IN_DAY;
+      times[i] = inputs[minuteOfDay];
+      binaryRequest[2 * i] = (byte) (minuteOfDay >>> Byte.SIZE);
+      binaryRequest[2 * i + 1] = (byte) minuteOfDay;
+    }
+    jsonRequest = objectMapper.writeValueAsBytes(new BatchTimeRequest(Arrays.asList(times)));
+  }
+
+  @Benchmark
+  public byte[] json() throws Exception {
+    BatchTimeRequest request = objectMapper.readValue(jsonRequest, BatchTimeRequest.class);
+    BatchTimeResponse response = timeService.convertBatch(request);
+    return objectMapper.writeValueAsBytes(response);
+  }
+
+  @Benchmark
+  public byte[] binaryPhrases() {
+    return binaryService.convertBatch(binaryRequest, BinaryFormat.PHRASES);
+  }
+
+  @Benchmark
+  public byte[] binaryPhraseIds() {
+    return binaryService.convertBatch(binaryRequest, BinaryFormat.PHRASE_IDS);
+  }
+}
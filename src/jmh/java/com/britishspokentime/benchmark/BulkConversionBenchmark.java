@@ -0,0 +1,101 @@
+package com.britishspokentime.benchmark;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.service.BritishTimeConverter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how {@code convertAll} and {@code parseAll} scale with the size of the
+ * fork/join pool they are called from, against a plain loop over the single-item
+ * methods. Each call covers {@code items} entries cycling through every minute of
+ * the day.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class BulkConversionBenchmark {
+
+  @Param("1000000")
+  private int items;
+
+  @Param({"1", "2", "4"})
+  private int threads;
+
+  @Param("8192")
+  private int threshold;
+
+  private BritishTimeConverter converter;
+  private ForkJoinPool pool;
+  private int[] minutesOfDay;
+  private CharSequence[] times;
+  private String[] spokenForms;
+  private int[] parsed;
+
+  @Setup
+  public void setUp() {
+    TimeProperties properties = BenchmarkFixtures.properties(TimeProperties.Engine.TABLE);
+    properties.getConverter().setBulkThreshold(threshold);
+    converter = BenchmarkFixtures.converter(properties);
+    pool = new ForkJoinPool(threads);
+
+    String[] inputs = BenchmarkFixtures.canonicalInputs();
+    minutesOfDay = new int[items];
+    times = new CharSequence[items];
+    for (int i = 0; i < items; i++) {
+      minutesOfDay[i] = i % TimeConstants.MINUTES_IN_DAY;
+      times[i] = inputs[minutesOfDay[i]];
+    }
+    spokenForms = new String[items];
+    parsed = new int[items];
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public String[] convertLoop() {
+    for (int i = 0; i < items; i++) {
+      spokenForms[i] = converter.convert(minutesOfDay[i]);
+    }
+    return spokenForms;
+  }
+
+  @Benchmark
+  public String[] convertAll() {
+    pool.submit(() -> converter.convertAll(minutesOfDay, spokenForms)).join();
+    return spokenForms;
+  }
+
+  @Benchmark
+  public int[] parseLoop() {
+    for (int i = 0; i < items; i++) {
+      parsed[i] = converter.parseMinuteOfDay(times[i]);
+    }
+    return parsed;
+  }
+
+  @Benchmark
+  public int[] parseAll() {
+    pool.submit(() -> converter.parseAll(times, parsed)).join();
+    return parsed;
+  }
+}
@@ -0,0 +1,87 @@
+package com.britishspokentime.benchmark;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.domain.Time;
+import com.britishspokentime.service.BritishTimeConverter;
+import com.britishspokentime.service.factory.TimeFormatStrategyFactory;
+import com.britishspokentime.service.util.NumberToWordConverter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the individual components of the conversion pipeline (parsing,
+ * strategy selection and number wording) across all 1440 minutes of the day.
+ * Each invocation walks the whole day, so scores are reported per single input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(TimeConstants.MINUTES_IN_DAY)
+public class ComponentBenchmark {
+
+  private static final int FIRST_NUMBER_MINUTE = TimeConstants.THIRTY;
+
+  private String[] inputs;
+  private Time[] times;
+  private BritishTimeConverter converter;
+  private TimeFormatStrategyFactory strategyFactory;
+  private NumberToWordConverter numberToWordConverter;
+
+  @Setup
+  public void setUp() {
+    inputs = BenchmarkFixtures.canonicalInputs();
+    converter = BenchmarkFixtures.converter(new TimeProperties());
+    strategyFactory = BenchmarkFixtures.strategyFactory();
+    numberToWordConverter = new NumberToWordConverter();
+
+    times = new Time[inputs.length];
+    for (int i = 0; i < inputs.length; i++) {
+      times[i] = converter.parseTime(inputs[i]);
+    }
+  }
+
+  @Benchmark
+  public void parseTime(Blackhole blackhole) {
+    for (String input : inputs) {
+      blackhole.consume(converter.parseTime(input));
+    }
+  }
+
+  @Benchmark
+  public void parseMinuteOfDay(Blackhole blackhole) {
+    for (String input : inputs) {
+      blackhole.consume(converter.parseMinuteOfDay(input));
+    }
+  }
+
+  @Benchmark
+  public void getStrategy(Blackhole blackhole) {
+    for (Time time : times) {
+      blackhole.consume(strategyFactory.getStrategy(time));
+    }
+  }
+
+  @Benchmark
+  public void getMinuteAsNumber(Blackhole blackhole) {
+    for (Time time : times) {
+      // Cycles through the 30-59 range the method accepts
+      int minute = FIRST_NUMBER_MINUTE + time.getMinute() % FIRST_NUMBER_MINUTE;
+      blackhole.consume(numberToWordConverter.getMinuteAsNumber(minute));
+    }
+  }
+}
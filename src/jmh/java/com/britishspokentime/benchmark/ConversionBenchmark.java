@@ -0,0 +1,91 @@
+package com.britishspokentime.benchmark;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.domain.Time;
+import com.britishspokentime.dto.TimeRequest;
+import com.britishspokentime.service.BritishTimeConverter;
+import com.britishspokentime.service.TimeService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the conversion hot path across all 1440 minutes of the day, for
+ * both conversion engines.
+ * Each invocation walks the whole day, so scores are reported per single input.
+ * Run with the default {@code -prof gc} to get allocation rates alongside
+ * throughput and average time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(TimeConstants.MINUTES_IN_DAY)
+public class ConversionBenchmark {
+
+  @Param({"TABLE", "STRATEGY"})
+  private TimeProperties.Engine engine;
+
+  private String[] inputs;
+  private Time[] times;
+  private TimeRequest[] requests;
+  private BritishTimeConverter converter;
+  private TimeService timeService;
+
+  @Setup
+  public void setUp() {
+    TimeProperties properties = BenchmarkFixtures.properties(engine);
+    inputs = BenchmarkFixtures.canonicalInputs();
+    converter = BenchmarkFixtures.converter(properties);
+    timeService = BenchmarkFixtures.timeService(properties);
+
+    times = new Time[inputs.length];
+    requests = new TimeRequest[inputs.length];
+    for (int i = 0; i < inputs.length; i++) {
+      times[i] = converter.parseTime(inputs[i]);
+      requests[i] = new TimeRequest(inputs[i]);
+    }
+  }
+
+  @Benchmark
+  public void convertTime(Blackhole blackhole) {
+    for (Time time : times) {
+      blackhole.consume(converter.convert(time));
+    }
+  }
+
+  @Benchmark
+  public void convertMinuteOfDay(Blackhole blackhole) {
+    for (int minuteOfDay = 0; minuteOfDay < inputs.length; minuteOfDay++) {
+      blackhole.consume(converter.convert(minuteOfDay));
+    }
+  }
+
+  @Benchmark
+  public void parseAndConvert(Blackhole blackhole) {
+    for (String input : inputs) {
+      blackhole.consume(converter.convert(converter.parseMinuteOfDay(input)));
+    }
+  }
+
+  @Benchmark
+  public void serviceConvertTime(Blackhole blackhole) {
+    for (TimeRequest request : requests) {
+      blackhole.consume(timeService.convertTime(request));
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.britishspokentime.benchmark;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.domain.SpokenMatch;
+import com.britishspokentime.service.BritishTimeConverter;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code matchSpoken} on a synthetic corpus of speech-recognition errors:
+ * spoken forms of random minutes with a given number of random letter insertions,
+ * deletions and substitutions, some with hyphens or in upper case, searched with
+ * a given maximum edit distance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(FuzzyMatchingBenchmark.QUERIES)
+public class FuzzyMatchingBenchmark {
+
+  static final int QUERIES = 4096;
+
+  /**
+   * Letter edits applied to each phrase.
+   */
+  @Param({"0", "1", "2"})
+  private int edits;
+
+  @Param({"1", "2", "3"})
+  private int maxDistance;
+
+  private BritishTimeConverter converter;
+  private final String[] queries = new String[QUERIES];
+
+  @Setup
+  public void setUp() {
+    TimeProperties properties = BenchmarkFixtures.properties(TimeProperties.Engine.TABLE);
+    properties.getConverter().setFuzzyMaxDistance(maxDistance);
+    converter = BenchmarkFixtures.converter(properties);
+    Random random = new Random(42);
+    for (int i = 0; i < QUERIES; i++) {
+      String phrase = converter.convert(random.nextInt(TimeConstants.MINUTES_IN_DAY));
+      queries[i] = mutate(phrase, random);
+    }
+  }
+
+  @Benchmark
+  public int matchSpoken() {
+    int found = 0;
+    for (String query : queries) {
+      List<SpokenMatch> matches = converter.matchSpoken(query);
+      found += matches.size();
+    }
+    return found;
+  }
+
+  private String mutate(String phrase, Random random) {
+    StringBuilder text = new StringBuilder(phrase);
+    for (int i = 0; i < edits; i++) {
+      int position = random.nextInt(text.length());
+      char letter = (char) ('a' + random.nextInt(26));
+      switch (random.nextInt(3)) {
+        case 0 -> text.insert(position, letter);
+        case 1 -> text.deleteCharAt(position);
+        default -> text.setCharAt(position, letter);
+      }
+    }
+    String mutated = text.toString();
+    if (random.nextInt(4) == 0) {
+      mutated = mutated.replaceFirst(" ", "-");
+    }
+    return random.nextInt(4) == 0 ? mutated.toUpperCase() : mutated;
+  }
+}
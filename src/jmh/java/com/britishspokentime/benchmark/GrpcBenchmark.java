@@ -0,0 +1,130 @@
+package com.britishspokentime.benchmark;
+
+import com.britishspokentime.BritishSpokenTimeApplication;
+import com.britishspokentime.grpc.GrpcServerLifecycle;
+import com.britishspokentime.grpc.proto.ConvertReply;
+import com.britishspokentime.grpc.proto.ConvertRequest;
+import com.britishspokentime.grpc.proto.SpokenTimeGrpc;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.stub.StreamObserver;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Compares the per-message cost of converting one time over loopback through the
+ * REST endpoint and through gRPC: a unary call, a round trip on an open
+ * {@code ConvertStream}, and a stream with {@value #PIPELINED} requests in flight.
+ * Client and server share the JVM, so the times include both sides.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GrpcBenchmark {
+
+  private static final int PIPELINED = 1000;
+  private static final ConvertRequest REQUEST =
+      ConvertRequest.newBuilder().setTime("07:30").build();
+
+  private ConfigurableApplicationContext context;
+  private HttpClient httpClient;
+  private HttpRequest restRequest;
+  private ManagedChannel channel;
+  private SpokenTimeGrpc.SpokenTimeBlockingStub blockingStub;
+  private StreamObserver<ConvertRequest> stream;
+  private final BlockingQueue<ConvertReply> replies = new LinkedBlockingQueue<>();
+
+  @Setup
+  public void setUp() {
+    context = SpringApplication.run(BritishSpokenTimeApplication.class,
+        "--server.port=0", "--time.grpc.enabled=true", "--time.grpc.port=0");
+    int httpPort = ((WebServerApplicationContext) context).getWebServer().getPort();
+    int grpcPort = context.getBean(GrpcServerLifecycle.class).getPort();
+
+    httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    restRequest = HttpRequest.newBuilder(
+            URI.create("http://localhost:" + httpPort + "/api/v1/time/convert"))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString("{\"time\":\"07:30\"}"))
+        .build();
+
+    channel = Grpc.newChannelBuilderForAddress(
+        "localhost", grpcPort, InsecureChannelCredentials.create()).build();
+    blockingStub = SpokenTimeGrpc.newBlockingStub(channel);
+    stream = SpokenTimeGrpc.newStub(channel).convertStream(new StreamObserver<>() {
+      @Override
+      public void onNext(ConvertReply reply) {
+        replies.add(reply);
+      }
+
+      @Override
+      public void onError(Throwable t) {
+        throw new IllegalStateException(t);
+      }
+
+      @Override
+      public void onCompleted() {
+      }
+    });
+  }
+
+  @TearDown
+  public void tearDown() {
+    stream.onCompleted();
+    channel.shutdownNow();
+    context.close();
+  }
+
+  @Benchmark
+  public byte[] rest() throws Exception {
+    return httpClient.send(restRequest, HttpResponse.BodyHandlers.ofByteArray()).body();
+  }
+
+  @Benchmark
+  public ConvertReply grpcUnary() {
+    return blockingStub.convert(REQUEST);
+  }
+
+  @Benchmark
+  public ConvertReply grpcStreamRoundTrip() throws InterruptedException {
+    stream.onNext(REQUEST);
+    return replies.take();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PIPELINED)
+  public ConvertReply grpcStreamPipelined() throws InterruptedException {
+    for (int i = 0; i < PIPELINED; i++) {
+      stream.onNext(REQUEST);
+    }
+    ConvertReply reply = null;
+    for (int i = 0; i < PIPELINED; i++) {
+      reply = replies.take();
+    }
+    return reply;
+  }
+}
@@ -0,0 +1,88 @@
+package com.britishspokentime.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.domain.ParseOutcome;
+import com.britishspokentime.dto.ErrorResponse;
+import com.britishspokentime.exception.ErrorResponseTemplates;
+import com.britishspokentime.exception.GlobalExceptionHandler;
+import com.britishspokentime.service.TimeConverter;
+import com.britishspokentime.service.TimeService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Compares answering a rejected time by throwing {@link IllegalArgumentException}
+ * from {@link TimeConverter#parseTime(String)} into {@link GlobalExceptionHandler} with the exception-free
+ * {@link TimeService#parse(String)} and {@link ErrorResponseTemplates} path, and
+ * with converting a valid time. The handler's WARN line is switched off, so the
+ * exception path is measured without its logging cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvalidInputBenchmark {
+
+  private static final String PATH = "/api/v1/time/convert";
+  private static final String VALID = "14:45";
+
+  @Param({"ab:cd", "24:00"})
+  private String time;
+
+  private TimeConverter converter;
+  private TimeService timeService;
+  private GlobalExceptionHandler exceptionHandler;
+  private ErrorResponseTemplates templates;
+  private WebRequest webRequest;
+
+  @Setup
+  public void setUp() {
+    TimeProperties properties = BenchmarkFixtures.properties(TimeProperties.Engine.TABLE);
+    converter = BenchmarkFixtures.converter(properties);
+    timeService = BenchmarkFixtures.timeService(properties);
+    templates = new ErrorResponseTemplates();
+    exceptionHandler = new GlobalExceptionHandler(templates);
+    webRequest = new ServletWebRequest(new MockHttpServletRequest("GET", PATH));
+    ((Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class)).setLevel(Level.OFF);
+  }
+
+  @Benchmark
+  public ResponseEntity<ErrorResponse> rejectByException() {
+    try {
+      converter.parseTime(time);
+      throw new IllegalStateException("Expected " + time + " to be rejected");
+    } catch (IllegalArgumentException e) {
+      return exceptionHandler.handleIllegalArgumentException(e, webRequest);
+    }
+  }
+
+  @Benchmark
+  public ResponseEntity<ErrorResponse> rejectByOutcome() {
+    ParseOutcome outcome = timeService.parse(time);
+    return templates.invalidTime(outcome.getError(), PATH);
+  }
+
+  @Benchmark
+  public Object convertValid() {
+    return timeService.convertTime(VALID, timeService.parse(VALID));
+  }
+}
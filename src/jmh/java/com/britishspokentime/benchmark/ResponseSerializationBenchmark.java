@@ -0,0 +1,67 @@
+package com.britishspokentime.benchmark;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.dto.TimeResponse;
+import com.britishspokentime.service.cache.TimeResponseCache;
+import com.britishspokentime.service.table.SpokenTimeTable;
+import com.britishspokentime.service.util.TimeParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares encoding a /convert response with Jackson against serving the
+ * pre-encoded bytes from {@link TimeResponseCache}. Run with {@code -prof gc}
+ * to see the allocation difference as well as the CPU time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+  private String[] inputs;
+  private SpokenTimeTable table;
+  private ObjectMapper objectMapper;
+  private TimeResponseCache cache;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    inputs = BenchmarkFixtures.canonicalInputs();
+    table = new SpokenTimeTable(BenchmarkFixtures.strategyFactory());
+    objectMapper = new ObjectMapper();
+    cache = new TimeResponseCache(table, objectMapper, new TimeProperties());
+  }
+
+  @Benchmark
+  public void jacksonSerialization(Blackhole blackhole) throws Exception {
+    String time = nextInput();
+    TimeResponse response = new TimeResponse(time,
+        table.get(TimeParser.parseMinuteOfDay(time)));
+    blackhole.consume(objectMapper.writeValueAsBytes(response));
+  }
+
+  @Benchmark
+  public void cachedBytes(Blackhole blackhole) {
+    blackhole.consume(cache.get(nextInput()));
+  }
+
+  private String nextInput() {
+    String time = inputs[next];
+    next = next + 1 == inputs.length ? 0 : next + 1;
+    return time;
+  }
+}
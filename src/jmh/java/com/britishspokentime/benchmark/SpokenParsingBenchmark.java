@@ -0,0 +1,88 @@
+package com.britishspokentime.benchmark;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.service.BritishTimeConverter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading spoken forms back with {@code parseSpokenMinuteOfDay} against a
+ * {@code HashMap} from phrase to minute of day, for the exact phrases of every
+ * minute and for upper-case, padded variants that the map can only match after
+ * normalizing them into a new String.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(TimeConstants.MINUTES_IN_DAY)
+public class SpokenParsingBenchmark {
+
+  private BritishTimeConverter converter;
+  private final Map<String, Integer> map = new HashMap<>();
+  private final String[] phrases = new String[TimeConstants.MINUTES_IN_DAY];
+  private final String[] variants = new String[TimeConstants.MINUTES_IN_DAY];
+
+  @Setup
+  public void setUp() {
+    converter = BenchmarkFixtures.converter(
+        BenchmarkFixtures.properties(TimeProperties.Engine.TABLE));
+    for (int minuteOfDay = 0; minuteOfDay < phrases.length; minuteOfDay++) {
+      phrases[minuteOfDay] = converter.convert(minuteOfDay);
+      variants[minuteOfDay] = "  " + phrases[minuteOfDay].toUpperCase(Locale.ROOT) + " ";
+      map.putIfAbsent(phrases[minuteOfDay], minuteOfDay);
+    }
+  }
+
+  @Benchmark
+  public int trie() {
+    int sum = 0;
+    for (String phrase : phrases) {
+      sum += converter.parseSpokenMinuteOfDay(phrase);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int hashMap() {
+    int sum = 0;
+    for (String phrase : phrases) {
+      sum += map.get(phrase);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int trieVariants() {
+    int sum = 0;
+    for (String variant : variants) {
+      sum += converter.parseSpokenMinuteOfDay(variant);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int hashMapVariants() {
+    int sum = 0;
+    for (String variant : variants) {
+      sum += map.get(variant.strip().toLowerCase(Locale.ROOT));
+    }
+    return sum;
+  }
+}
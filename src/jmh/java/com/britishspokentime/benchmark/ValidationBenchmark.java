@@ -0,0 +1,117 @@
+package com.britishspokentime.benchmark;
+
+import com.britishspokentime.dto.TimeRequest;
+import com.britishspokentime.service.util.TimeParser;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares Hibernate Validator checking the former {@code @Pattern} regular
+ * expression with the {@code @ValidTime} single-scan validator, both for a valid
+ * and an invalid time. The {@code ...AndParse} variants include the work the
+ * service does afterwards: the regex request must still be parsed, while the
+ * scanned request already carries its minute of day.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+  private static final String TIME_PATTERN = "^([0-1]?[0-9]|2[0-3]):[0-5][0-9]$";
+  private static final java.util.regex.Pattern COMPILED =
+      java.util.regex.Pattern.compile(TIME_PATTERN);
+
+  @Param({"14:45", "24:00"})
+  private String time;
+
+  private ValidatorFactory factory;
+  private Validator validator;
+
+  /**
+   * The request as it was validated before {@code @ValidTime}.
+   */
+  public static class RegexTimeRequest {
+
+    @NotBlank(message = "Time is required")
+    @Pattern(regexp = TIME_PATTERN, message = "Time must be in HH:mm format (00:00 to 23:59)")
+    private final String time;
+
+    RegexTimeRequest(String time) {
+      this.time = time;
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    factory = Validation.buildDefaultValidatorFactory();
+    validator = factory.getValidator();
+    // Both paths must agree before their costs are compared
+    boolean regexValid = validator.validate(new RegexTimeRequest(time)).isEmpty();
+    boolean scanValid = validator.validate(new TimeRequest(time)).isEmpty();
+    if (regexValid != scanValid) {
+      throw new IllegalStateException("Validators disagree on " + time);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    factory.close();
+  }
+
+  @Benchmark
+  public boolean regexMatch() {
+    return COMPILED.matcher(time).matches();
+  }
+
+  @Benchmark
+  public int scanParse() {
+    return TimeParser.parseMinuteOfDay(time);
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<RegexTimeRequest>> validateRegex() {
+    return validator.validate(new RegexTimeRequest(time));
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<TimeRequest>> validateScan() {
+    return validator.validate(new TimeRequest(time));
+  }
+
+  @Benchmark
+  public void validateRegexAndParse(Blackhole blackhole) {
+    if (validator.validate(new RegexTimeRequest(time)).isEmpty()) {
+      blackhole.consume(TimeParser.parseMinuteOfDay(time));
+    }
+  }
+
+  @Benchmark
+  public void validateScanAndParse(Blackhole blackhole) {
+    TimeRequest request = new TimeRequest(time);
+    if (validator.validate(request).isEmpty()) {
+      blackhole.consume(request.getMinuteOfDay());
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.britishspokentime.benchmark;
+
+import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.service.util.TimeParser;
+import com.britishspokentime.service.util.VectorTimeParser;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the scalar and the Vector API line parsers on 1M newline-separated times:
+ * all canonical {@code HH:mm} lines, or with a share of irregular lines (such as
+ * {@code 7:05}, padded or rejected times) that send the vector parser to its scalar
+ * fallback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class VectorParsingBenchmark {
+
+  private static final String[] IRREGULAR = {"7:05", " 07:30", "07:30\r", "24:00", "ab:cd"};
+
+  @Param("1000000")
+  private int lines;
+
+  /**
+   * Percentage of irregular lines.
+   */
+  @Param({"0", "1", "10"})
+  private int irregularPercent;
+
+  private byte[] text;
+  private int[] out;
+
+  @Setup
+  public void setUp() {
+    if (!VectorTimeParser.isAvailable()) {
+      throw new IllegalStateException("Run with --add-modules jdk.incubator.vector");
+    }
+    String[] inputs = BenchmarkFixtures.canonicalInputs();
+    Random random = new Random(42);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    for (int i = 0; i < lines; i++) {
+      String line = random.nextInt(100) < irregularPercent
+          ? IRREGULAR[random.nextInt(IRREGULAR.length)]
+          : inputs[i % TimeConstants.MINUTES_IN_DAY];
+      bytes.writeBytes((line + '\n').getBytes(StandardCharsets.US_ASCII));
+    }
+    text = bytes.toByteArray();
+    out = new int[lines];
+  }
+
+  @Benchmark
+  public int[] scalar() {
+    TimeParser.parseLines(text, 0, text.length, out);
+    return out;
+  }
+
+  @Benchmark
+  public int[] vector() {
+    VectorTimeParser.parseLines(text, 0, text.length, out);
+    return out;
+  }
+}
@@ -2,11 +2,13 @@ package com.britishspokentime;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 /**
  * Main Spring Boot application class for British Spoken Time API.
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class BritishSpokenTimeApplication {
 
   public static void main(String[] args) {
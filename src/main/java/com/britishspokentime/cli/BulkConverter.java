@@ -0,0 +1,300 @@
+package com.britishspokentime.cli;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.domain.TimeParseError;
+import com.britishspokentime.service.ConversionComponents;
+import com.britishspokentime.service.TimeConverter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Command-line converter for large files of HH:mm values, one per line.
+ *
+ * <p>Runs without Spring from the application jar:
+ * {@code java -Dloader.main=com.britishspokentime.cli.BulkConverter -jar app.jar
+ * <input> <output> [--threads=N] [--chunk-size=BYTES]}.
+ * Writes one line per input line, in input order: the spoken form, or
+ * {@code ERROR <reason>} for a rejected time. Surrounding spaces, tabs and a
+ * trailing {@code \r} are ignored, as on {@code /convert/stream}.
+ *
+ * <p>The input is split into chunks of about {@code --chunk-size} bytes (default
+ * 1 MiB) ending on a line break. Each chunk is memory-mapped and converted on one of
+ * {@code --threads} workers (default: available processors): the mapped bytes are
+ * copied in bulk into the worker's heap byte array, which scans faster than the
+ * mapping, and parsed there with {@link TimeConverter#parseLines} (vectorized when the
+ * JVM adds {@code jdk.incubator.vector}) into minutes of day. Each line is answered
+ * with the UTF-8 phrase of its minute, encoded once at construction from the
+ * {@link com.britishspokentime.service.BritishTimeConverter}, or with its error line.
+ * Finished chunks are written to the output channel in input order, one write per
+ * chunk; at most two chunks per worker are in flight, which bounds memory regardless
+ * of the file size.
+ */
+public final class BulkConverter {
+
+  private static final String THREADS_OPTION = "--threads=";
+  private static final String CHUNK_SIZE_OPTION = "--chunk-size=";
+  private static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+  private static final int IN_FLIGHT_PER_THREAD = 2;
+  private static final int BOUNDARY_SCAN_SIZE = 256;
+  private static final int OUTPUT_LIMIT = Integer.MAX_VALUE - 8;
+  private static final String USAGE = "Usage: BulkConverter <input> <output> "
+      + "[--threads=N] [--chunk-size=BYTES]";
+
+  private final byte[][] phrases = new byte[TimeConstants.MINUTES_IN_DAY][];
+  /** Error lines indexed by {@link TimeParseError#ordinal()}. */
+  private final byte[][] errors = new byte[TimeParseError.values().length][];
+  private final ThreadLocal<byte[]> inputBuffer = ThreadLocal.withInitial(() -> new byte[0]);
+  private final ThreadLocal<int[]> parsedBuffer = ThreadLocal.withInitial(() -> new int[0]);
+  private final TimeConverter converter;
+  private final int threads;
+  private final int chunkSize;
+
+  /**
+   * Creates a converter and encodes the output line of every minute of the day.
+   *
+   * @param converter the converter producing phrases and parsing times
+   * @param threads the number of worker threads
+   * @param chunkSize the approximate number of input bytes per chunk
+   * @throws IllegalArgumentException if threads or chunkSize is not positive
+   */
+  public BulkConverter(TimeConverter converter, int threads, int chunkSize) {
+    if (threads < 1 || chunkSize < 1) {
+      throw new IllegalArgumentException(
+          "Threads and chunk size must be positive: " + threads + ", " + chunkSize);
+    }
+    this.converter = converter;
+    this.threads = threads;
+    this.chunkSize = chunkSize;
+    for (int minuteOfDay = 0; minuteOfDay < phrases.length; minuteOfDay++) {
+      phrases[minuteOfDay] = line(converter.convert(minuteOfDay));
+    }
+    for (TimeParseError error : TimeParseError.values()) {
+      errors[error.ordinal()] = line("ERROR " + error.getMessage());
+    }
+  }
+
+  /**
+   * Converts a file from the command line and reports the throughput on stderr.
+   *
+   * @param args input and output paths and options
+   * @throws IOException if a file cannot be read or written
+   */
+  public static void main(String[] args) throws IOException {
+    int status = run(args, System.err);
+    if (status != 0) {
+      System.exit(status);
+    }
+  }
+
+  /**
+   * Runs the command line.
+   *
+   * @param args input and output paths and options
+   * @param err stream receiving the usage or the result summary
+   * @return the exit status: 0 on success, 2 for invalid arguments
+   * @throws IOException if a file cannot be read or written
+   */
+  static int run(String[] args, PrintStream err) throws IOException {
+    List<String> paths = new ArrayList<>();
+    int threads = Runtime.getRuntime().availableProcessors();
+    int chunkSize = DEFAULT_CHUNK_SIZE;
+    try {
+      for (String arg : args) {
+        if (arg.startsWith(THREADS_OPTION)) {
+          threads = Integer.parseInt(arg.substring(THREADS_OPTION.length()));
+        } else if (arg.startsWith(CHUNK_SIZE_OPTION)) {
+          chunkSize = Integer.parseInt(arg.substring(CHUNK_SIZE_OPTION.length()));
+        } else {
+          paths.add(arg);
+        }
+      }
+      if (paths.size() != 2 || threads < 1 || chunkSize < 1) {
+        throw new IllegalArgumentException();
+      }
+    } catch (IllegalArgumentException e) {
+      err.println(USAGE);
+      return 2;
+    }
+
+    BulkConverter bulkConverter = new BulkConverter(converter(), threads, chunkSize);
+    Result result = bulkConverter.convert(Path.of(paths.get(0)), Path.of(paths.get(1)));
+    err.printf("Converted %,d lines (%,d rejected), %.1f MB in %.2f s: %.1f MB/s "
+            + "with %d worker threads%n",
+        result.lines(), result.rejected(), result.inputBytes() / 1e6,
+        result.nanos() / 1e9, result.megabytesPerSecond(), threads);
+    return 0;
+  }
+
+  /**
+   * Converts every line of the input file into the output file, replacing it.
+   *
+   * @param input the file of times, one per line
+   * @param output the file receiving one result line per input line
+   * @return counts and timing of the run
+   * @throws IOException if a file cannot be read or written
+   */
+  public Result convert(Path input, Path output) throws IOException {
+    long start = System.nanoTime();
+    long lines = 0;
+    long rejected = 0;
+    ExecutorService workers = Executors.newFixedThreadPool(threads);
+    try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+        FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      Deque<Future<Chunk>> inFlight = new ArrayDeque<>();
+      long size = in.size();
+      long position = 0;
+      while (position < size) {
+        long end = chunkEnd(in, position, size);
+        MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, position, end - position);
+        inFlight.add(workers.submit(() -> convertChunk(mapped)));
+        position = end;
+        if (inFlight.size() == threads * IN_FLIGHT_PER_THREAD) {
+          Chunk chunk = write(inFlight.remove(), out);
+          lines += chunk.lines();
+          rejected += chunk.rejected();
+        }
+      }
+      while (!inFlight.isEmpty()) {
+        Chunk chunk = write(inFlight.remove(), out);
+        lines += chunk.lines();
+        rejected += chunk.rejected();
+      }
+      return new Result(lines, rejected, size, out.size(), System.nanoTime() - start);
+    } finally {
+      workers.shutdownNow();
+    }
+  }
+
+  /**
+   * Finds the end of the chunk starting at the given position: just after the first
+   * line break at or beyond the nominal chunk size, or the end of the file.
+   */
+  private long chunkEnd(FileChannel in, long start, long size) throws IOException {
+    long position = start + chunkSize - 1;
+    ByteBuffer scan = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+    while (position < size) {
+      scan.clear();
+      int read = in.read(scan, position);
+      for (int i = 0; i < read; i++) {
+        if (scan.get(i) == '\n') {
+          return position + i + 1;
+        }
+      }
+      position += read;
+    }
+    return size;
+  }
+
+  private static Chunk write(Future<Chunk> pending, FileChannel out) throws IOException {
+    Chunk chunk;
+    try {
+      chunk = pending.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while converting", e);
+    } catch (ExecutionException e) {
+      throw new IOException("Chunk conversion failed", e.getCause());
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(chunk.output(), 0, chunk.length());
+    while (buffer.hasRemaining()) {
+      out.write(buffer);
+    }
+    return chunk;
+  }
+
+  /**
+   * Converts the lines of one chunk into their output lines.
+   */
+  private Chunk convertChunk(ByteBuffer mapped) {
+    int limit = mapped.limit();
+    byte[] input = inputBuffer.get();
+    if (input.length < limit) {
+      input = new byte[limit];
+      inputBuffer.set(input);
+    }
+    mapped.get(0, input, 0, limit);
+    // A line takes at least one byte, so the chunk has at most limit lines
+    int[] minutesOfDay = parsedBuffer.get();
+    if (minutesOfDay.length < limit) {
+      minutesOfDay = new int[limit];
+      parsedBuffer.set(minutesOfDay);
+    }
+    int lines = converter.parseLines(input, 0, limit, minutesOfDay);
+
+    byte[] output = new byte[(int) Math.min(OUTPUT_LIMIT, limit * 4L + 64)];
+    int length = 0;
+    int rejected = 0;
+    for (int i = 0; i < lines; i++) {
+      int minuteOfDay = minutesOfDay[i];
+      byte[] line;
+      if (minuteOfDay >= 0) {
+        line = phrases[minuteOfDay];
+      } else {
+        line = errors[TimeParseError.fromCode(minuteOfDay).ordinal()];
+        rejected++;
+      }
+
+      if (length + line.length > output.length) {
+        output = Arrays.copyOf(output, Math.max(output.length * 2, length + line.length));
+      }
+      System.arraycopy(line, 0, output, length, line.length);
+      length += line.length;
+    }
+    return new Chunk(output, length, lines, rejected);
+  }
+
+  private static byte[] line(String text) {
+    return (text + '\n').getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Wires the converter without Spring.
+   */
+  static TimeConverter converter() {
+    return ConversionComponents.create(new TimeProperties(), new SimpleMeterRegistry())
+        .converter();
+  }
+
+  /**
+   * Counts and timing of a conversion run.
+   *
+   * @param lines the number of input lines
+   * @param rejected how many of them were rejected
+   * @param inputBytes the size of the input file
+   * @param outputBytes the size of the output file
+   * @param nanos the wall-clock time taken
+   */
+  public record Result(long lines, long rejected, long inputBytes, long outputBytes,
+      long nanos) {
+
+    /**
+     * Gets the throughput in input megabytes (10^6 bytes) per second.
+     *
+     * @return the input processed per second
+     */
+    public double megabytesPerSecond() {
+      return inputBytes / 1e6 / (nanos / 1e9);
+    }
+  }
+
+  private record Chunk(byte[] output, int length, int lines, int rejected) {
+  }
+}
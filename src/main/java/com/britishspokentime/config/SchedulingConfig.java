@@ -0,0 +1,12 @@
+package com.britishspokentime.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled tasks, such as the periodic conversion log summary.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,323 @@
+package com.britishspokentime.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.validation.ValidationBindHandler;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+/**
+ * Application properties bound from the {@code time.*} namespace.
+ * Groups the tunables of the conversion pipeline in one place. Values that would
+ * make requests fail, such as a zero flush interval, are rejected at startup.
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = TimeProperties.PREFIX)
+public class TimeProperties {
+
+  /**
+   * Namespace of the settings.
+   */
+  public static final String PREFIX = "time";
+
+  private static final String ARGUMENT_PREFIX = "--" + PREFIX + ".";
+
+  @Valid
+  private Converter converter = new Converter();
+  @Valid
+  private Batch batch = new Batch();
+  @Valid
+  private Stream stream = new Stream();
+  @Valid
+  private ResponseCache responseCache = new ResponseCache();
+  @Valid
+  private HttpCache httpCache = new HttpCache();
+  @Valid
+  private Metrics metrics = new Metrics();
+  @Valid
+  private Logging logging = new Logging();
+  @Valid
+  private Grpc grpc = new Grpc();
+
+  /**
+   * Binds {@code --time.*} command line arguments over the defaults, for entry
+   * points that run without Spring. Names and values are read as in
+   * {@code application.yml} (e.g. {@code --time.http-cache.max-age=1h}) and validated
+   * as at startup; other arguments are ignored.
+   *
+   * @param args the command line arguments
+   * @return the settings
+   * @throws IllegalArgumentException if a {@code --time.*} argument has no value
+   * @throws BindException if a value cannot be converted or is rejected
+   */
+  public static TimeProperties fromArguments(String... args) {
+    Map<String, String> values = new LinkedHashMap<>();
+    for (String arg : args) {
+      if (arg.startsWith(ARGUMENT_PREFIX)) {
+        int equals = arg.indexOf('=');
+        if (equals < 0) {
+          throw new IllegalArgumentException("Expected " + arg + "=<value>");
+        }
+        values.put(arg.substring(2, equals), arg.substring(equals + 1));
+      }
+    }
+    TimeProperties properties = new TimeProperties();
+    if (values.isEmpty()) {
+      return properties;
+    }
+    // Only started when there is something to check; the defaults are valid
+    try (ValidatorFactory validation = Validation.buildDefaultValidatorFactory()) {
+      new Binder(new MapConfigurationPropertySource(values)).bind(PREFIX,
+          Bindable.ofInstance(properties),
+          new ValidationBindHandler(new SpringValidatorAdapter(validation.getValidator())));
+    }
+    return properties;
+  }
+
+  /**
+   * Settings for the time conversion engine.
+   */
+  @Data
+  public static class Converter {
+
+    /**
+     * Engine used to produce the spoken form of a time.
+     */
+    private Engine engine = Engine.TABLE;
+
+    /**
+     * Longest stretch of a bulk conversion array handled sequentially; longer
+     * arrays are split across the fork/join pool.
+     */
+    @Positive
+    private int bulkThreshold = 8192;
+
+    /**
+     * Whether {@code parseLines} uses the Vector API when the JVM was started with
+     * {@code --add-modules jdk.incubator.vector}; without the module it always
+     * parses line by line.
+     */
+    private boolean vectorParsing = true;
+
+    /**
+     * Most character edits, summed over the words, between noisy text and a spoken
+     * form for {@code matchSpoken} to still return it.
+     */
+    @PositiveOrZero
+    private int fuzzyMaxDistance = 2;
+  }
+
+  /**
+   * Settings for batch conversion.
+   */
+  @Data
+  public static class Batch {
+
+    /**
+     * Maximum number of times accepted in a single batch request.
+     */
+    @Positive
+    private int maxSize = 1000;
+  }
+
+  /**
+   * Settings for streaming conversion.
+   */
+  @Data
+  public static class Stream {
+
+    /**
+     * Number of result lines written between flushes of the response.
+     */
+    @Positive
+    private int flushLines = 512;
+
+    /**
+     * Maximum accepted length of an input line, in characters.
+     */
+    @Positive
+    private int maxLineLength = 1024;
+  }
+
+  /**
+   * Settings for the pre-serialized response cache.
+   */
+  @Data
+  public static class ResponseCache {
+
+    /**
+     * Whether /convert responses are served from pre-encoded JSON bytes.
+     */
+    private boolean enabled = true;
+  }
+
+  /**
+   * Settings for HTTP caching of GET conversions.
+   */
+  @Data
+  public static class HttpCache {
+
+    /**
+     * How long clients and shared caches may reuse a GET conversion response.
+     */
+    private Duration maxAge = Duration.ofDays(365);
+
+    /**
+     * Tells whether the max age can be sent in {@code Cache-Control}.
+     *
+     * @return true if the max age is zero or positive
+     */
+    @AssertTrue(message = "max-age must not be negative")
+    public boolean isMaxAgeValid() {
+      return maxAge != null && !maxAge.isNegative();
+    }
+  }
+
+  /**
+   * Settings for conversion metrics.
+   */
+  @Data
+  public static class Metrics {
+
+    /**
+     * One in how many single conversions is timed; must be a power of two.
+     * Counters are exact regardless of sampling.
+     */
+    @Positive
+    private int timerSampleRate = 64;
+  }
+
+  /**
+   * Settings for conversion event logging.
+   */
+  @Data
+  public static class Logging {
+
+    /**
+     * Whether every conversion also writes the synchronous per-request INFO lines.
+     */
+    private boolean perRequest = false;
+
+    /**
+     * One in how many events of each type is logged.
+     */
+    @Valid
+    private Sampling sampling = new Sampling();
+
+    /**
+     * Interval between aggregate conversion summaries.
+     */
+    private Duration summaryInterval = Duration.ofMinutes(1);
+
+    /**
+     * Tells whether the summary interval can be scheduled.
+     *
+     * @return true if the summary interval is positive
+     */
+    @AssertTrue(message = "summary-interval must be positive")
+    public boolean isSummaryIntervalValid() {
+      return summaryInterval != null && summaryInterval.isPositive();
+    }
+
+    /**
+     * Asynchronous appender settings, read by {@code logback-spring.xml}.
+     */
+    @Valid
+    private Async async = new Async();
+
+    /**
+     * Per-event-type sampling rates; 1 logs every event, 0 disables the event type.
+     */
+    @Data
+    public static class Sampling {
+
+      /**
+       * Successful single conversions.
+       */
+      @PositiveOrZero
+      private int conversion = 1000;
+
+      /**
+       * Rejected time inputs.
+       */
+      @PositiveOrZero
+      private int parseFailure = 10;
+
+      /**
+       * Completed batch conversions.
+       */
+      @PositiveOrZero
+      private int batch = 1;
+    }
+
+    /**
+     * Settings for the bounded asynchronous log queue.
+     */
+    @Data
+    public static class Async {
+
+      /**
+       * Capacity of the queue between application threads and the console.
+       */
+      @Positive
+      private int queueSize = 8192;
+
+      /**
+       * Remaining capacity below which TRACE, DEBUG and INFO events are dropped.
+       */
+      @PositiveOrZero
+      private int discardingThreshold = 1638;
+    }
+  }
+
+  /**
+   * Settings for the gRPC server run alongside the Spring application.
+   */
+  @Data
+  public static class Grpc {
+
+    /**
+     * Whether the gRPC server is started with the application.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Port the gRPC server listens on; 0 picks a free port.
+     */
+    @Min(0)
+    @Max(65535)
+    private int port = 9090;
+  }
+
+  /**
+   * Available conversion engines.
+   */
+  public enum Engine {
+
+    /**
+     * Serves phrases from a table rendered once at startup.
+     */
+    TABLE,
+
+    /**
+     * Selects and runs a formatting strategy on every call.
+     */
+    STRATEGY
+  }
+}
@@ -12,6 +12,7 @@ public final class TimeConstants {
 
   // Time component separators
   public static final String TIME_SEPARATOR = ":";
+  public static final char TIME_SEPARATOR_CHAR = ':';
   public static final int TIME_PARTS_COUNT = 2;
 
   // Special minute values
@@ -19,6 +20,7 @@ public final class TimeConstants {
   public static final int HALF_HOUR_MINUTES = 30;
   public static final int THREE_QUARTER_MINUTES = 45;
   public static final int MINUTES_IN_HOUR = 60;
+  public static final int MINUTES_IN_DAY = 1440;
 
   // Hour boundaries
   public static final int MIN_HOUR = 0;
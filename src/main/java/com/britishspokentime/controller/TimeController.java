@@ -1,46 +1,102 @@
 package com.britishspokentime.controller;
 
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.domain.ParseOutcome;
+import com.britishspokentime.dto.BatchTimeRequest;
+import com.britishspokentime.dto.BatchTimeResponse;
+import com.britishspokentime.dto.ErrorResponse;
 import com.britishspokentime.dto.TimeRequest;
 import com.britishspokentime.dto.TimeResponse;
+import com.britishspokentime.exception.ErrorResponseTemplates;
 import com.britishspokentime.service.TimeService;
+import com.britishspokentime.service.TimeStreamService;
+import com.britishspokentime.service.binary.BinaryConversionService;
+import com.britishspokentime.service.binary.BinaryFormat;
+import com.britishspokentime.service.binary.BinaryMediaTypes;
+import com.britishspokentime.service.cache.CachedResponse;
+import com.britishspokentime.service.cache.TimeResponseCache;
+import com.britishspokentime.service.logging.ConversionEventLogger;
+import com.britishspokentime.service.metrics.ConversionMetrics;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 /**
  * REST Controller for British Spoken Time conversion.
  * Provides endpoints to convert digital time to British spoken form.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/time")
 @RequiredArgsConstructor
 @Tag(name = "Time Conversion",
     description = "Endpoints for converting time to British spoken form")
 public class TimeController {
 
+  // OpenAPI has one operation per path and method, so the JSON operations also
+  // describe their binary variants
+  private static final String BINARY_DESCRIPTION = "Also accepts "
+      + BinaryMediaTypes.MINUTES_VALUE + " (16-bit minutes of day) and then answers with "
+      + BinaryMediaTypes.PHRASES_VALUE + " or " + BinaryMediaTypes.PHRASE_IDS_VALUE
+      + " as requested by Accept; see GET /phrases.";
+
   private final TimeService timeService;
+  private final TimeStreamService timeStreamService;
+  private final BinaryConversionService binaryConversionService;
+  private final TimeResponseCache responseCache;
+  private final TimeProperties properties;
+  private final ConversionMetrics metrics;
+  private final ConversionEventLogger eventLogger;
+  private final ErrorResponseTemplates errorResponses;
 
   /**
    * Converts a time string to British spoken form.
+   * Inputs with a pre-encoded response are answered with the cached bytes,
+   * skipping conversion and JSON serialization; they are still timed, counted and
+   * logged.
+   * Bean validation parses the time once and hands the minute of day to the service.
+   * Violations are collected in the binding result rather than thrown, and
+   * answered with the body
+   * {@link com.britishspokentime.exception.GlobalExceptionHandler} would build for them.
    *
    * @param request the time request containing time in HH:mm format
+   * @param validation the result of validating the request
+   * @param servletRequest the servlet request, for the path of error responses
    * @return the time response with British spoken form
    */
   @PostMapping("/convert")
   @Operation(
       summary = "Convert time to British spoken form",
-      description = "Accepts time in HH:mm format (24-hour) and returns the British spoken form"
+      description = "Accepts time in HH:mm format (24-hour) and returns the British spoken form. "
+          + BINARY_DESCRIPTION
   )
   @ApiResponses(value = {
       @ApiResponse(
@@ -53,8 +109,203 @@ public class TimeController {
           description = "Invalid time format or validation error"
       )
   })
-  public ResponseEntity<TimeResponse> convertTime(@Valid @RequestBody TimeRequest request) {
-    return ResponseEntity.ok(timeService.convertTime(request));
+  public ResponseEntity<?> convertTime(@Valid @RequestBody TimeRequest request,
+      BindingResult validation, HttpServletRequest servletRequest) {
+    long start = metrics.startSingle();
+    try {
+      String time = request.getTime();
+      if (validation.hasErrors()) {
+        // Parsed again only to count the reject by reason
+        timeService.parse(time);
+        String messages = ErrorResponseTemplates.joinMessages(
+            validation.getFieldErrors().stream().map(FieldError::getDefaultMessage));
+        return errorResponses.validationError(messages, servletRequest.getRequestURI());
+      }
+
+      CachedResponse cached = responseCache.get(time);
+      if (cached != null) {
+        metrics.recordConversion(cached.minuteOfDay());
+        eventLogger.conversion(time, cached.minuteOfDay());
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(cached.body());
+      }
+      return ResponseEntity.ok(timeService.convertTime(request));
+    } finally {
+      metrics.recordSingle(start);
+    }
+  }
+
+  /**
+   * Converts a time given as hour and minute path segments to British spoken form.
+   * The response is immutable and carries a strong ETag, so HTTP caches can serve
+   * repeat requests and conditional requests are answered with 304.
+   *
+   * @param hour the hour (0-23, optionally zero-padded)
+   * @param minute the minute (00-59)
+   * @param webRequest the request, for conditional headers and the path of error responses
+   * @return the time response with British spoken form, or null when answered with 304
+   */
+  @GetMapping("/{hour:\\d{1,2}}/{minute:\\d{1,2}}")
+  @Operation(
+      summary = "Convert time to British spoken form (cacheable)",
+      description = "Cacheable variant of the conversion. Responses carry a strong ETag and "
+          + "Cache-Control: public, immutable; If-None-Match is answered with 304."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Successfully converted time",
+          content = @Content(schema = @Schema(implementation = TimeResponse.class))
+      ),
+      @ApiResponse(responseCode = "304", description = "Cached representation is current"),
+      @ApiResponse(responseCode = "400", description = "Invalid time")
+  })
+  public ResponseEntity<?> convertTimeByPath(
+      @Parameter(example = "07") @PathVariable String hour,
+      @Parameter(example = "30") @PathVariable String minute,
+      ServletWebRequest webRequest) {
+    long start = metrics.startSingle();
+    try {
+      return cacheable(hour + ":" + minute, webRequest);
+    } finally {
+      metrics.recordSingle(start);
+    }
+  }
+
+  /**
+   * Converts a time given as a query parameter to British spoken form.
+   * Cacheable like {@link #convertTimeByPath(String, String, ServletWebRequest)}.
+   *
+   * @param time the time in HH:mm format
+   * @param webRequest the request, for conditional headers and the path of error responses
+   * @return the time response with British spoken form, or null when answered with 304
+   */
+  @GetMapping("/convert")
+  @Operation(
+      summary = "Convert time to British spoken form (cacheable)",
+      description = "Cacheable variant of the conversion taking ?time=HH:mm. Responses carry a "
+          + "strong ETag and Cache-Control: public, immutable; If-None-Match is answered with 304."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Successfully converted time",
+          content = @Content(schema = @Schema(implementation = TimeResponse.class))
+      ),
+      @ApiResponse(responseCode = "304", description = "Cached representation is current"),
+      @ApiResponse(responseCode = "400", description = "Invalid time")
+  })
+  public ResponseEntity<?> convertTimeByQuery(
+      @Parameter(example = "07:30") @RequestParam String time,
+      ServletWebRequest webRequest) {
+    long start = metrics.startSingle();
+    try {
+      return cacheable(time, webRequest);
+    } finally {
+      metrics.recordSingle(start);
+    }
+  }
+
+  /**
+   * Converts a batch of time strings to British spoken form.
+   *
+   * @param request the batch request containing times in HH:mm format
+   * @return one result per requested time, in request order
+   */
+  @PostMapping("/convert/batch")
+  @Operation(
+      summary = "Convert a batch of times to British spoken form",
+      description = "Accepts a list of times in HH:mm format (24-hour) and returns one result "
+          + "per time in the same order. Invalid times are reported per item. "
+          + BINARY_DESCRIPTION
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Batch processed; individual items may carry errors",
+          content = @Content(schema = @Schema(implementation = BatchTimeResponse.class))
+      ),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Missing times or batch larger than the configured maximum"
+      )
+  })
+  public ResponseEntity<BatchTimeResponse> convertBatch(
+      @Valid @RequestBody BatchTimeRequest request) {
+    return ResponseEntity.ok(timeService.convertBatch(request));
+  }
+
+  /**
+   * Converts a newline-delimited stream of times to British spoken form.
+   * The response is written incrementally as NDJSON, one result per input line.
+   *
+   * @param body the request body, read line by line
+   * @param response the servlet response the results are streamed to
+   * @throws IOException if reading the request or writing the response fails
+   */
+  @PostMapping(value = "/convert/stream",
+      consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_PLAIN_VALUE},
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(
+      summary = "Convert a stream of times to British spoken form",
+      description = "Accepts newline-delimited JSON objects ({\"time\":\"07:30\"}), JSON strings "
+          + "or plain HH:mm lines and streams back one NDJSON result per line. "
+          + "Malformed lines are reported inline."
+  )
+  @ApiResponse(responseCode = "200", description = "Stream of conversion results")
+  public void convertStream(InputStream body, HttpServletResponse response) throws IOException {
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    timeStreamService.convertStream(body, response.getOutputStream());
+  }
+
+  /**
+   * Converts one time in the binary protocol: a 2-byte minute of day, answered with
+   * a length-prefixed phrase or a phrase ID depending on the Accept header.
+   *
+   * @param body the request body
+   * @param accept the Accept header, choosing the response format
+   * @param servletRequest the servlet request, for the path of error responses
+   * @return the binary response
+   */
+  @PostMapping(value = "/convert", consumes = BinaryMediaTypes.MINUTES_VALUE)
+  @Operation(hidden = true)
+  public ResponseEntity<?> convertTimeBinary(@RequestBody(required = false) byte[] body,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      HttpServletRequest servletRequest) {
+    return binary(body, 1, accept, servletRequest, binaryConversionService::convert);
+  }
+
+  /**
+   * Converts a batch of times in the binary protocol.
+   *
+   * @param body the request body of 2-byte minute-of-day values
+   * @param accept the Accept header, choosing the response format
+   * @param servletRequest the servlet request, for the path of error responses
+   * @return one phrase or phrase ID per value, in request order
+   */
+  @PostMapping(value = "/convert/batch", consumes = BinaryMediaTypes.MINUTES_VALUE)
+  @Operation(hidden = true)
+  public ResponseEntity<?> convertBatchBinary(@RequestBody(required = false) byte[] body,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      HttpServletRequest servletRequest) {
+    return binary(body, binaryConversionService.maxBatchSize(), accept, servletRequest,
+        binaryConversionService::convertBatch);
+  }
+
+  /**
+   * Returns the dictionary that binary phrase IDs index into.
+   *
+   * @return every distinct phrase in ID order, each as an 8-bit length and UTF-8 bytes
+   */
+  @GetMapping(value = "/phrases", produces = BinaryMediaTypes.PHRASES_VALUE)
+  @Operation(
+      summary = "Phrase dictionary of the binary protocol",
+      description = "Every distinct phrase once, in phrase ID order, as length-prefixed UTF-8."
+  )
+  @ApiResponse(responseCode = "200", description = "Phrase dictionary")
+  public ResponseEntity<byte[]> phrases() {
+    return ResponseEntity.ok()
+        .contentType(BinaryMediaTypes.PHRASES)
+        .body(binaryConversionService.dictionary());
   }
 
   /**
@@ -67,4 +318,83 @@ public class TimeController {
   public ResponseEntity<String> health() {
     return ResponseEntity.ok("British Spoken Time API is running");
   }
+
+  /**
+   * Converts a binary request, or answers a malformed one with a JSON error body.
+   * The mappings declare no {@code produces}, so that the format is negotiated here,
+   * as in the reactive handler, and an unparseable Accept header gets a 406 rather
+   * than falling through to the JSON mapping.
+   */
+  private ResponseEntity<?> binary(byte[] body, int maxItems, String accept,
+      HttpServletRequest servletRequest, BinaryConverter converter) {
+    byte[] request = body == null ? new byte[0] : body;
+    String problem = binaryConversionService.checkRequest(request, maxItems);
+    if (problem != null) {
+      return json(errorResponses.badRequest(problem, servletRequest.getRequestURI()));
+    }
+    BinaryFormat format;
+    try {
+      format = BinaryFormat.negotiate(accept == null ? List.of() : List.of(accept));
+    } catch (InvalidMediaTypeException ex) {
+      return json(errorResponses.notAcceptable(ex.getMessage(),
+          servletRequest.getRequestURI()));
+    }
+    return ResponseEntity.ok()
+        .contentType(format.getMediaType())
+        .body(converter.convert(request, format));
+  }
+
+  /**
+   * Builds a cacheable response. The entity tag is known once the time is parsed,
+   * so a matching If-None-Match is answered with 304 before the conversion is run,
+   * counted or logged. Rejected times are answered from {@link ErrorResponseTemplates}
+   * without throwing.
+   */
+  private ResponseEntity<?> cacheable(String time, ServletWebRequest webRequest) {
+    CachedResponse cached = responseCache.get(time);
+    ParseOutcome outcome = null;
+    if (cached == null) {
+      outcome = timeService.parse(time);
+      if (!outcome.isValid()) {
+        return errorResponses.invalidTime(outcome.getError(),
+            webRequest.getRequest().getRequestURI());
+      }
+    }
+    int minuteOfDay = cached != null ? cached.minuteOfDay() : outcome.getMinuteOfDay();
+
+    // Sets the ETag header on the response itself, for 200 as well as 304
+    String cacheControl = CacheControl.maxAge(properties.getHttpCache().getMaxAge())
+        .cachePublic()
+        .immutable()
+        .getHeaderValue();
+    if (webRequest.checkNotModified(responseCache.etag(time, minuteOfDay))) {
+      webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+      return null;
+    }
+
+    ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(HttpHeaders.CACHE_CONTROL, cacheControl);
+    if (cached == null) {
+      return ok.body(timeService.convertTime(time, outcome));
+    }
+    metrics.recordConversion(minuteOfDay);
+    eventLogger.conversion(time, minuteOfDay);
+    return ok.body(cached.body());
+  }
+
+  /**
+   * Sets the JSON content type on an error response of a binary endpoint, whose
+   * client may not accept JSON.
+   */
+  private static ResponseEntity<ErrorResponse> json(ResponseEntity<ErrorResponse> error) {
+    return ResponseEntity.status(error.getStatusCode())
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(error.getBody());
+  }
+
+  @FunctionalInterface
+  private interface BinaryConverter {
+    byte[] convert(byte[] request, BinaryFormat format);
+  }
 }
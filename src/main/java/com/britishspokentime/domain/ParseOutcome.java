@@ -0,0 +1,107 @@
+package com.britishspokentime.domain;
+
+import com.britishspokentime.constants.TimeConstants;
+
+/**
+ * Result of parsing a time string: either a valid {@link Time} or the
+ * {@link TimeParseError} it was rejected for.
+ *
+ * <p>Lets callers handle bad input without exceptions. Like {@link Time}, outcomes
+ * are interned: there is one per minute of the day and one per error, so
+ * returning an outcome never allocates.
+ */
+public final class ParseOutcome {
+
+  private static final ParseOutcome[] VALID = new ParseOutcome[TimeConstants.MINUTES_IN_DAY];
+  private static final ParseOutcome[] REJECTED = new ParseOutcome[TimeParseError.values().length];
+
+  static {
+    for (int minuteOfDay = 0; minuteOfDay < VALID.length; minuteOfDay++) {
+      VALID[minuteOfDay] = new ParseOutcome(Time.ofMinuteOfDay(minuteOfDay), null);
+    }
+    for (TimeParseError error : TimeParseError.values()) {
+      REJECTED[error.ordinal()] = new ParseOutcome(null, error);
+    }
+  }
+
+  private final Time time;
+  private final TimeParseError error;
+
+  private ParseOutcome(Time time, TimeParseError error) {
+    this.time = time;
+    this.error = error;
+  }
+
+  /**
+   * Returns the outcome for the result of a primitive parser.
+   *
+   * @param result a minute of day (0-1439) or a negative {@link TimeParseError} code
+   * @return the interned outcome
+   * @throws IllegalArgumentException if result is neither a minute of day nor an error code
+   */
+  public static ParseOutcome of(int result) {
+    if (result >= 0) {
+      if (result >= VALID.length) {
+        throw new IllegalArgumentException("Invalid minute of day: " + result);
+      }
+      return VALID[result];
+    }
+    return rejected(TimeParseError.fromCode(result));
+  }
+
+  /**
+   * Returns the outcome for a rejected input.
+   *
+   * @param error the reason the input was rejected
+   * @return the interned outcome
+   */
+  public static ParseOutcome rejected(TimeParseError error) {
+    return REJECTED[error.ordinal()];
+  }
+
+  /**
+   * Checks whether the input was parsed.
+   *
+   * @return true if a time is available
+   */
+  public boolean isValid() {
+    return time != null;
+  }
+
+  /**
+   * Gets the parsed time.
+   *
+   * @return the time
+   * @throws IllegalStateException if the input was rejected
+   */
+  public Time getTime() {
+    if (time == null) {
+      throw new IllegalStateException("Rejected input has no time: " + error);
+    }
+    return time;
+  }
+
+  /**
+   * Gets the minute of day of the parsed time.
+   *
+   * @return minutes since midnight (0-1439)
+   * @throws IllegalStateException if the input was rejected
+   */
+  public int getMinuteOfDay() {
+    return getTime().getMinuteOfDay();
+  }
+
+  /**
+   * Gets the reason the input was rejected.
+   *
+   * @return the error, or null if the input was parsed
+   */
+  public TimeParseError getError() {
+    return error;
+  }
+
+  @Override
+  public String toString() {
+    return time != null ? "ParseOutcome(" + time + ")" : "ParseOutcome(" + error + ")";
+  }
+}
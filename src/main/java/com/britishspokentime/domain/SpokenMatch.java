@@ -0,0 +1,15 @@
+package com.britishspokentime.domain;
+
+/**
+ * A spoken form found near a noisy spoken time, with how close it is.
+ *
+ * @param time the time the spoken form names, the morning reading for twelve-hour
+ *     phrases
+ * @param spokenForm the spoken form that matched
+ * @param distance the number of character edits, summed over the words, that turn
+ *     the input into the spoken form
+ * @param confidence one minus the edits per character of the spoken form, from 1.0
+ *     for an exact match down towards 0.0
+ */
+public record SpokenMatch(Time time, String spokenForm, int distance, double confidence) {
+}
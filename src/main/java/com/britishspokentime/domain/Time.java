@@ -1,32 +1,123 @@
 package com.britishspokentime.domain;
 
 import com.britishspokentime.constants.TimeConstants;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
 /**
  * Domain model representing a time with hour and minute components.
  * This class encapsulates the time data and provides business logic methods.
+ *
+ * <p>Instances are immutable and derive their 12-hour values once, on construction.
+ * Valid times should be obtained from {@link #of(int, int)} or
+ * {@link #ofMinuteOfDay(int)}, which return one of 1440 shared instances, so the
+ * same time is always the same object and parsing allocates nothing. The public
+ * constructor remains for arbitrary, possibly invalid, hour and minute values.
  */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-public class Time {
+@Getter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(onlyExplicitlyIncluded = true)
+public final class Time {
 
-  private int hour;
-  private int minute;
+  private static final Time[] INSTANCES = new Time[TimeConstants.MINUTES_IN_DAY];
+
+  static {
+    for (int minuteOfDay = 0; minuteOfDay < INSTANCES.length; minuteOfDay++) {
+      INSTANCES[minuteOfDay] = new Time(minuteOfDay / TimeConstants.MINUTES_IN_HOUR,
+          minuteOfDay % TimeConstants.MINUTES_IN_HOUR);
+    }
+  }
+
+  @EqualsAndHashCode.Include
+  @ToString.Include
+  private final int hour;
+
+  @EqualsAndHashCode.Include
+  @ToString.Include
+  private final int minute;
 
   /**
-   * Validates if the time components are within valid ranges.
+   * Position of this time within the day: minutes elapsed since midnight
+   * (0-1439 for valid times).
+   */
+  private final int minuteOfDay;
+
+  /**
+   * Hour in 12-hour format (1-12 for valid times).
+   */
+  private final int twelveHourFormat;
+
+  /**
+   * Next hour in 12-hour format, for "to" time expressions.
+   */
+  private final int nextHour;
+
+  /**
+   * Creates a time from arbitrary hour and minute values, which may be out of range.
+   * Prefer {@link #of(int, int)} for valid times.
+   *
+   * @param hour the hour
+   * @param minute the minute
+   */
+  public Time(int hour, int minute) {
+    this.hour = hour;
+    this.minute = minute;
+    this.minuteOfDay = hour * TimeConstants.MINUTES_IN_HOUR + minute;
+    this.twelveHourFormat = toTwelveHour(hour);
+    this.nextHour = toTwelveHour((hour + 1) % (TimeConstants.MAX_HOUR + 1));
+  }
+
+  /**
+   * Returns the shared instance for a valid time.
+   *
+   * @param hour the hour (0-23)
+   * @param minute the minute (0-59)
+   * @return the interned time
+   * @throws IllegalArgumentException if hour or minute is out of range
+   */
+  public static Time of(int hour, int minute) {
+    if (!isValid(hour, minute)) {
+      throw new IllegalArgumentException("Invalid time: " + hour + ":" + minute);
+    }
+    return INSTANCES[hour * TimeConstants.MINUTES_IN_HOUR + minute];
+  }
+
+  /**
+   * Returns the shared instance for a minute of the day.
    *
+   * @param minuteOfDay minutes since midnight (0-1439)
+   * @return the interned time
+   * @throws IllegalArgumentException if minuteOfDay is outside the day
+   */
+  public static Time ofMinuteOfDay(int minuteOfDay) {
+    if (minuteOfDay < 0 || minuteOfDay >= INSTANCES.length) {
+      throw new IllegalArgumentException("Invalid minute of day: " + minuteOfDay);
+    }
+    return INSTANCES[minuteOfDay];
+  }
+
+  /**
+   * Validates hour and minute values.
+   *
+   * @param hour the hour
+   * @param minute the minute
    * @return true if hour is 0-23 and minute is 0-59
    */
-  public boolean isValid() {
+  public static boolean isValid(int hour, int minute) {
     return hour >= TimeConstants.MIN_HOUR && hour <= TimeConstants.MAX_HOUR
         && minute >= TimeConstants.MIN_MINUTE && minute <= TimeConstants.MAX_MINUTE;
   }
 
+  /**
+   * Validates if the time components are within valid ranges.
+   *
+   * @return true if hour is 0-23 and minute is 0-59
+   */
+  public boolean isValid() {
+    return isValid(hour, minute);
+  }
+
   /**
    * Checks if the time represents midnight (00:00).
    *
@@ -54,30 +145,11 @@ public class Time {
     return minute == TimeConstants.MIN_MINUTE;
   }
 
-  /**
-   * Gets the hour in a 12-hour format.
-   *
-   * @return hour in 12-hour format (1-12)
-   */
-  public int getTwelveHourFormat() {
+  private static int toTwelveHour(int hour) {
     if (hour == TimeConstants.MIDNIGHT_HOUR) {
       return TimeConstants.MAX_TWELVE_HOUR;
     }
     return hour > TimeConstants.HOURS_IN_HALF_DAY
         ? hour - TimeConstants.HOURS_IN_HALF_DAY : hour;
   }
-
-  /**
-   * Gets the next hour for "to" time expressions.
-   *
-   * @return next hour in 12-hour format
-   */
-  public int getNextHour() {
-    int nextHour = (hour + 1) % (TimeConstants.MAX_HOUR + 1);
-    if (nextHour == TimeConstants.MIDNIGHT_HOUR) {
-      return TimeConstants.MAX_TWELVE_HOUR;
-    }
-    return nextHour > TimeConstants.HOURS_IN_HALF_DAY
-        ? nextHour - TimeConstants.HOURS_IN_HALF_DAY : nextHour;
-  }
 }
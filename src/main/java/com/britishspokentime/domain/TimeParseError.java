@@ -0,0 +1,74 @@
+package com.britishspokentime.domain;
+
+import com.britishspokentime.constants.TimeConstants;
+
+/**
+ * Reasons a time string or spoken time can be rejected by the parsers.
+ * Each reason has a negative code so primitive parsers can return it in place
+ * of a minute of day without allocating. Codes run -1, -2, -3... without gaps,
+ * whatever the declaration order; the class fails to initialize otherwise.
+ */
+public enum TimeParseError {
+
+  EMPTY(-1, "Time string cannot be null or empty"),
+  MALFORMED(-2, "Time must be in HH:mm format"),
+  OUT_OF_RANGE(-3, String.format("Hour must be %d-%d and minute must be %d-%d",
+      TimeConstants.MIN_HOUR, TimeConstants.MAX_HOUR,
+      TimeConstants.MIN_MINUTE, TimeConstants.MAX_MINUTE)),
+  UNKNOWN_PHRASE(-4, "Spoken time must be a phrase such as \"quarter past nine\"");
+
+  /** Reasons indexed by {@code -code - 1}. */
+  private static final TimeParseError[] BY_CODE = new TimeParseError[values().length];
+
+  static {
+    for (TimeParseError error : values()) {
+      int index = -error.code - 1;
+      if (index < 0 || index >= BY_CODE.length || BY_CODE[index] != null) {
+        throw new IllegalStateException("Parse error codes must run from -1 to -"
+            + BY_CODE.length + " without gaps: " + error + " has " + error.code);
+      }
+      BY_CODE[index] = error;
+    }
+  }
+
+  private final int code;
+  private final String message;
+
+  TimeParseError(int code, String message) {
+    this.code = code;
+    this.message = message;
+  }
+
+  /**
+   * Gets the negative code returned by primitive parsers for this reason.
+   *
+   * @return the error code
+   */
+  public int getCode() {
+    return code;
+  }
+
+  /**
+   * Gets the human-readable description of this reason.
+   *
+   * @return the error message
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * Resolves the reason for a negative parser result.
+   *
+   * @param code the value returned by a primitive parser
+   * @return the matching reason
+   * @throws IllegalArgumentException if code is not an error code
+   */
+  public static TimeParseError fromCode(int code) {
+    int index = -code - 1;
+    if (index >= 0 && index < BY_CODE.length) {
+      return BY_CODE[index];
+    }
+    throw new IllegalArgumentException("Not a parse error code: " + code);
+  }
+}
@@ -0,0 +1,27 @@
+package com.britishspokentime.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for batch time conversion requests.
+ * Accepts a list of times in HH:mm format (24-hour).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request object containing times in HH:mm format")
+public class BatchTimeRequest {
+
+  @NotNull(message = "Times are required")
+  @ArraySchema(
+      arraySchema = @Schema(description = "Times in 24-hour format (HH:mm)"),
+      schema = @Schema(example = "07:30")
+  )
+  private List<String> times;
+}
@@ -0,0 +1,21 @@
+package com.britishspokentime.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for batch time conversion responses.
+ * Results are returned in the same order as the requested times.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Response object containing one result per requested time, in order")
+public class BatchTimeResponse {
+
+  @Schema(description = "Conversion results in request order")
+  private List<TimeConversionResult> results;
+}
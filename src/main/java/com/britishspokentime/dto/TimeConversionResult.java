@@ -0,0 +1,51 @@
+package com.britishspokentime.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the outcome of converting a single item of a batch.
+ * Carries either the spoken form or the reason the item was rejected.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Conversion outcome for a single time")
+public class TimeConversionResult {
+
+  @Schema(description = "Original time input", example = "07:30")
+  private String time;
+
+  @Schema(description = "British spoken form of the time, absent on error",
+      example = "half past seven")
+  private String spokenForm;
+
+  @Schema(description = "Reason the time could not be converted, absent on success")
+  private String error;
+
+  /**
+   * Creates a successful result.
+   *
+   * @param time the original time input
+   * @param spokenForm the British spoken form
+   * @return the result
+   */
+  public static TimeConversionResult success(String time, String spokenForm) {
+    return new TimeConversionResult(time, spokenForm, null);
+  }
+
+  /**
+   * Creates a failed result.
+   *
+   * @param time the original time input
+   * @param error the reason the time was rejected
+   * @return the result
+   */
+  public static TimeConversionResult failure(String time, String error) {
+    return new TimeConversionResult(time, null, error);
+  }
+}
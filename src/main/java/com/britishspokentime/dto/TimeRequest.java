@@ -1,9 +1,9 @@
 package com.britishspokentime.dto;
 
+import com.britishspokentime.validation.ValidTime;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -13,15 +13,47 @@ import lombok.NoArgsConstructor;
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
+@ValidTime
 @Schema(description = "Request object containing time in HH:mm format")
 public class TimeRequest {
 
-  @NotBlank(message = "Time is required")
-  @Pattern(
-      regexp = "^([0-1]?[0-9]|2[0-3]):[0-5][0-9]$",
-      message = "Time must be in HH:mm format (00:00 to 23:59)"
-  )
-  @Schema(description = "Time in 24-hour format (HH:mm)", example = "12:00")
+  /**
+   * Value of {@link #getMinuteOfDay()} before the request has been validated.
+   */
+  public static final int NOT_PARSED = -1;
+
+  /**
+   * Message reported when the time is missing or blank.
+   */
+  public static final String TIME_REQUIRED_MESSAGE = "Time is required";
+
+  @NotBlank(message = TIME_REQUIRED_MESSAGE)
+  @Schema(description = "Time in 24-hour format (HH:mm)", example = "12:00",
+      pattern = "^([0-1]?[0-9]|2[0-3]):[0-5][0-9]$")
   private String time;
+
+  /**
+   * Minute of day parsed during validation, or {@link #NOT_PARSED}.
+   */
+  @JsonIgnore
+  private int minuteOfDay = NOT_PARSED;
+
+  /**
+   * Creates a request for the given time.
+   *
+   * @param time the time in HH:mm format
+   */
+  public TimeRequest(String time) {
+    this.time = time;
+  }
+
+  /**
+   * Sets the time and discards any minute of day parsed from a previous value.
+   *
+   * @param time the time in HH:mm format
+   */
+  public void setTime(String time) {
+    this.time = time;
+    this.minuteOfDay = NOT_PARSED;
+  }
 }
@@ -0,0 +1,284 @@
+package com.britishspokentime.edge;
+
+import com.britishspokentime.domain.ParseOutcome;
+import com.britishspokentime.dto.ErrorResponse;
+import com.britishspokentime.dto.TimeResponse;
+import com.britishspokentime.exception.ErrorResponseTemplates;
+import com.britishspokentime.service.TimeConverter;
+import com.britishspokentime.service.cache.CachedResponse;
+import com.britishspokentime.service.cache.TimeResponseCache;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Set;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Serves the single-time endpoints of the API on the JDK HTTP server.
+ *
+ * <p>Mirrors {@link com.britishspokentime.controller.TimeController} without Spring
+ * MVC: the same response cache and error templates, and {@link JsonEncoder} in place
+ * of Jackson, so status codes, headers that matter to clients and bodies are
+ * identical. As in the Spring application, HEAD is answered like GET without a body,
+ * OPTIONS on a known path with the allowed methods, a known path with another method
+ * with a 405 error body and any other path with a 404 error body; the bulk endpoints
+ * are not served here.
+ */
+class EdgeHandler implements HttpHandler {
+
+  static final String BASE_PATH = "/api/v1/time";
+  static final String HEALTH = "British Spoken Time API is running";
+
+  private static final String CONVERT_PATH = BASE_PATH + "/convert";
+  private static final String HEALTH_PATH = BASE_PATH + "/health";
+  private static final String TIME_PARAMETER = "time=";
+  private static final String JSON = "application/json";
+  private static final String TEXT = "text/plain;charset=UTF-8";
+  private static final String UNEXPECTED_ERROR =
+      "An unexpected error occurred. Please try again later.";
+  private static final int OK = 200;
+  private static final int NOT_MODIFIED = 304;
+  private static final int INTERNAL_SERVER_ERROR = 500;
+  private static final Set<HttpMethod> GET_OR_POST = Set.of(HttpMethod.GET, HttpMethod.POST);
+  private static final Set<HttpMethod> GET_ONLY = Set.of(HttpMethod.GET);
+  private static final String CONVERT_OPTIONS = "GET,HEAD,POST,OPTIONS";
+  private static final String GET_OPTIONS = "GET,HEAD,OPTIONS";
+  private static final byte[] HEALTH_BODY = HEALTH.getBytes(StandardCharsets.UTF_8);
+
+  private final TimeConverter timeConverter;
+  private final TimeResponseCache responseCache;
+  private final ErrorResponseTemplates errorResponses;
+  private final String cacheControl;
+
+  EdgeHandler(TimeConverter timeConverter, TimeResponseCache responseCache,
+      ErrorResponseTemplates errorResponses, Duration maxAge) {
+    this.timeConverter = timeConverter;
+    this.responseCache = responseCache;
+    this.errorResponses = errorResponses;
+    this.cacheControl = "max-age=" + maxAge.toSeconds() + ", public, immutable";
+  }
+
+  @Override
+  public void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      String method = exchange.getRequestMethod();
+      String path = exchange.getRequestURI().getRawPath();
+      boolean get = "GET".equals(method) || "HEAD".equals(method);
+      if (CONVERT_PATH.equals(path)) {
+        if ("POST".equals(method)) {
+          convert(exchange, path);
+        } else if (get) {
+          convertByQuery(exchange, path);
+        } else if ("OPTIONS".equals(method)) {
+          options(exchange, CONVERT_OPTIONS);
+        } else {
+          error(exchange, errorResponses.methodNotAllowed(method, GET_OR_POST, path));
+        }
+      } else if (HEALTH_PATH.equals(path) || isHourMinutePath(path)) {
+        if ("OPTIONS".equals(method)) {
+          options(exchange, GET_OPTIONS);
+        } else if (!get) {
+          error(exchange, errorResponses.methodNotAllowed(method, GET_ONLY, path));
+        } else if (HEALTH_PATH.equals(path)) {
+          send(exchange, OK, TEXT, HEALTH_BODY);
+        } else {
+          convertByPath(exchange, path);
+        }
+      } else {
+        error(exchange, errorResponses.notFound(path));
+      }
+    }
+  }
+
+  private void convert(HttpExchange exchange, String path) throws IOException {
+    String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+    byte[] body;
+    try (InputStream in = exchange.getRequestBody()) {
+      body = in.readAllBytes();
+    }
+    String time;
+    try {
+      if (contentType == null || !isJson(contentType)) {
+        throw new TimeRequestReader.MalformedJsonException("unsupported content type");
+      }
+      time = TimeRequestReader.readTime(body);
+    } catch (TimeRequestReader.MalformedJsonException e) {
+      unexpected(exchange, path);
+      return;
+    }
+
+    CachedResponse cached = responseCache.get(time);
+    if (cached != null) {
+      send(exchange, OK, JSON, cached.body());
+      return;
+    }
+    ParseOutcome outcome = timeConverter.tryParse(time);
+    if (!outcome.isValid()) {
+      error(exchange, errorResponses.invalidRequest(time, outcome.getError(), path));
+      return;
+    }
+    String spokenForm = timeConverter.convert(outcome.getMinuteOfDay());
+    send(exchange, OK, JSON, JsonEncoder.encode(new TimeResponse(time, spokenForm)));
+  }
+
+  private void convertByQuery(HttpExchange exchange, String path) throws IOException {
+    String time = queryTime(exchange.getRequestURI().getRawQuery());
+    if (time == null) {
+      unexpected(exchange, path);
+      return;
+    }
+    cacheable(exchange, time, path);
+  }
+
+  private void convertByPath(HttpExchange exchange, String path) throws IOException {
+    String[] segments = exchange.getRequestURI().getPath()
+        .substring(BASE_PATH.length() + 1).split("/", -1);
+    cacheable(exchange, segments[0] + ":" + segments[1], path);
+  }
+
+  private void cacheable(HttpExchange exchange, String time, String path) throws IOException {
+    CachedResponse cached = responseCache.get(time);
+    int minuteOfDay;
+    if (cached != null) {
+      minuteOfDay = cached.minuteOfDay();
+    } else {
+      ParseOutcome outcome = timeConverter.tryParse(time);
+      if (!outcome.isValid()) {
+        error(exchange, errorResponses.invalidTime(outcome.getError(), path));
+        return;
+      }
+      minuteOfDay = outcome.getMinuteOfDay();
+    }
+
+    String etag = responseCache.etag(time, minuteOfDay);
+    Headers headers = exchange.getResponseHeaders();
+    headers.set("ETag", etag);
+    headers.set("Cache-Control", cacheControl);
+    if (matches(exchange.getRequestHeaders().getFirst("If-None-Match"), etag)) {
+      exchange.sendResponseHeaders(NOT_MODIFIED, -1);
+      return;
+    }
+    byte[] body = cached != null ? cached.body() : JsonEncoder.encode(
+        new TimeResponse(time, timeConverter.convert(minuteOfDay)));
+    send(exchange, OK, JSON, body);
+  }
+
+  private void error(HttpExchange exchange, ResponseEntity<ErrorResponse> response)
+      throws IOException {
+    String allow = response.getHeaders().getFirst(HttpHeaders.ALLOW);
+    if (allow != null) {
+      exchange.getResponseHeaders().set(HttpHeaders.ALLOW, allow);
+    }
+    send(exchange, response.getStatusCode().value(), JSON,
+        JsonEncoder.encode(response.getBody()));
+  }
+
+  private void unexpected(HttpExchange exchange, String path) throws IOException {
+    ErrorResponse body = new ErrorResponse(LocalDateTime.now(), INTERNAL_SERVER_ERROR,
+        "Internal Server Error", UNEXPECTED_ERROR, path);
+    send(exchange, INTERNAL_SERVER_ERROR, JSON, JsonEncoder.encode(body));
+  }
+
+  private static void options(HttpExchange exchange, String allow) throws IOException {
+    exchange.getResponseHeaders().set(HttpHeaders.ALLOW, allow);
+    exchange.sendResponseHeaders(OK, -1);
+  }
+
+  /**
+   * Sends a response with a body, or only its headers when answering HEAD.
+   */
+  private static void send(HttpExchange exchange, int status, String contentType, byte[] body)
+      throws IOException {
+    exchange.getResponseHeaders().set("Content-Type", contentType);
+    if ("HEAD".equals(exchange.getRequestMethod())) {
+      exchange.getResponseHeaders().set("Content-Length", Integer.toString(body.length));
+      exchange.sendResponseHeaders(status, -1);
+      return;
+    }
+    exchange.sendResponseHeaders(status, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  /**
+   * Tells whether the path is the base path followed by two segments of one or two
+   * digits, as matched by the controller's hour/minute mapping.
+   */
+  private static boolean isHourMinutePath(String path) {
+    if (!path.startsWith(BASE_PATH + "/")) {
+      return false;
+    }
+    int hour = BASE_PATH.length() + 1;
+    int separator = path.indexOf('/', hour);
+    return separator >= 0
+        && isOneOrTwoDigits(path, hour, separator)
+        && isOneOrTwoDigits(path, separator + 1, path.length());
+  }
+
+  private static boolean isOneOrTwoDigits(String path, int start, int end) {
+    if (end - start < 1 || end - start > 2) {
+      return false;
+    }
+    for (int i = start; i < end; i++) {
+      if (path.charAt(i) < '0' || path.charAt(i) > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isJson(String contentType) {
+    String mediaType = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+    return mediaType.equals(JSON)
+        || (mediaType.startsWith("application/") && mediaType.endsWith("+json"));
+  }
+
+  /**
+   * Returns the first {@code time} query parameter, decoded, or null if absent.
+   */
+  private static String queryTime(String query) {
+    if (query == null) {
+      return null;
+    }
+    for (String parameter : query.split("&")) {
+      if (parameter.startsWith(TIME_PARAMETER)) {
+        return URLDecoder.decode(parameter.substring(TIME_PARAMETER.length()),
+            StandardCharsets.UTF_8);
+      }
+      if (parameter.equals("time")) {
+        return "";
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Checks an If-None-Match header against an entity tag, as Spring does.
+   */
+  private static boolean matches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      if (tag.equals("*") || tag.equals(etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,126 @@
+package com.britishspokentime.edge;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.exception.ErrorResponseTemplates;
+import com.britishspokentime.service.ConversionComponents;
+import com.britishspokentime.service.cache.TimeResponseCache;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Lightweight server mode for edge deployments, built on the JDK HTTP server.
+ *
+ * <p>Starts without Spring: the conversion components are wired by hand and the
+ * single-time endpoints ({@code POST} and {@code GET /api/v1/time/convert},
+ * {@code GET /api/v1/time/{hour}/{minute}} and {@code /health}) are served by
+ * {@link EdgeHandler} on virtual threads. Batch and stream conversion, actuator,
+ * metrics export and Swagger are only available in the Spring application.
+ *
+ * <p>Run from the application jar with
+ * {@code java -Dloader.main=com.britishspokentime.edge.EdgeServer -jar app.jar}.
+ * Accepts {@code --server.port=<port>} (default 8080) and {@code --time.*} settings
+ * such as {@code --time.http-cache.max-age=1h}, with the names and values of
+ * {@code application.yml}; other arguments are ignored. {@code application.yml}
+ * itself is not read, so settings not given as arguments take their defaults.
+ * TCP_NODELAY is enabled and up to 10,000 idle keep-alive connections are kept open,
+ * unless the {@code sun.net.httpserver.*} properties say otherwise.
+ */
+@Slf4j
+public final class EdgeServer implements AutoCloseable {
+
+  private static final int DEFAULT_PORT = 8080;
+  private static final int BACKLOG = 1000;
+  private static final String PORT_ARGUMENT = "--server.port=";
+  private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+  private static final String MAX_IDLE_PROPERTY = "sun.net.httpserver.maxIdleConnections";
+  private static final int MAX_IDLE_CONNECTIONS = 10_000;
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  private EdgeServer(HttpServer server, ExecutorService executor) {
+    this.server = server;
+    this.executor = executor;
+  }
+
+  /**
+   * Starts the server with the settings given as arguments.
+   *
+   * @param args command line arguments
+   * @throws IOException if the port cannot be bound
+   */
+  public static void main(String[] args) throws IOException {
+    int port = DEFAULT_PORT;
+    for (String arg : args) {
+      if (arg.startsWith(PORT_ARGUMENT)) {
+        port = Integer.parseInt(arg.substring(PORT_ARGUMENT.length()));
+      }
+    }
+    EdgeServer server = start(port, TimeProperties.fromArguments(args));
+    log.info("Edge server started on port {} in {} ms", server.getPort(),
+        System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime());
+  }
+
+  /**
+   * Wires the conversion components and starts serving.
+   *
+   * @param port the port to listen on, or 0 for any free port
+   * @param properties the conversion settings
+   * @return the running server
+   * @throws IOException if the port cannot be bound
+   */
+  public static EdgeServer start(int port, TimeProperties properties) throws IOException {
+    ConversionComponents components =
+        ConversionComponents.create(properties, new SimpleMeterRegistry());
+    TimeResponseCache responseCache =
+        new TimeResponseCache(components.table(), JsonEncoder::encode, properties);
+
+    EdgeHandler handler = new EdgeHandler(components.converter(), responseCache,
+        new ErrorResponseTemplates(), properties.getHttpCache().getMaxAge());
+    // The JDK server writes headers and body separately; with Nagle's algorithm on,
+    // every keep-alive response then waits for the client's delayed ACK (~40 ms)
+    defaultProperty(NO_DELAY_PROPERTY, "true");
+    // Beyond 200 idle keep-alive connections the server closes them, forcing reconnects
+    defaultProperty(MAX_IDLE_PROPERTY, String.valueOf(MAX_IDLE_CONNECTIONS));
+    HttpServer server = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+    ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    server.createContext("/", handler);
+    server.setExecutor(executor);
+    server.start();
+    return new EdgeServer(server, executor);
+  }
+
+  /**
+   * Sets a JDK HTTP server property unless given on the command line. The server
+   * reads them once, so this must run before the first server is created.
+   */
+  private static void defaultProperty(String name, String value) {
+    if (System.getProperty(name) == null) {
+      System.setProperty(name, value);
+    }
+  }
+
+  /**
+   * Gets the port the server is listening on.
+   *
+   * @return the bound port
+   */
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  /**
+   * Stops accepting requests and shuts the server down.
+   */
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdown();
+  }
+}
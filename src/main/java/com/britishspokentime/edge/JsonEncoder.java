@@ -0,0 +1,115 @@
+package com.britishspokentime.edge;
+
+import com.britishspokentime.dto.ErrorResponse;
+import com.britishspokentime.dto.TimeResponse;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Hand-written JSON encoder for the two response types of the edge server.
+ * Produces exactly the bytes Spring's Jackson configuration produces: fields in
+ * declaration order, nulls included, timestamps as ISO local date-times, and
+ * strings escaped the way Jackson escapes them. The one difference is that a
+ * character outside the Basic Multilingual Plane is written as standard four-byte
+ * UTF-8, where Jackson encodes each half of the surrogate pair separately;
+ * no response of the API contains such a character.
+ */
+final class JsonEncoder {
+
+  private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+  private static final int CONTROL_LIMIT = 0x20;
+  private static final int INITIAL_CAPACITY = 128;
+
+  private JsonEncoder() {
+    throw new UnsupportedOperationException("Utility class");
+  }
+
+  /**
+   * Encodes a successful conversion.
+   *
+   * @param response the response
+   * @return the UTF-8 JSON body
+   */
+  static byte[] encode(TimeResponse response) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(INITIAL_CAPACITY);
+    raw(out, "{\"time\":");
+    string(out, response.getTime());
+    raw(out, ",\"spokenForm\":");
+    string(out, response.getSpokenForm());
+    out.write('}');
+    return out.toByteArray();
+  }
+
+  /**
+   * Encodes an error.
+   *
+   * @param response the error response
+   * @return the UTF-8 JSON body
+   */
+  static byte[] encode(ErrorResponse response) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(INITIAL_CAPACITY);
+    raw(out, "{\"timestamp\":");
+    string(out, response.getTimestamp() == null
+        ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(response.getTimestamp()));
+    raw(out, ",\"status\":");
+    raw(out, Integer.toString(response.getStatus()));
+    raw(out, ",\"error\":");
+    string(out, response.getError());
+    raw(out, ",\"message\":");
+    string(out, response.getMessage());
+    raw(out, ",\"path\":");
+    string(out, response.getPath());
+    out.write('}');
+    return out.toByteArray();
+  }
+
+  private static void string(ByteArrayOutputStream out, String value) {
+    if (value == null) {
+      raw(out, "null");
+      return;
+    }
+    out.write('"');
+    int start = 0;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c >= CONTROL_LIMIT && c != '"' && c != '\\') {
+        continue;
+      }
+      utf8(out, value, start, i);
+      escape(out, c);
+      start = i + 1;
+    }
+    utf8(out, value, start, value.length());
+    out.write('"');
+  }
+
+  private static void escape(ByteArrayOutputStream out, char c) {
+    out.write('\\');
+    switch (c) {
+      case '"', '\\' -> out.write(c);
+      case '\b' -> out.write('b');
+      case '\f' -> out.write('f');
+      case '\n' -> out.write('n');
+      case '\r' -> out.write('r');
+      case '\t' -> out.write('t');
+      default -> {
+        out.write('u');
+        out.write('0');
+        out.write('0');
+        out.write(HEX[c >> 4]);
+        out.write(HEX[c & 0xF]);
+      }
+    }
+  }
+
+  private static void utf8(ByteArrayOutputStream out, String value, int start, int end) {
+    if (start < end) {
+      out.writeBytes(value.substring(start, end).getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  private static void raw(ByteArrayOutputStream out, String ascii) {
+    out.writeBytes(ascii.getBytes(StandardCharsets.US_ASCII));
+  }
+}
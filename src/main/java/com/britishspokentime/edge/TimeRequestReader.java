@@ -0,0 +1,224 @@
+package com.britishspokentime.edge;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal JSON reader for {@code TimeRequest} bodies.
+ * Reads a single JSON object and returns its {@code time} member, accepting what
+ * Spring's Jackson configuration accepts for that request: unknown members are
+ * skipped, a later duplicate wins, numbers or booleans are taken as their text, a
+ * bare string is the time itself, and anything after the value is ignored.
+ */
+final class TimeRequestReader {
+
+  private static final String TIME = "time";
+
+  private final byte[] json;
+  private int pos;
+
+  private TimeRequestReader(byte[] json) {
+    this.json = json;
+  }
+
+  /**
+   * Reads the time of a request body.
+   *
+   * @param json the UTF-8 request body
+   * @return the time, or null if the member is absent or null
+   * @throws MalformedJsonException if the body is not a JSON object or the time is
+   *     an object or array
+   */
+  static String readTime(byte[] json) {
+    return new TimeRequestReader(json).readObject();
+  }
+
+  /**
+   * Thrown for request bodies Jackson would reject.
+   */
+  static final class MalformedJsonException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    MalformedJsonException(String message) {
+      super(message, null, false, false);
+    }
+  }
+
+  private String readObject() {
+    if (peek() == '"') {
+      // Jackson binds a bare string through the single-argument constructor
+      return readString();
+    }
+    expect('{');
+    String time = null;
+    if (peek() == '}') {
+      pos++;
+    } else {
+      do {
+        String name = readString();
+        expect(':');
+        if (TIME.equals(name)) {
+          time = readScalar();
+        } else {
+          skipValue();
+        }
+      } while (next(',', '}') == ',');
+    }
+    return time;
+  }
+
+  private String readScalar() {
+    int c = peek();
+    if (c == '"') {
+      return readString();
+    }
+    if (c == '{' || c == '[') {
+      throw malformed("time must be a scalar");
+    }
+    int start = pos;
+    skipLiteral();
+    String text = new String(json, start, pos - start, StandardCharsets.UTF_8);
+    return "null".equals(text) ? null : text;
+  }
+
+  private void skipValue() {
+    int c = peek();
+    if (c == '"') {
+      readString();
+    } else if (c == '{') {
+      pos++;
+      if (peek() == '}') {
+        pos++;
+        return;
+      }
+      do {
+        readString();
+        expect(':');
+        skipValue();
+      } while (next(',', '}') == ',');
+    } else if (c == '[') {
+      pos++;
+      if (peek() == ']') {
+        pos++;
+        return;
+      }
+      do {
+        skipValue();
+      } while (next(',', ']') == ',');
+    } else {
+      skipLiteral();
+    }
+  }
+
+  private void skipLiteral() {
+    int start = pos;
+    while (pos < json.length && isLiteralChar(json[pos])) {
+      pos++;
+    }
+    String literal = new String(json, start, pos - start, StandardCharsets.US_ASCII);
+    if (!"true".equals(literal) && !"false".equals(literal) && !"null".equals(literal)
+        && !literal.matches("-?(0|[1-9]\\d*)(\\.\\d+)?([eE][+-]?\\d+)?")) {
+      throw malformed("unexpected value");
+    }
+  }
+
+  private String readString() {
+    expect('"');
+    StringBuilder value = null;
+    int start = pos;
+    while (pos < json.length) {
+      byte b = json[pos];
+      if (b == '"') {
+        String tail = new String(json, start, pos - start, StandardCharsets.UTF_8);
+        pos++;
+        return value == null ? tail : value.append(tail).toString();
+      }
+      if (b >= 0 && b < ' ') {
+        throw malformed("unescaped control character");
+      }
+      if (b == '\\') {
+        if (value == null) {
+          value = new StringBuilder();
+        }
+        value.append(new String(json, start, pos - start, StandardCharsets.UTF_8));
+        pos++;
+        value.append(readEscape());
+        start = pos;
+      } else {
+        pos++;
+      }
+    }
+    throw malformed("unterminated string");
+  }
+
+  private char readEscape() {
+    if (pos >= json.length) {
+      throw malformed("unterminated escape");
+    }
+    byte b = json[pos++];
+    return switch (b) {
+      case '"', '\\', '/' -> (char) b;
+      case 'b' -> '\b';
+      case 'f' -> '\f';
+      case 'n' -> '\n';
+      case 'r' -> '\r';
+      case 't' -> '\t';
+      case 'u' -> readUnicode();
+      default -> throw malformed("invalid escape");
+    };
+  }
+
+  private char readUnicode() {
+    if (pos + 4 > json.length) {
+      throw malformed("truncated unicode escape");
+    }
+    int value = 0;
+    for (int i = 0; i < 4; i++) {
+      int digit = Character.digit(json[pos++], 16);
+      if (digit < 0) {
+        throw malformed("invalid unicode escape");
+      }
+      value = value << 4 | digit;
+    }
+    return (char) value;
+  }
+
+  private int next(char a, char b) {
+    int c = peek();
+    if (c != a && c != b) {
+      throw malformed("expected '" + a + "' or '" + b + "'");
+    }
+    pos++;
+    return c;
+  }
+
+  private void expect(char expected) {
+    if (peek() != expected) {
+      throw malformed("expected '" + expected + "'");
+    }
+    pos++;
+  }
+
+  /**
+   * Skips whitespace and returns the next byte without consuming it, or -1.
+   */
+  private int peek() {
+    while (pos < json.length && isWhitespace(json[pos])) {
+      pos++;
+    }
+    return pos < json.length ? json[pos] : -1;
+  }
+
+  private static boolean isWhitespace(byte b) {
+    return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+  }
+
+  private static boolean isLiteralChar(byte b) {
+    return b >= 'a' && b <= 'z' || b >= '0' && b <= '9' || b == '-' || b == '+' || b == '.'
+        || b == 'E';
+  }
+
+  private MalformedJsonException malformed(String reason) {
+    return new MalformedJsonException(reason + " at offset " + pos);
+  }
+}
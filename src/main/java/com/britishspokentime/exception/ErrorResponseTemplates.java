@@ -0,0 +1,186 @@
+package com.britishspokentime.exception;
+
+import com.britishspokentime.domain.TimeParseError;
+import com.britishspokentime.dto.ErrorResponse;
+import com.britishspokentime.dto.TimeRequest;
+import com.britishspokentime.validation.ValidTime;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prebuilt 400 responses for rejected times, returned without throwing, and the
+ * error responses for requests that match no endpoint.
+ *
+ * <p>The set of reasons is fixed, so each reason has a template holding its error
+ * and message; only the body, with the current timestamp and the path, is built per
+ * response. The bodies match what {@link GlobalExceptionHandler} produces for the
+ * same input.
+ */
+@Component
+public class ErrorResponseTemplates {
+
+  static final String VALIDATION_ERROR = "Validation Error";
+  static final String BAD_REQUEST = "Bad Request";
+  static final String NO_ENDPOINT = "No endpoint matches this path";
+  /**
+   * Separator between the messages of several violations.
+   */
+  public static final String MESSAGE_SEPARATOR = ", ";
+
+  private final Template timeRequired =
+      new Template(VALIDATION_ERROR, TimeRequest.TIME_REQUIRED_MESSAGE);
+  private final Template timeBlank = new Template(VALIDATION_ERROR,
+      joinMessages(Stream.of(ValidTime.MESSAGE, TimeRequest.TIME_REQUIRED_MESSAGE)));
+  private final Template timeInvalid = new Template(VALIDATION_ERROR, ValidTime.MESSAGE);
+  private final Map<TimeParseError, Template> parseErrors = new EnumMap<>(TimeParseError.class);
+
+  /**
+   * Creates one template per parse error.
+   */
+  public ErrorResponseTemplates() {
+    for (TimeParseError error : TimeParseError.values()) {
+      parseErrors.put(error, new Template(BAD_REQUEST, error.getMessage()));
+    }
+  }
+
+  /**
+   * Joins the messages of several violations in alphabetical order. Validators
+   * report violations as a set, in no fixed order, so sorting keeps the message of
+   * the same input the same.
+   *
+   * @param messages the violation messages
+   * @return the messages, sorted and separated by {@link #MESSAGE_SEPARATOR}
+   */
+  public static String joinMessages(Stream<String> messages) {
+    return messages.sorted().collect(Collectors.joining(MESSAGE_SEPARATOR));
+  }
+
+  /**
+   * Returns the response for a {@link TimeRequest} whose time was rejected, with
+   * the bean validation messages of the request, for callers that parse the time
+   * without running bean validation. A blank time violates both {@code @NotBlank}
+   * and {@link ValidTime}, so both messages are reported, joined by
+   * {@link #joinMessages(Stream)}.
+   *
+   * @param time the time as received, possibly null
+   * @param error the reason it was rejected
+   * @param path the request path
+   * @return the 400 response
+   */
+  public ResponseEntity<ErrorResponse> invalidRequest(String time, TimeParseError error,
+      String path) {
+    if (time == null) {
+      return timeRequired.response(path);
+    }
+    return error == TimeParseError.EMPTY ? timeBlank.response(path) : timeInvalid.response(path);
+  }
+
+  /**
+   * Returns the response for a rejected time given outside a request body, with
+   * the parser's message for the reason.
+   *
+   * @param error the reason the time was rejected
+   * @param path the request path
+   * @return the 400 response
+   */
+  public ResponseEntity<ErrorResponse> invalidTime(TimeParseError error, String path) {
+    return parseErrors.get(error).response(path);
+  }
+
+  /**
+   * Builds a validation error response for a message that is not one of the fixed
+   * reasons, such as the violations of a batch request.
+   *
+   * @param message the validation messages
+   * @param path the request path
+   * @return the 400 response
+   */
+  public ResponseEntity<ErrorResponse> validationError(String message, String path) {
+    return build(VALIDATION_ERROR, message, path);
+  }
+
+  /**
+   * Builds a bad request response for a message that is not one of the fixed
+   * reasons, such as an oversized batch.
+   *
+   * @param message the error message
+   * @param path the request path
+   * @return the 400 response
+   */
+  public ResponseEntity<ErrorResponse> badRequest(String message, String path) {
+    return build(BAD_REQUEST, message, path);
+  }
+
+  /**
+   * Builds the response for a request whose path matches no endpoint.
+   *
+   * @param path the request path
+   * @return the 404 response
+   */
+  public ResponseEntity<ErrorResponse> notFound(String path) {
+    ErrorResponse body = new ErrorResponse(LocalDateTime.now(), HttpStatus.NOT_FOUND.value(),
+        HttpStatus.NOT_FOUND.getReasonPhrase(), NO_ENDPOINT, path);
+    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
+  }
+
+  /**
+   * Builds the response for a request whose Accept header cannot be parsed.
+   *
+   * @param message the parse error
+   * @param path the request path
+   * @return the 406 response
+   */
+  public ResponseEntity<ErrorResponse> notAcceptable(String message, String path) {
+    ErrorResponse body = new ErrorResponse(LocalDateTime.now(),
+        HttpStatus.NOT_ACCEPTABLE.value(), HttpStatus.NOT_ACCEPTABLE.getReasonPhrase(),
+        message, path);
+    return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).body(body);
+  }
+
+  /**
+   * Builds the response for a request whose path matches an endpoint that does not
+   * accept its method.
+   *
+   * @param method the request method
+   * @param allowed the methods the endpoint accepts
+   * @param path the request path
+   * @return the 405 response, with an {@code Allow} header listing the methods by name
+   */
+  public ResponseEntity<ErrorResponse> methodNotAllowed(String method, Set<HttpMethod> allowed,
+      String path) {
+    ErrorResponse body = new ErrorResponse(LocalDateTime.now(),
+        HttpStatus.METHOD_NOT_ALLOWED.value(), HttpStatus.METHOD_NOT_ALLOWED.getReasonPhrase(),
+        "Request method '" + method + "' is not supported", path);
+    return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED)
+        .allow(allowed.stream()
+            .sorted(Comparator.comparing(HttpMethod::name))
+            .toArray(HttpMethod[]::new))
+        .body(body);
+  }
+
+  private static ResponseEntity<ErrorResponse> build(String error, String message, String path) {
+    ErrorResponse body = new ErrorResponse(
+        LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), error, message, path);
+    return ResponseEntity.badRequest().body(body);
+  }
+
+  /**
+   * One error reason.
+   */
+  private record Template(String error, String message) {
+
+    ResponseEntity<ErrorResponse> response(String path) {
+      return ResponseEntity.badRequest().body(new ErrorResponse(
+          LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), error, message, path));
+    }
+  }
+}
@@ -2,24 +2,31 @@ package com.britishspokentime.exception;
 
 import com.britishspokentime.dto.ErrorResponse;
 import java.time.LocalDateTime;
-import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 /**
  * Global exception handler for REST API endpoints.
  * Provides consistent error responses across the application.
  */
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
 @Slf4j
 public class GlobalExceptionHandler {
 
+  private final ErrorResponseTemplates errorResponses;
+
   /**
    * Handles validation errors from @Valid annotations.
    *
@@ -32,18 +39,17 @@ public class GlobalExceptionHandler {
       MethodArgumentNotValidException ex,
       WebRequest request) {
 
-    String errors = ex.getBindingResult()
+    String errors = ErrorResponseTemplates.joinMessages(ex.getBindingResult()
         .getFieldErrors()
         .stream()
-        .map(FieldError::getDefaultMessage)
-        .collect(Collectors.joining(", "));
+        .map(FieldError::getDefaultMessage));
 
     log.warn("Validation error: {}", errors);
 
     ErrorResponse errorResponse = new ErrorResponse(
         LocalDateTime.now(),
         HttpStatus.BAD_REQUEST.value(),
-        "Validation Error",
+        ErrorResponseTemplates.VALIDATION_ERROR,
         errors,
         request.getDescription(false).replace("uri=", "")
     );
@@ -68,7 +74,7 @@ public class GlobalExceptionHandler {
     ErrorResponse errorResponse = new ErrorResponse(
         LocalDateTime.now(),
         HttpStatus.BAD_REQUEST.value(),
-        "Bad Request",
+        ErrorResponseTemplates.BAD_REQUEST,
         ex.getMessage(),
         request.getDescription(false).replace("uri=", "")
     );
@@ -76,6 +82,35 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
   }
 
+  /**
+   * Handles requests whose path matches no endpoint.
+   *
+   * @param ex the exception raised for the unmatched path
+   * @param request the web request
+   * @return error response entity
+   */
+  @ExceptionHandler(NoResourceFoundException.class)
+  public ResponseEntity<ErrorResponse> handleNoEndpoint(
+      NoResourceFoundException ex,
+      WebRequest request) {
+    return errorResponses.notFound(request.getDescription(false).replace("uri=", ""));
+  }
+
+  /**
+   * Handles requests whose method the matched endpoint does not accept.
+   *
+   * @param ex the exception carrying the supported methods
+   * @param request the web request
+   * @return error response entity
+   */
+  @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
+  public ResponseEntity<ErrorResponse> handleMethodNotSupported(
+      HttpRequestMethodNotSupportedException ex,
+      WebRequest request) {
+    return errorResponses.methodNotAllowed(ex.getMethod(), ex.getSupportedHttpMethods(),
+        request.getDescription(false).replace("uri=", ""));
+  }
+
   /**
    * Handles all other unexpected exceptions.
    *
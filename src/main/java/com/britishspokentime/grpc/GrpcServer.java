@@ -0,0 +1,114 @@
+package com.britishspokentime.grpc;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.service.ConversionComponents;
+import io.grpc.BindableService;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * gRPC server for {@link SpokenTimeGrpcService} on the Netty transport.
+ *
+ * <p>Calls are handled directly on the transport threads rather than handed to an
+ * executor: a conversion is a table lookup and events go through the non-blocking
+ * asynchronous appender, so nothing blocks, and skipping the hand-off halves the
+ * cost of a stream message.
+ *
+ * <p>Runs inside the Spring application when {@code time.grpc.enabled} is set (see
+ * {@link GrpcServerLifecycle}), or standalone without Spring from the application
+ * jar with {@code java -Dloader.main=com.britishspokentime.grpc.GrpcServer -jar app.jar}.
+ * Standalone, the conversion components are wired by hand and {@code --time.*}
+ * settings are accepted as arguments, such as {@code --time.grpc.port=<port>}
+ * (default 9090); other arguments are ignored and {@code application.yml} is not
+ * read.
+ */
+@Slf4j
+public final class GrpcServer implements AutoCloseable {
+
+  private static final long SHUTDOWN_GRACE_SECONDS = 5;
+
+  private final Server server;
+
+  private GrpcServer(Server server) {
+    this.server = server;
+  }
+
+  /**
+   * Starts the server with the settings given as arguments and waits until it
+   * terminates.
+   *
+   * @param args command line arguments
+   * @throws IOException if the port cannot be bound
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    TimeProperties properties = TimeProperties.fromArguments(args);
+    GrpcServer server = start(properties.getGrpc().getPort(), service(properties));
+    log.info("gRPC server started on port {} in {} ms", server.getPort(),
+        System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime());
+    server.server.awaitTermination();
+  }
+
+  /**
+   * Wires the conversion components without Spring.
+   *
+   * @param properties the conversion settings
+   * @return the gRPC service
+   */
+  static SpokenTimeGrpcService service(TimeProperties properties) {
+    ConversionComponents components =
+        ConversionComponents.create(properties, new SimpleMeterRegistry());
+    return new SpokenTimeGrpcService(components.converter(), components.metrics(),
+        components.eventLogger(), properties);
+  }
+
+  /**
+   * Starts serving the given services.
+   *
+   * @param port the port to listen on, or 0 for any free port
+   * @param services the services to serve
+   * @return the running server
+   * @throws IOException if the port cannot be bound
+   */
+  public static GrpcServer start(int port, BindableService... services) throws IOException {
+    ServerBuilder<?> builder =
+        Grpc.newServerBuilderForPort(port, InsecureServerCredentials.create()).directExecutor();
+    for (BindableService service : services) {
+      builder.addService(service);
+    }
+    return new GrpcServer(builder.build().start());
+  }
+
+  /**
+   * Gets the port the server is listening on.
+   *
+   * @return the bound port
+   */
+  public int getPort() {
+    return server.getPort();
+  }
+
+  /**
+   * Stops accepting calls, gives open calls a few seconds to finish and then
+   * cancels the rest.
+   */
+  @Override
+  public void close() {
+    server.shutdown();
+    try {
+      if (!server.awaitTermination(SHUTDOWN_GRACE_SECONDS, TimeUnit.SECONDS)) {
+        server.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      server.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+}
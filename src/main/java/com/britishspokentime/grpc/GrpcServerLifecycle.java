@@ -0,0 +1,61 @@
+package com.britishspokentime.grpc;
+
+import com.britishspokentime.config.TimeProperties;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the {@link GrpcServer} alongside the web server of the Spring application
+ * when {@code time.grpc.enabled} is set, sharing its conversion beans.
+ */
+@Component
+@ConditionalOnProperty(prefix = "time.grpc", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+  private final SpokenTimeGrpcService service;
+  private final TimeProperties properties;
+
+  private volatile GrpcServer server;
+
+  @Override
+  public void start() {
+    int port = properties.getGrpc().getPort();
+    try {
+      server = GrpcServer.start(port, service);
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not start the gRPC server on port " + port, e);
+    }
+    log.info("gRPC server started on port {}", server.getPort());
+  }
+
+  @Override
+  public void stop() {
+    server.close();
+    server = null;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return server != null;
+  }
+
+  /**
+   * Gets the port the gRPC server is listening on.
+   *
+   * @return the bound port
+   * @throws IllegalStateException if the server is not running
+   */
+  public int getPort() {
+    GrpcServer running = server;
+    if (running == null) {
+      throw new IllegalStateException("gRPC server is not running");
+    }
+    return running.getPort();
+  }
+}
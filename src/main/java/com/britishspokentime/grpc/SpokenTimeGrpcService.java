@@ -0,0 +1,163 @@
+package com.britishspokentime.grpc;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.domain.TimeParseError;
+import com.britishspokentime.grpc.proto.ConvertBatchReply;
+import com.britishspokentime.grpc.proto.ConvertBatchRequest;
+import com.britishspokentime.grpc.proto.ConvertReply;
+import com.britishspokentime.grpc.proto.ConvertRequest;
+import com.britishspokentime.grpc.proto.SpokenTimeGrpc;
+import com.britishspokentime.service.TimeConverter;
+import com.britishspokentime.service.logging.ConversionEventLogger;
+import com.britishspokentime.service.metrics.ConversionMetrics;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * gRPC implementation of the {@code SpokenTime} service defined in
+ * {@code src/main/proto/spoken_time.proto}.
+ * Conversions are counted and reported like their REST counterparts: single
+ * conversions are timed, batches are timed and logged as batch events, and rejected
+ * times are logged as sampled parse failures.
+ *
+ * <p>{@code ConvertStream} controls its inbound flow by hand: the next request is
+ * read only while the transport can take another reply, so a slow client holds
+ * the stream back instead of replies piling up in server memory.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SpokenTimeGrpcService extends SpokenTimeGrpc.SpokenTimeImplBase {
+
+  private final TimeConverter timeConverter;
+  private final ConversionMetrics metrics;
+  private final ConversionEventLogger eventLogger;
+  private final TimeProperties properties;
+
+  @Override
+  public void convert(ConvertRequest request, StreamObserver<ConvertReply> responseObserver) {
+    String time = request.getTime();
+    long start = metrics.startSingle();
+    try {
+      int minuteOfDay = timeConverter.parseMinuteOfDay(time);
+      if (minuteOfDay < 0) {
+        TimeParseError error = TimeParseError.fromCode(minuteOfDay);
+        eventLogger.parseFailure(time, error);
+        responseObserver.onError(Status.INVALID_ARGUMENT
+            .withDescription(error.getMessage())
+            .asRuntimeException());
+        return;
+      }
+      String spokenForm = timeConverter.convert(minuteOfDay);
+      eventLogger.conversion(time, minuteOfDay);
+      responseObserver.onNext(ConvertReply.newBuilder()
+          .setTime(time)
+          .setSpokenForm(spokenForm)
+          .build());
+      responseObserver.onCompleted();
+    } finally {
+      metrics.recordSingle(start);
+    }
+  }
+
+  @Override
+  public void convertBatch(ConvertBatchRequest request,
+      StreamObserver<ConvertBatchReply> responseObserver) {
+    List<String> times = request.getTimesList();
+    int maxSize = properties.getBatch().getMaxSize();
+    if (times.size() > maxSize) {
+      responseObserver.onError(Status.INVALID_ARGUMENT
+          .withDescription(String.format(
+              "Batch size must not exceed %d times: %d", maxSize, times.size()))
+          .asRuntimeException());
+      return;
+    }
+
+    long start = System.nanoTime();
+    ConvertBatchReply.Builder reply = ConvertBatchReply.newBuilder();
+    int failures = 0;
+    for (String time : times) {
+      ConvertReply result = reply(time);
+      if (result.hasError()) {
+        failures++;
+      }
+      reply.addResults(result);
+    }
+    metrics.recordBatch(start);
+    eventLogger.batch(times.size(), failures);
+
+    responseObserver.onNext(reply.build());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public StreamObserver<ConvertRequest> convertStream(
+      StreamObserver<ConvertReply> responseObserver) {
+    return new ConvertStreamObserver((ServerCallStreamObserver<ConvertReply>) responseObserver);
+  }
+
+  /**
+   * Converts one time of a batch or stream, reporting a rejected time in the reply.
+   */
+  private ConvertReply reply(String time) {
+    ConvertReply.Builder reply = ConvertReply.newBuilder().setTime(time);
+    int minuteOfDay = timeConverter.parseMinuteOfDay(time);
+    if (minuteOfDay < 0) {
+      TimeParseError error = TimeParseError.fromCode(minuteOfDay);
+      eventLogger.parseFailure(time, error);
+      return reply.setError(error.getMessage()).build();
+    }
+    return reply.setSpokenForm(timeConverter.convert(minuteOfDay)).build();
+  }
+
+  /**
+   * Reads one request at a time and asks for the next only while the reply stream
+   * is ready. gRPC runs the callbacks of a call one after another, so the ready
+   * flag needs no synchronization.
+   */
+  private final class ConvertStreamObserver implements StreamObserver<ConvertRequest> {
+
+    private final ServerCallStreamObserver<ConvertReply> replies;
+    private boolean wasReady;
+
+    ConvertStreamObserver(ServerCallStreamObserver<ConvertReply> replies) {
+      this.replies = replies;
+      replies.disableAutoRequest();
+      replies.setOnReadyHandler(this::onReady);
+      replies.setOnCancelHandler(() -> log.debug("Conversion stream cancelled by client"));
+    }
+
+    private void onReady() {
+      if (replies.isReady() && !wasReady) {
+        wasReady = true;
+        replies.request(1);
+      }
+    }
+
+    @Override
+    public void onNext(ConvertRequest request) {
+      replies.onNext(reply(request.getTime()));
+      if (replies.isReady()) {
+        replies.request(1);
+      } else {
+        // Resumed by onReady once the client has drained its window
+        wasReady = false;
+      }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      log.debug("Conversion stream failed: {}", Status.fromThrowable(t));
+    }
+
+    @Override
+    public void onCompleted() {
+      replies.onCompleted();
+    }
+  }
+}
@@ -1,21 +1,42 @@
 package com.britishspokentime.service;
 
+import com.britishspokentime.config.TimeProperties;
 import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.domain.ParseOutcome;
+import com.britishspokentime.domain.SpokenMatch;
 import com.britishspokentime.domain.Time;
+import com.britishspokentime.domain.TimeParseError;
 import com.britishspokentime.service.factory.TimeFormatStrategyFactory;
+import com.britishspokentime.service.metrics.ConversionMetrics;
 import com.britishspokentime.service.strategy.TimeFormatStrategy;
+import com.britishspokentime.service.table.SpokenTimeTable;
+import com.britishspokentime.service.util.RangeTask;
+import com.britishspokentime.service.util.TimeParser;
+import com.britishspokentime.service.util.VectorTimeParser;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 /**
  * Implementation of TimeConverter for British English time expressions.
- * Uses Strategy Pattern with Factory Pattern for flexible time formatting.
+ * Uses Strategy Pattern with Factory Pattern for flexible time formatting,
+ * optionally served from a table rendered once at startup.
+ * Bulk conversions split large arrays with fork/join above a configurable threshold,
+ * and byte input is parsed with the Vector API when the JVM provides it.
+ * Spoken forms are read back through the table's compiled trie, and noisy ones are
+ * matched within a configurable edit distance.
+ * Conversions and parse failures are counted in {@link ConversionMetrics}.
  */
 @Service
 @RequiredArgsConstructor
 public class BritishTimeConverter implements TimeConverter {
 
+  private static final boolean VECTOR_API_AVAILABLE = VectorTimeParser.isAvailable();
+
   private final TimeFormatStrategyFactory strategyFactory;
+  private final SpokenTimeTable spokenTimeTable;
+  private final TimeProperties properties;
+  private final ConversionMetrics metrics;
 
   @Override
   public String convert(Time time) {
@@ -23,36 +44,141 @@ public class BritishTimeConverter implements TimeConverter {
       throw new IllegalArgumentException("Invalid time provided");
     }
 
+    int minuteOfDay = time.getMinuteOfDay();
+    metrics.recordConversion(minuteOfDay);
+    if (properties.getConverter().getEngine() == TimeProperties.Engine.TABLE) {
+      return spokenTimeTable.get(minuteOfDay);
+    }
+
     TimeFormatStrategy strategy = strategyFactory.getStrategy(time);
     return strategy.format(time);
   }
 
+  @Override
+  public String convert(int minuteOfDay) {
+    if (properties.getConverter().getEngine() == TimeProperties.Engine.TABLE) {
+      String spokenForm = spokenTimeTable.get(minuteOfDay);
+      metrics.recordConversion(minuteOfDay);
+      return spokenForm;
+    }
+
+    TimeFormatStrategy strategy = strategyFactory.getStrategy(minuteOfDay);
+    metrics.recordConversion(minuteOfDay);
+    return strategy.format(Time.ofMinuteOfDay(minuteOfDay));
+  }
+
+  @Override
+  public void convertAll(int[] minutesOfDay, String[] out) {
+    checkOutputLength(minutesOfDay.length, out.length);
+    RangeTask.forRange(minutesOfDay.length, properties.getConverter().getBulkThreshold(),
+        (from, to) -> {
+          for (int i = from; i < to; i++) {
+            out[i] = convert(minutesOfDay[i]);
+          }
+        });
+  }
+
   @Override
   public Time parseTime(String timeString) {
+    int minuteOfDay = TimeParser.parseMinuteOfDay(timeString);
+    if (minuteOfDay >= 0) {
+      return Time.ofMinuteOfDay(minuteOfDay);
+    }
+
+    // Slow path for rejected or unusual input (e.g. "7:5"), keeps the detailed messages
     if (timeString == null || timeString.isBlank()) {
-      throw new IllegalArgumentException("Time string cannot be null or empty");
+      throw rejected(TimeParseError.EMPTY);
     }
 
     String[] parts = timeString.split(TimeConstants.TIME_SEPARATOR);
     if (parts.length != TimeConstants.TIME_PARTS_COUNT) {
-      throw new IllegalArgumentException("Time must be in HH:mm format");
+      throw rejected(TimeParseError.MALFORMED);
     }
 
     try {
       int hour = Integer.parseInt(parts[0]);
       int minute = Integer.parseInt(parts[1]);
-      Time time = new Time(hour, minute);
-
-      if (!time.isValid()) {
-        throw new IllegalArgumentException(
-            String.format("Hour must be %d-%d and minute must be %d-%d",
-                TimeConstants.MIN_HOUR, TimeConstants.MAX_HOUR,
-                TimeConstants.MIN_MINUTE, TimeConstants.MAX_MINUTE));
+      if (!Time.isValid(hour, minute)) {
+        throw rejected(TimeParseError.OUT_OF_RANGE);
       }
 
-      return time;
+      return Time.of(hour, minute);
     } catch (NumberFormatException e) {
+      metrics.recordParseFailure(TimeParseError.MALFORMED);
       throw new IllegalArgumentException("Invalid time format: " + timeString, e);
     }
   }
+
+  @Override
+  public int parseMinuteOfDay(CharSequence timeString) {
+    int minuteOfDay = TimeParser.parseMinuteOfDay(timeString);
+    if (minuteOfDay < 0) {
+      metrics.recordParseFailure(minuteOfDay);
+    }
+    return minuteOfDay;
+  }
+
+  @Override
+  public void parseAll(CharSequence[] timeStrings, int[] out) {
+    checkOutputLength(timeStrings.length, out.length);
+    RangeTask.forRange(timeStrings.length, properties.getConverter().getBulkThreshold(),
+        (from, to) -> {
+          for (int i = from; i < to; i++) {
+            out[i] = parseMinuteOfDay(timeStrings[i]);
+          }
+        });
+  }
+
+  @Override
+  public int parseLines(byte[] text, int start, int end, int[] out) {
+    int lines = VECTOR_API_AVAILABLE && properties.getConverter().isVectorParsing()
+        ? VectorTimeParser.parseLines(text, start, end, out)
+        : TimeParser.parseLines(text, start, end, out);
+    for (int i = 0; i < lines; i++) {
+      if (out[i] < 0) {
+        metrics.recordParseFailure(out[i]);
+      }
+    }
+    return lines;
+  }
+
+  @Override
+  public Time parseSpoken(CharSequence spokenForm) {
+    int minuteOfDay = spokenTimeTable.minuteOfDay(spokenForm);
+    if (minuteOfDay < 0) {
+      throw rejected(TimeParseError.fromCode(minuteOfDay));
+    }
+    return Time.ofMinuteOfDay(minuteOfDay);
+  }
+
+  @Override
+  public int parseSpokenMinuteOfDay(CharSequence spokenForm) {
+    int minuteOfDay = spokenTimeTable.minuteOfDay(spokenForm);
+    if (minuteOfDay < 0) {
+      metrics.recordParseFailure(minuteOfDay);
+    }
+    return minuteOfDay;
+  }
+
+  @Override
+  public List<SpokenMatch> matchSpoken(CharSequence text) {
+    return spokenTimeTable.match(text, properties.getConverter().getFuzzyMaxDistance());
+  }
+
+  @Override
+  public ParseOutcome tryParse(CharSequence timeString) {
+    return ParseOutcome.of(parseMinuteOfDay(timeString));
+  }
+
+  private static void checkOutputLength(int inputLength, int outputLength) {
+    if (outputLength < inputLength) {
+      throw new IllegalArgumentException(
+          "Output array too short: " + outputLength + " < " + inputLength);
+    }
+  }
+
+  private IllegalArgumentException rejected(TimeParseError error) {
+    metrics.recordParseFailure(error);
+    return new IllegalArgumentException(error.getMessage());
+  }
 }
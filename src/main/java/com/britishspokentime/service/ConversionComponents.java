@@ -0,0 +1,48 @@
+package com.britishspokentime.service;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.service.factory.TimeFormatStrategyFactory;
+import com.britishspokentime.service.logging.ConversionEventLogger;
+import com.britishspokentime.service.metrics.ConversionMetrics;
+import com.britishspokentime.service.table.SpokenTimeTable;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The conversion components wired by hand, for entry points that run without
+ * Spring: the edge and gRPC servers, the bulk converter and the benchmarks.
+ *
+ * @param properties the conversion settings
+ * @param strategyFactory the factory over the standard strategies
+ * @param table the precomputed spoken forms
+ * @param metrics the conversion metrics
+ * @param converter the time converter
+ */
+public record ConversionComponents(TimeProperties properties,
+    TimeFormatStrategyFactory strategyFactory, SpokenTimeTable table,
+    ConversionMetrics metrics, BritishTimeConverter converter) {
+
+  /**
+   * Wires the components.
+   *
+   * @param properties the conversion settings
+   * @param registry the registry to record metrics in
+   * @return the components
+   */
+  public static ConversionComponents create(TimeProperties properties,
+      MeterRegistry registry) {
+    TimeFormatStrategyFactory strategyFactory = TimeFormatStrategyFactory.standard();
+    SpokenTimeTable table = new SpokenTimeTable(strategyFactory);
+    ConversionMetrics metrics = new ConversionMetrics(registry, strategyFactory, properties);
+    return new ConversionComponents(properties, strategyFactory, table, metrics,
+        new BritishTimeConverter(strategyFactory, table, properties, metrics));
+  }
+
+  /**
+   * Creates an event logger over these components.
+   *
+   * @return the event logger
+   */
+  public ConversionEventLogger eventLogger() {
+    return new ConversionEventLogger(table, strategyFactory, metrics, properties);
+  }
+}
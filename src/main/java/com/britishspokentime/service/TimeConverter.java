@@ -1,6 +1,9 @@
 package com.britishspokentime.service;
 
+import com.britishspokentime.domain.ParseOutcome;
+import com.britishspokentime.domain.SpokenMatch;
 import com.britishspokentime.domain.Time;
+import java.util.List;
 
 /**
  * Interface for converting time to British spoken form.
@@ -16,6 +19,28 @@ public interface TimeConverter {
    */
   String convert(Time time);
 
+  /**
+   * Converts a minute of day to its British spoken form without allocating a Time.
+   *
+   * @param minuteOfDay minutes since midnight (0-1439)
+   * @return the British spoken form of the time
+   * @throws IllegalArgumentException if minuteOfDay is outside the day
+   */
+  String convert(int minuteOfDay);
+
+  /**
+   * Converts an array of minutes of day to their British spoken forms.
+   * Large arrays are split across the fork/join pool of the calling thread (the
+   * common pool unless called from inside another pool).
+   *
+   * @param minutesOfDay minutes since midnight (0-1439)
+   * @param out receives the spoken form of {@code minutesOfDay[i]} at index {@code i}
+   * @throws IllegalArgumentException if {@code out} is shorter than {@code minutesOfDay},
+   *     or if any minute of day is outside the day, in which case {@code out} may be
+   *     partly filled
+   */
+  void convertAll(int[] minutesOfDay, String[] out);
+
   /**
    * Parses a time string in HH:mm format to a Time object.
    *
@@ -24,4 +49,89 @@ public interface TimeConverter {
    * @throws IllegalArgumentException if the format is invalid
    */
   Time parseTime(String timeString);
+
+  /**
+   * Parses a time in HH:mm format to a minute of day without allocating.
+   *
+   * @param timeString the time string to parse
+   * @return minutes since midnight (0-1439), or a negative
+   *     {@link com.britishspokentime.domain.TimeParseError} code if the input is rejected
+   */
+  int parseMinuteOfDay(CharSequence timeString);
+
+  /**
+   * Parses an array of times in HH:mm format to minutes of day without allocating.
+   * Large arrays are split across the fork/join pool of the calling thread (the
+   * common pool unless called from inside another pool).
+   *
+   * @param timeStrings the time strings to parse
+   * @param out receives the minute of day of {@code timeStrings[i]} at index {@code i},
+   *     or a negative {@link com.britishspokentime.domain.TimeParseError} code if it
+   *     is rejected
+   * @throws IllegalArgumentException if {@code out} is shorter than {@code timeStrings}
+   */
+  void parseAll(CharSequence[] timeStrings, int[] out);
+
+  /**
+   * Parses newline-separated times in HH:mm format from ASCII bytes, one result per
+   * line. Spaces, tabs and carriage returns around each time are ignored, and a line
+   * break at the end of the region does not start another line.
+   *
+   * @param text the bytes containing the lines
+   * @param start index of the first byte (inclusive)
+   * @param end index after the last byte (exclusive)
+   * @param out receives the minute of day of each line from index 0, or a negative
+   *     {@link com.britishspokentime.domain.TimeParseError} code if it is rejected;
+   *     {@code end - start} entries always suffice
+   * @return the number of lines
+   * @throws IllegalArgumentException if {@code out} has fewer entries than there are
+   *     lines
+   */
+  int parseLines(byte[] text, int start, int end, int[] out);
+
+  /**
+   * Parses a British spoken time, such as "quarter to nine", back to a Time.
+   * Accepts exactly the phrases {@link #convert(Time)} produces, ignoring case and
+   * surrounding whitespace. Spoken forms use a twelve-hour clock, so apart from
+   * "midnight" and "noon" each phrase names two times; this returns the morning one
+   * (00:00-11:59), and the afternoon one is twelve hours later.
+   *
+   * @param spokenForm the spoken time
+   * @return the parsed time, the morning reading for twelve-hour phrases
+   * @throws IllegalArgumentException if the text is blank or not a spoken time
+   */
+  Time parseSpoken(CharSequence spokenForm);
+
+  /**
+   * Parses a British spoken time to a minute of day without allocating, with the
+   * same rules as {@link #parseSpoken(CharSequence)}.
+   *
+   * @param spokenForm the spoken time
+   * @return minutes since midnight (0-1439), the morning reading for twelve-hour
+   *     phrases, or a negative {@link com.britishspokentime.domain.TimeParseError}
+   *     code if the text is rejected
+   */
+  int parseSpokenMinuteOfDay(CharSequence spokenForm);
+
+  /**
+   * Finds the spoken forms closest to noisy text, such as speech-recognition output
+   * like "quater past too". Words are split at whitespace and punctuation, so
+   * "twenty-five past three" matches "twenty five past three", and each word is
+   * compared with the word in the same position of a spoken form. Forms within the
+   * configured maximum edit distance are returned; twelve-hour phrases resolve to
+   * the morning reading, as in {@link #parseSpoken(CharSequence)}.
+   *
+   * @param text the noisy spoken time
+   * @return the matching spoken forms with their distance and confidence, closest
+   *     first; empty if the text is blank or nothing is close enough
+   */
+  List<SpokenMatch> matchSpoken(CharSequence text);
+
+  /**
+   * Parses a time in HH:mm format without throwing for rejected input.
+   *
+   * @param timeString the time string to parse
+   * @return the interned outcome: the parsed time, or the reason it was rejected
+   */
+  ParseOutcome tryParse(CharSequence timeString);
 }
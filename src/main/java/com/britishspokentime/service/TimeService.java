@@ -1,8 +1,18 @@
 package com.britishspokentime.service;
 
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.domain.ParseOutcome;
 import com.britishspokentime.domain.Time;
+import com.britishspokentime.domain.TimeParseError;
+import com.britishspokentime.dto.BatchTimeRequest;
+import com.britishspokentime.dto.BatchTimeResponse;
+import com.britishspokentime.dto.TimeConversionResult;
 import com.britishspokentime.dto.TimeRequest;
 import com.britishspokentime.dto.TimeResponse;
+import com.britishspokentime.service.logging.ConversionEventLogger;
+import com.britishspokentime.service.metrics.ConversionMetrics;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -10,6 +20,10 @@ import org.springframework.stereotype.Service;
 /**
  * Service layer for handling time conversion business logic.
  * Orchestrates the conversion of time strings to British spoken form.
+ * Batches are timed in {@link ConversionMetrics}; single conversions are timed by the
+ * endpoints, which also answer some requests from the response cache. Calls are
+ * reported as sampled events to {@link ConversionEventLogger}; the per-request INFO
+ * lines are opt-in through {@code time.logging.per-request}.
  */
 @Service
 @RequiredArgsConstructor
@@ -17,6 +31,9 @@ import org.springframework.stereotype.Service;
 public class TimeService {
 
   private final TimeConverter timeConverter;
+  private final TimeProperties properties;
+  private final ConversionMetrics metrics;
+  private final ConversionEventLogger eventLogger;
 
   /**
    * Converts a time request to British spoken form.
@@ -25,13 +42,90 @@ public class TimeService {
    * @return the time response with British spoken form
    */
   public TimeResponse convertTime(TimeRequest request) {
-    log.info("Converting time: {}", request.getTime());
+    boolean perRequest = properties.getLogging().isPerRequest();
+    if (perRequest) {
+      log.info("Converting time: {}", request.getTime());
+    }
 
-    Time time = timeConverter.parseTime(request.getTime());
+    // Validated requests carry the minute of day, so the string is parsed only once
+    Time time = request.getMinuteOfDay() >= 0
+        ? Time.ofMinuteOfDay(request.getMinuteOfDay())
+        : timeConverter.parseTime(request.getTime());
     String spokenForm = timeConverter.convert(time);
 
-    log.info("Converted {} to '{}'", request.getTime(), spokenForm);
+    if (perRequest) {
+      log.info("Converted {} to '{}'", request.getTime(), spokenForm);
+    }
+    eventLogger.conversion(request.getTime(), time.getMinuteOfDay());
 
     return new TimeResponse(request.getTime(), spokenForm);
   }
+
+  /**
+   * Converts a time already parsed by {@link #parse(String)}.
+   *
+   * @param time the time exactly as received
+   * @param outcome the valid outcome of parsing it
+   * @return the time response with British spoken form
+   * @throws IllegalStateException if the outcome is a rejection
+   */
+  public TimeResponse convertTime(String time, ParseOutcome outcome) {
+    int minuteOfDay = outcome.getMinuteOfDay();
+    String spokenForm = timeConverter.convert(minuteOfDay);
+    eventLogger.conversion(time, minuteOfDay);
+    return new TimeResponse(time, spokenForm);
+  }
+
+  /**
+   * Parses a time without throwing, so callers can answer rejected input without
+   * an exception. Rejects are counted by reason and reported as sampled events.
+   *
+   * @param time the time in HH:mm format
+   * @return the parsed time, or the reason it was rejected
+   */
+  public ParseOutcome parse(String time) {
+    ParseOutcome outcome = timeConverter.tryParse(time);
+    if (!outcome.isValid()) {
+      eventLogger.parseFailure(time, outcome.getError());
+    }
+    return outcome;
+  }
+
+  /**
+   * Converts a batch of times to British spoken form.
+   * Invalid items are reported in their result instead of failing the whole batch.
+   *
+   * @param request the batch request containing times in HH:mm format
+   * @return one result per requested time, in request order
+   * @throws IllegalArgumentException if the batch exceeds the configured maximum size
+   */
+  public BatchTimeResponse convertBatch(BatchTimeRequest request) {
+    List<String> times = request.getTimes();
+    int maxSize = properties.getBatch().getMaxSize();
+    if (times.size() > maxSize) {
+      throw new IllegalArgumentException(String.format(
+          "Batch size must not exceed %d times: %d", maxSize, times.size()));
+    }
+
+    long start = System.nanoTime();
+    List<TimeConversionResult> results = new ArrayList<>(times.size());
+    int failures = 0;
+    for (String time : times) {
+      int minuteOfDay = timeConverter.parseMinuteOfDay(time);
+      if (minuteOfDay >= 0) {
+        results.add(TimeConversionResult.success(time, timeConverter.convert(minuteOfDay)));
+      } else {
+        TimeParseError error = TimeParseError.fromCode(minuteOfDay);
+        eventLogger.parseFailure(time, error);
+        results.add(TimeConversionResult.failure(time, error.getMessage()));
+        failures++;
+      }
+    }
+
+    metrics.recordBatch(start);
+    eventLogger.batch(times.size(), failures);
+    log.debug("Converted batch of {} times", times.size());
+
+    return new BatchTimeResponse(results);
+  }
 }
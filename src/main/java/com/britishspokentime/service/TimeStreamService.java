@@ -0,0 +1,154 @@
+package com.britishspokentime.service;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.domain.TimeParseError;
+import com.britishspokentime.dto.TimeConversionResult;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service for converting an unbounded stream of times to British spoken form.
+ * Reads the input line by line and writes one NDJSON result per line, so memory
+ * use is bounded by the configured line length regardless of the input size.
+ *
+ * <p>Each input line may be a JSON object with a {@code time} field, a JSON string,
+ * or a plain HH:mm value. Blank lines are skipped and malformed lines are reported
+ * inline without aborting the stream.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TimeStreamService {
+
+  static final String LINE_TOO_LONG = "Line exceeds the maximum length";
+  static final String INVALID_JSON = "Line is not valid JSON";
+
+  private static final int READ_BUFFER_SIZE = 8192;
+  private static final String TIME_FIELD = "time";
+
+  private final TimeConverter timeConverter;
+  private final ObjectMapper objectMapper;
+  private final TimeProperties properties;
+
+  /**
+   * Converts every line of the input and writes the results as NDJSON.
+   *
+   * @param input the newline-delimited input
+   * @param output the stream receiving one JSON result per input line
+   * @return the number of lines converted or reported
+   * @throws IOException if reading the input or writing the output fails
+   */
+  public long convertStream(InputStream input, OutputStream output) throws IOException {
+    int maxLineLength = properties.getStream().getMaxLineLength();
+    int flushLines = properties.getStream().getFlushLines();
+
+    Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8);
+    char[] buffer = new char[READ_BUFFER_SIZE];
+    char[] line = new char[maxLineLength];
+    int lineLength = 0;
+    boolean overflow = false;
+    long count = 0;
+
+    try (JsonGenerator generator = objectMapper.createGenerator(output)) {
+      generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+
+      int read;
+      while ((read = reader.read(buffer)) != -1) {
+        for (int i = 0; i < read; i++) {
+          char c = buffer[i];
+          if (c != '\n') {
+            if (lineLength < maxLineLength) {
+              line[lineLength++] = c;
+            } else {
+              overflow = true;
+            }
+            continue;
+          }
+          if (writeLine(generator, line, lineLength, overflow) && ++count % flushLines == 0) {
+            generator.flush();
+          }
+          lineLength = 0;
+          overflow = false;
+        }
+      }
+      if (writeLine(generator, line, lineLength, overflow)) {
+        count++;
+      }
+    }
+
+    log.debug("Converted stream of {} lines", count);
+    return count;
+  }
+
+  private boolean writeLine(JsonGenerator generator, char[] line, int length, boolean overflow)
+      throws IOException {
+    TimeConversionResult result = overflow
+        ? lineTooLong() : convertLine(new String(line, 0, length));
+    if (result == null) {
+      return false;
+    }
+    write(generator, result);
+    return true;
+  }
+
+  /**
+   * Converts a single input line, which may be a JSON object with a {@code time}
+   * field, a JSON string or a plain HH:mm value.
+   *
+   * @param line the line without its terminating newline
+   * @return the result for the line, or null if the line is blank
+   */
+  public TimeConversionResult convertLine(String line) {
+    String text = line.strip();
+    if (text.isEmpty()) {
+      return null;
+    }
+
+    String time;
+    char first = text.charAt(0);
+    if (first == '{' || first == '"') {
+      try {
+        JsonNode node = objectMapper.readTree(text);
+        JsonNode value = node.isObject() ? node.get(TIME_FIELD) : node;
+        time = value == null || value.isNull() ? null : value.asText();
+      } catch (JsonProcessingException e) {
+        return TimeConversionResult.failure(text, INVALID_JSON);
+      }
+    } else {
+      time = text;
+    }
+
+    int minuteOfDay = timeConverter.parseMinuteOfDay(time);
+    if (minuteOfDay < 0) {
+      return TimeConversionResult.failure(time,
+          TimeParseError.fromCode(minuteOfDay).getMessage());
+    }
+    return TimeConversionResult.success(time, timeConverter.convert(minuteOfDay));
+  }
+
+  /**
+   * Returns the result reported for a line longer than the configured maximum.
+   *
+   * @return the failure result
+   */
+  public TimeConversionResult lineTooLong() {
+    return TimeConversionResult.failure(null, LINE_TOO_LONG);
+  }
+
+  private void write(JsonGenerator generator, TimeConversionResult result) throws IOException {
+    generator.writeObject(result);
+    generator.writeRaw('\n');
+  }
+}
@@ -0,0 +1,222 @@
+package com.britishspokentime.service.binary;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.domain.TimeParseError;
+import com.britishspokentime.service.logging.ConversionEventLogger;
+import com.britishspokentime.service.metrics.ConversionMetrics;
+import com.britishspokentime.service.table.SpokenTimeTable;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+
+/**
+ * Converts requests in the compact binary protocol for high-volume callers.
+ *
+ * <p>Wire format, all integers unsigned and big-endian:
+ * <ul>
+ *   <li>Request ({@value BinaryMediaTypes#MINUTES_VALUE}): one 16-bit minute of day
+ *       (0-1439) per item, so {@code 07:30} is {@code 0x01C2}.</li>
+ *   <li>Phrases response ({@value BinaryMediaTypes#PHRASES_VALUE}): per item, in
+ *       request order, an 8-bit byte length followed by the UTF-8 phrase. A length of
+ *       0 marks a value outside the day.</li>
+ *   <li>Phrase ID response ({@value BinaryMediaTypes#PHRASE_IDS_VALUE}): per item, a
+ *       16-bit index into the phrase dictionary, or {@code 0xFFFF} for a value outside
+ *       the day.</li>
+ *   <li>Phrase dictionary: every distinct phrase once, in ID order, in the phrases
+ *       format. IDs are assigned in order of first use from midnight.</li>
+ * </ul>
+ *
+ * <p>Every entry is encoded once at startup with its length prefix, so a response
+ * is sized in one pass over the request and filled by copying entries in a second;
+ * no Strings are created per item.
+ */
+@Service
+public class BinaryConversionService {
+
+  /**
+   * Phrase ID written for a value outside the day.
+   */
+  public static final int INVALID_PHRASE_ID = 0xFFFF;
+
+  private static final int ITEM_BYTES = 2;
+  private static final int MAX_PHRASE_BYTES = 0xFF;
+  private static final byte[] INVALID_ENTRY = {0};
+
+  private final ConversionMetrics metrics;
+  private final ConversionEventLogger eventLogger;
+  private final TimeProperties properties;
+  private final byte[][] entries = new byte[TimeConstants.MINUTES_IN_DAY][];
+  private final int[] phraseIds = new int[TimeConstants.MINUTES_IN_DAY];
+  private final byte[] dictionary;
+
+  /**
+   * Encodes the length-prefixed entry and phrase ID of every minute of the day.
+   *
+   * @param spokenTimeTable the phrases to encode
+   * @param metrics metrics the conversions are counted in
+   * @param eventLogger logger for batch events
+   * @param properties batch settings
+   */
+  public BinaryConversionService(SpokenTimeTable spokenTimeTable, ConversionMetrics metrics,
+      ConversionEventLogger eventLogger, TimeProperties properties) {
+    this.metrics = metrics;
+    this.eventLogger = eventLogger;
+    this.properties = properties;
+
+    Map<String, Integer> idsByPhrase = new HashMap<>();
+    ByteArrayOutputStream dictionaryBytes = new ByteArrayOutputStream();
+    for (int minuteOfDay = 0; minuteOfDay < entries.length; minuteOfDay++) {
+      String phrase = spokenTimeTable.get(minuteOfDay);
+      byte[] utf8 = phrase.getBytes(StandardCharsets.UTF_8);
+      if (utf8.length > MAX_PHRASE_BYTES) {
+        throw new IllegalStateException("Phrase too long for the binary protocol: " + phrase);
+      }
+      byte[] entry = new byte[utf8.length + 1];
+      entry[0] = (byte) utf8.length;
+      System.arraycopy(utf8, 0, entry, 1, utf8.length);
+      entries[minuteOfDay] = entry;
+
+      Integer id = idsByPhrase.get(phrase);
+      if (id == null) {
+        id = idsByPhrase.size();
+        idsByPhrase.put(phrase, id);
+        dictionaryBytes.writeBytes(entry);
+      }
+      phraseIds[minuteOfDay] = id;
+    }
+    dictionary = dictionaryBytes.toByteArray();
+  }
+
+  /**
+   * Checks the shape of a request before conversion.
+   *
+   * @param request the request body
+   * @param maxItems the most items the endpoint accepts
+   * @return null if the request can be converted, otherwise the reason it cannot
+   */
+  public String checkRequest(byte[] request, int maxItems) {
+    if (request.length == 0) {
+      return "Binary request must contain at least one time";
+    }
+    if (request.length % ITEM_BYTES != 0) {
+      return String.format("Binary request length must be a multiple of %d bytes: %d",
+          ITEM_BYTES, request.length);
+    }
+    int items = request.length / ITEM_BYTES;
+    if (items > maxItems) {
+      return maxItems == 1
+          ? "Binary request for /convert must contain exactly one time: " + items
+          : String.format("Batch size must not exceed %d times: %d", maxItems, items);
+    }
+    return null;
+  }
+
+  /**
+   * Gets the largest batch accepted, from {@code time.batch.max-size}.
+   *
+   * @return the maximum number of items per batch
+   */
+  public int maxBatchSize() {
+    return properties.getBatch().getMaxSize();
+  }
+
+  /**
+   * Converts every item of a request that passed {@link #checkRequest(byte[], int)}.
+   *
+   * @param request the request body
+   * @param format the response encoding
+   * @return the response body
+   */
+  public byte[] convert(byte[] request, BinaryFormat format) {
+    return encode(request, format).body();
+  }
+
+  /**
+   * Converts a batch request, timing it and logging a batch event like the JSON
+   * batch endpoint does.
+   *
+   * @param request the request body, checked with {@link #checkRequest(byte[], int)}
+   * @param format the response encoding
+   * @return the response body
+   */
+  public byte[] convertBatch(byte[] request, BinaryFormat format) {
+    long start = System.nanoTime();
+    Encoded response = encode(request, format);
+    metrics.recordBatch(start);
+    eventLogger.batch(request.length / ITEM_BYTES, response.invalid());
+    return response.body();
+  }
+
+  /**
+   * Returns the phrase dictionary that phrase IDs index into.
+   *
+   * @return every distinct phrase in ID order, in the phrases format
+   */
+  public byte[] dictionary() {
+    return dictionary.clone();
+  }
+
+  private Encoded encode(byte[] request, BinaryFormat format) {
+    return format == BinaryFormat.PHRASES ? toPhrases(request) : toPhraseIds(request);
+  }
+
+  private Encoded toPhrases(byte[] request) {
+    int size = 0;
+    for (int i = 0; i < request.length; i += ITEM_BYTES) {
+      size += entry(minuteOfDay(request, i)).length;
+    }
+
+    byte[] response = new byte[size];
+    int position = 0;
+    int invalid = 0;
+    for (int i = 0; i < request.length; i += ITEM_BYTES) {
+      int minuteOfDay = minuteOfDay(request, i);
+      byte[] entry = entry(minuteOfDay);
+      System.arraycopy(entry, 0, response, position, entry.length);
+      position += entry.length;
+      invalid += record(minuteOfDay);
+    }
+    return new Encoded(response, invalid);
+  }
+
+  private Encoded toPhraseIds(byte[] request) {
+    byte[] response = new byte[request.length];
+    int invalid = 0;
+    for (int i = 0; i < request.length; i += ITEM_BYTES) {
+      int minuteOfDay = minuteOfDay(request, i);
+      int id = minuteOfDay < phraseIds.length ? phraseIds[minuteOfDay] : INVALID_PHRASE_ID;
+      response[i] = (byte) (id >>> Byte.SIZE);
+      response[i + 1] = (byte) id;
+      invalid += record(minuteOfDay);
+    }
+    return new Encoded(response, invalid);
+  }
+
+  private byte[] entry(int minuteOfDay) {
+    return minuteOfDay < entries.length ? entries[minuteOfDay] : INVALID_ENTRY;
+  }
+
+  /**
+   * Counts one item in the metrics.
+   *
+   * @return 1 if the item was outside the day, otherwise 0
+   */
+  private int record(int minuteOfDay) {
+    if (minuteOfDay < entries.length) {
+      metrics.recordConversion(minuteOfDay);
+      return 0;
+    }
+    metrics.recordParseFailure(TimeParseError.OUT_OF_RANGE);
+    return 1;
+  }
+
+  private static int minuteOfDay(byte[] request, int offset) {
+    return (request[offset] & 0xFF) << Byte.SIZE | request[offset + 1] & 0xFF;
+  }
+
+  private record Encoded(byte[] body, int invalid) {
+  }
+}
@@ -0,0 +1,63 @@
+package com.britishspokentime.service.binary;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Response encodings of the binary conversion protocol.
+ */
+public enum BinaryFormat {
+
+  PHRASES(BinaryMediaTypes.PHRASES),
+  PHRASE_IDS(BinaryMediaTypes.PHRASE_IDS);
+
+  private final MediaType mediaType;
+
+  BinaryFormat(MediaType mediaType) {
+    this.mediaType = mediaType;
+  }
+
+  /**
+   * Gets the media type of responses in this format.
+   *
+   * @return the media type
+   */
+  public MediaType getMediaType() {
+    return mediaType;
+  }
+
+  /**
+   * Picks the format a client asked for: the binary response type of the preferred
+   * media range in its Accept header, or phrases if it accepts neither. Ranges are
+   * preferred by quality, then specificity, then header order, as Spring orders them
+   * for its own content negotiation; ranges with {@code q=0} are skipped.
+   *
+   * @param accept the values of the Accept header, none if it is absent
+   * @return the response format
+   * @throws InvalidMediaTypeException if the header cannot be parsed
+   */
+  public static BinaryFormat negotiate(List<String> accept) {
+    List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+    try {
+      MimeTypeUtils.sortBySpecificity(accepted);
+    } catch (InvalidMimeTypeException ex) {
+      // Thrown for headers with too many media ranges
+      throw new InvalidMediaTypeException(String.join(", ", accept), ex.getMessage());
+    }
+    for (MediaType mediaType : accepted) {
+      if (mediaType.getQualityValue() == 0) {
+        break;
+      }
+      for (BinaryFormat format : values()) {
+        if (mediaType.includes(format.mediaType)) {
+          return format;
+        }
+      }
+    }
+    return PHRASES;
+  }
+}
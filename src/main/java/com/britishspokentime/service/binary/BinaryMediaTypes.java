@@ -0,0 +1,33 @@
+package com.britishspokentime.service.binary;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Media types of the binary conversion protocol. The format of each is described
+ * on {@link BinaryConversionService}.
+ */
+public final class BinaryMediaTypes {
+
+  /**
+   * Request of unsigned 16-bit minute-of-day values.
+   */
+  public static final String MINUTES_VALUE = "application/vnd.spoken-time.minutes";
+
+  /**
+   * Response of length-prefixed UTF-8 phrases.
+   */
+  public static final String PHRASES_VALUE = "application/vnd.spoken-time.phrases";
+
+  /**
+   * Response of unsigned 16-bit phrase IDs.
+   */
+  public static final String PHRASE_IDS_VALUE = "application/vnd.spoken-time.phrase-ids";
+
+  public static final MediaType MINUTES = MediaType.parseMediaType(MINUTES_VALUE);
+  public static final MediaType PHRASES = MediaType.parseMediaType(PHRASES_VALUE);
+  public static final MediaType PHRASE_IDS = MediaType.parseMediaType(PHRASE_IDS_VALUE);
+
+  private BinaryMediaTypes() {
+    throw new UnsupportedOperationException("Utility class");
+  }
+}
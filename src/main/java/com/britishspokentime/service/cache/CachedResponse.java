@@ -0,0 +1,11 @@
+package com.britishspokentime.service.cache;
+
+/**
+ * A response body encoded once together with its strong entity tag.
+ *
+ * @param body the UTF-8 JSON body
+ * @param etag the quoted strong entity tag of the body
+ * @param minuteOfDay the minute of the day the response is for
+ */
+public record CachedResponse(byte[] body, String etag, int minuteOfDay) {
+}
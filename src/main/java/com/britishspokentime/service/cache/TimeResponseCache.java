@@ -0,0 +1,172 @@
+package com.britishspokentime.service.cache;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.dto.TimeResponse;
+import com.britishspokentime.service.table.SpokenTimeTable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of ready-encoded JSON {@link TimeResponse} bodies.
+ * The response for a given input never changes, so every input accepted by the
+ * request pattern (all 1440 zero-padded HH:mm forms plus the unpadded H:mm forms
+ * for hours 0-9) is serialized once at startup and served as raw UTF-8 bytes,
+ * together with a strong entity tag for HTTP caching.
+ *
+ * <p>Entity tags are kept even when the cache is disabled. They are derived from the
+ * minute of day, whether the hour was zero-padded and a digest of every spoken form,
+ * so a conditional request can be answered before anything is converted.
+ */
+@Component
+public class TimeResponseCache {
+
+  private static final int SINGLE_DIGIT_HOURS = 10;
+  private static final int ETAG_BYTES = 8;
+
+  private static final int PADDED_LENGTH = 5;
+
+  private final Encoder encoder;
+  private final String[] paddedEtags = new String[TimeConstants.MINUTES_IN_DAY];
+  private final String[] unpaddedEtags =
+      new String[SINGLE_DIGIT_HOURS * TimeConstants.MINUTES_IN_HOUR];
+  private final Map<String, CachedResponse> responses;
+
+  /**
+   * Serializes a response body.
+   */
+  @FunctionalInterface
+  public interface Encoder {
+
+    /**
+     * Encodes a response as UTF-8 JSON.
+     *
+     * @param response the response to encode
+     * @return the JSON bytes
+     * @throws IOException if the response cannot be serialized
+     */
+    byte[] encode(TimeResponse response) throws IOException;
+  }
+
+  /**
+   * Serializes the response for every accepted input with Jackson.
+   *
+   * @param table the precomputed spoken forms
+   * @param objectMapper the mapper used for regular responses, so bytes are identical
+   * @param properties application properties; the cache stays empty when disabled
+   * @throws IllegalStateException if a response cannot be serialized
+   */
+  @Autowired
+  public TimeResponseCache(SpokenTimeTable table, ObjectMapper objectMapper,
+      TimeProperties properties) {
+    this(table, objectMapper::writeValueAsBytes, properties);
+  }
+
+  /**
+   * Serializes the response for every accepted input with the given encoder.
+   *
+   * @param table the precomputed spoken forms
+   * @param encoder the encoder used for regular responses, so bytes are identical
+   * @param properties application properties; the cache stays empty when disabled
+   * @throws IllegalStateException if a response cannot be serialized
+   */
+  public TimeResponseCache(SpokenTimeTable table, Encoder encoder, TimeProperties properties) {
+    this.encoder = encoder;
+    String digest = digest(table);
+    for (int minuteOfDay = 0; minuteOfDay < paddedEtags.length; minuteOfDay++) {
+      int hour = minuteOfDay / TimeConstants.MINUTES_IN_HOUR;
+      int minute = minuteOfDay % TimeConstants.MINUTES_IN_HOUR;
+      paddedEtags[minuteOfDay] = String.format("\"%s-%02d%02d\"", digest, hour, minute);
+      if (minuteOfDay < unpaddedEtags.length) {
+        unpaddedEtags[minuteOfDay] = String.format("\"%s-%d%02d\"", digest, hour, minute);
+      }
+    }
+    if (!properties.getResponseCache().isEnabled()) {
+      responses = Collections.emptyMap();
+      return;
+    }
+
+    Map<String, CachedResponse> encoded = new HashMap<>();
+    for (int minuteOfDay = 0; minuteOfDay < table.size(); minuteOfDay++) {
+      int hour = minuteOfDay / TimeConstants.MINUTES_IN_HOUR;
+      int minute = minuteOfDay % TimeConstants.MINUTES_IN_HOUR;
+      String spokenForm = table.get(minuteOfDay);
+
+      String padded = String.format("%02d:%02d", hour, minute);
+      encoded.put(padded, encode(new TimeResponse(padded, spokenForm), minuteOfDay));
+      if (hour < SINGLE_DIGIT_HOURS) {
+        String unpadded = String.format("%d:%02d", hour, minute);
+        encoded.put(unpadded,
+            encode(new TimeResponse(unpadded, spokenForm), minuteOfDay));
+      }
+    }
+    responses = Map.copyOf(encoded);
+  }
+
+  /**
+   * Gets the encoded response for the given input.
+   *
+   * @param time the time exactly as received in the request
+   * @return the encoded response, or null if the input is not cached
+   */
+  public CachedResponse get(String time) {
+    return time == null ? null : responses.get(time);
+  }
+
+  /**
+   * Returns the number of cached responses.
+   *
+   * @return the cache size
+   */
+  public int size() {
+    return responses.size();
+  }
+
+  /**
+   * Returns the entity tag of the response to an accepted input without converting
+   * it. Equal to the tag of the cached entry when there is one.
+   *
+   * @param time the time exactly as received, accepted by the parser
+   * @param minuteOfDay the minute of the day it was parsed to
+   * @return the quoted strong entity tag
+   */
+  public String etag(String time, int minuteOfDay) {
+    return time.length() == PADDED_LENGTH
+        ? paddedEtags[minuteOfDay] : unpaddedEtags[minuteOfDay];
+  }
+
+  private CachedResponse encode(TimeResponse response, int minuteOfDay) {
+    try {
+      return new CachedResponse(encoder.encode(response),
+          etag(response.getTime(), minuteOfDay), minuteOfDay);
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          "Could not encode response for time: " + response.getTime(), e);
+    }
+  }
+
+  /**
+   * Digests every spoken form, so entity tags change whenever a phrase does.
+   */
+  private static String digest(SpokenTimeTable table) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      for (int minuteOfDay = 0; minuteOfDay < table.size(); minuteOfDay++) {
+        digest.update(table.get(minuteOfDay).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+      }
+      return HexFormat.of().formatHex(digest.digest(), 0, ETAG_BYTES);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
@@ -1,21 +1,73 @@
 package com.britishspokentime.service.factory;
 
+import com.britishspokentime.constants.TimeConstants;
 import com.britishspokentime.domain.Time;
 import com.britishspokentime.service.strategy.TimeFormatStrategy;
+import com.britishspokentime.service.strategy.impl.HalfPastStrategy;
+import com.britishspokentime.service.strategy.impl.MidnightStrategy;
+import com.britishspokentime.service.strategy.impl.MinutesPastStrategy;
+import com.britishspokentime.service.strategy.impl.MinutesToStrategy;
+import com.britishspokentime.service.strategy.impl.NoonStrategy;
+import com.britishspokentime.service.strategy.impl.OclockStrategy;
+import com.britishspokentime.service.strategy.impl.QuarterPastStrategy;
+import com.britishspokentime.service.strategy.impl.QuarterToStrategy;
+import com.britishspokentime.service.strategy.impl.SpecialMinutesStrategy;
+import com.britishspokentime.service.util.NumberToWordConverter;
 import java.util.Comparator;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 /**
  * Factory for selecting the appropriate time formatting strategy.
  * Implements the Factory Pattern to encapsulate strategy selection logic.
+ *
+ * <p>Strategy selection is fully determined by the input, so the factory resolves
+ * the strategy for every minute of the day when it is created and serves valid
+ * times from a flat dispatch table. Construction fails fast if any minute has no
+ * matching strategy or is claimed by two strategies sharing a priority.
  */
 @Component
-@RequiredArgsConstructor
 public class TimeFormatStrategyFactory {
 
   private final List<TimeFormatStrategy> strategies;
+  private final TimeFormatStrategy[] dispatch =
+      new TimeFormatStrategy[TimeConstants.MINUTES_IN_DAY];
+
+  /**
+   * Creates the factory and compiles the dispatch table.
+   *
+   * @param strategies the available formatting strategies
+   * @throws IllegalStateException if the strategies leave a minute uncovered or
+   *     two strategies with the same priority overlap
+   */
+  public TimeFormatStrategyFactory(List<TimeFormatStrategy> strategies) {
+    this.strategies = strategies.stream()
+        .sorted(Comparator.comparingInt(TimeFormatStrategy::getPriority))
+        .toList();
+    for (int minuteOfDay = 0; minuteOfDay < dispatch.length; minuteOfDay++) {
+      dispatch[minuteOfDay] = resolve(Time.ofMinuteOfDay(minuteOfDay));
+    }
+  }
+
+  /**
+   * Creates a factory over the standard strategies, for code that runs without
+   * Spring. The Spring application collects the same strategies as beans.
+   *
+   * @return the factory
+   */
+  public static TimeFormatStrategyFactory standard() {
+    NumberToWordConverter words = new NumberToWordConverter();
+    return new TimeFormatStrategyFactory(List.of(
+        new MidnightStrategy(),
+        new NoonStrategy(),
+        new OclockStrategy(words),
+        new QuarterPastStrategy(words),
+        new HalfPastStrategy(words),
+        new QuarterToStrategy(words),
+        new MinutesPastStrategy(words),
+        new SpecialMinutesStrategy(words),
+        new MinutesToStrategy(words)));
+  }
 
   /**
    * Selects the appropriate strategy for formatting the given time.
@@ -26,11 +78,50 @@ public class TimeFormatStrategyFactory {
    * @throws IllegalStateException if no strategy can handle the time
    */
   public TimeFormatStrategy getStrategy(Time time) {
+    if (time.isValid()) {
+      return dispatch[time.getMinuteOfDay()];
+    }
     return strategies.stream()
-        .sorted(Comparator.comparingInt(TimeFormatStrategy::getPriority))
         .filter(strategy -> strategy.canHandle(time))
         .findFirst()
         .orElseThrow(() -> new IllegalStateException(
             "No strategy found to handle time: " + time));
   }
+
+  /**
+   * Selects the strategy for the given minute of the day.
+   *
+   * @param minuteOfDay minutes since midnight (0-1439)
+   * @return the selected strategy
+   * @throws IllegalArgumentException if minuteOfDay is outside the day
+   */
+  public TimeFormatStrategy getStrategy(int minuteOfDay) {
+    if (minuteOfDay < 0 || minuteOfDay >= dispatch.length) {
+      throw new IllegalArgumentException("Invalid minute of day: " + minuteOfDay);
+    }
+    return dispatch[minuteOfDay];
+  }
+
+  private TimeFormatStrategy resolve(Time time) {
+    TimeFormatStrategy selected = null;
+    for (TimeFormatStrategy strategy : strategies) {
+      if (selected != null && strategy.getPriority() != selected.getPriority()) {
+        break;
+      }
+      if (!strategy.canHandle(time)) {
+        continue;
+      }
+      if (selected != null) {
+        throw new IllegalStateException(String.format(
+            "Strategies %s and %s share priority %d and both handle time: %s",
+            selected.getClass().getSimpleName(), strategy.getClass().getSimpleName(),
+            strategy.getPriority(), time));
+      }
+      selected = strategy;
+    }
+    if (selected == null) {
+      throw new IllegalStateException("No strategy found to handle time: " + time);
+    }
+    return selected;
+  }
 }
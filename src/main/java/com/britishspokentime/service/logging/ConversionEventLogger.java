@@ -0,0 +1,170 @@
+package com.britishspokentime.service.logging;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.domain.TimeParseError;
+import com.britishspokentime.service.factory.TimeFormatStrategyFactory;
+import com.britishspokentime.service.metrics.ConversionMetrics;
+import com.britishspokentime.service.table.SpokenTimeTable;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Structured, sampled conversion events.
+ *
+ * <p>Events are written to the {@code com.britishspokentime.events} logger as a
+ * message plus key/value pairs, so they render as {@code key=value} in the console
+ * pattern and as fields with structured logging. Each event type is logged for one
+ * call in its configured sampling rate; unsampled calls cost a random number and a
+ * comparison. Totals are not derived from the samples: a periodic summary reports
+ * the exact conversions per strategy and parse failures per reason since the
+ * previous summary, read from {@link ConversionMetrics}.
+ */
+@Component
+@Slf4j(topic = "com.britishspokentime.events")
+public class ConversionEventLogger {
+
+  private static final String EVENT = "event";
+
+  private final SpokenTimeTable spokenTimeTable;
+  private final TimeFormatStrategyFactory strategyFactory;
+  private final ConversionMetrics metrics;
+  private final int conversionRate;
+  private final int parseFailureRate;
+  private final int batchRate;
+
+  private final Map<String, Long> lastConversions = new HashMap<>();
+  private final Map<TimeParseError, Long> lastParseFailures = new HashMap<>();
+
+  /**
+   * Creates the logger with the configured sampling rates.
+   *
+   * @param spokenTimeTable table used to render the phrase of sampled conversions
+   * @param strategyFactory factory used to name the strategy of sampled conversions
+   * @param metrics source of the exact totals reported in summaries
+   * @param properties application properties providing the sampling rates
+   */
+  public ConversionEventLogger(SpokenTimeTable spokenTimeTable,
+      TimeFormatStrategyFactory strategyFactory, ConversionMetrics metrics,
+      TimeProperties properties) {
+    this.spokenTimeTable = spokenTimeTable;
+    this.strategyFactory = strategyFactory;
+    this.metrics = metrics;
+    TimeProperties.Logging.Sampling sampling = properties.getLogging().getSampling();
+    this.conversionRate = sampling.getConversion();
+    this.parseFailureRate = sampling.getParseFailure();
+    this.batchRate = sampling.getBatch();
+  }
+
+  /**
+   * Logs a successful conversion if this call is sampled.
+   *
+   * @param time the time exactly as received
+   * @param minuteOfDay the converted minute of the day
+   */
+  public void conversion(String time, int minuteOfDay) {
+    if (!sampled(conversionRate)) {
+      return;
+    }
+    log.atInfo()
+        .setMessage("time conversion")
+        .addKeyValue(EVENT, "conversion")
+        .addKeyValue("time", time)
+        .addKeyValue("minuteOfDay", minuteOfDay)
+        .addKeyValue("strategy",
+            strategyFactory.getStrategy(minuteOfDay).getClass().getSimpleName())
+        .addKeyValue("spokenForm", spokenTimeTable.get(minuteOfDay))
+        .log();
+  }
+
+  /**
+   * Logs a rejected input if this call is sampled.
+   *
+   * @param time the time exactly as received
+   * @param error the reason the input was rejected
+   */
+  public void parseFailure(String time, TimeParseError error) {
+    if (!sampled(parseFailureRate)) {
+      return;
+    }
+    log.atInfo()
+        .setMessage("time parse failure")
+        .addKeyValue(EVENT, "parse-failure")
+        .addKeyValue("time", time)
+        .addKeyValue("reason", reason(error))
+        .log();
+  }
+
+  /**
+   * Logs a completed batch if this call is sampled.
+   *
+   * @param size the number of times in the batch
+   * @param failures the number of items that could not be converted
+   */
+  public void batch(int size, int failures) {
+    if (!sampled(batchRate)) {
+      return;
+    }
+    log.atInfo()
+        .setMessage("time batch")
+        .addKeyValue(EVENT, "batch")
+        .addKeyValue("size", size)
+        .addKeyValue("failures", failures)
+        .log();
+  }
+
+  /**
+   * Logs the conversions per strategy and parse failures per reason since the
+   * previous summary. Nothing is logged for an idle interval.
+   */
+  @Scheduled(fixedRateString = "${time.logging.summary-interval:1m}",
+      initialDelayString = "${time.logging.summary-interval:1m}")
+  public synchronized void summary() {
+    Map<String, Long> conversions = metrics.conversionsByStrategy();
+    Map<TimeParseError, Long> parseFailures = metrics.parseFailuresByError();
+
+    LoggingEventBuilder event = log.atInfo()
+        .setMessage("time conversion summary")
+        .addKeyValue(EVENT, "summary");
+    long total = 0;
+    for (Map.Entry<String, Long> entry : conversions.entrySet()) {
+      long delta = entry.getValue() - lastConversions.getOrDefault(entry.getKey(), 0L);
+      total += delta;
+      if (delta > 0) {
+        event.addKeyValue("strategy." + entry.getKey(), delta);
+      }
+    }
+    long failures = 0;
+    for (Map.Entry<TimeParseError, Long> entry : parseFailures.entrySet()) {
+      long delta = entry.getValue() - lastParseFailures.getOrDefault(entry.getKey(), 0L);
+      failures += delta;
+      if (delta > 0) {
+        event.addKeyValue("parseFailures." + reason(entry.getKey()), delta);
+      }
+    }
+    lastConversions.putAll(conversions);
+    lastParseFailures.putAll(parseFailures);
+
+    if (total > 0 || failures > 0) {
+      event.addKeyValue("conversions", total)
+          .addKeyValue("parseFailures", failures)
+          .log();
+    }
+  }
+
+  private static boolean sampled(int rate) {
+    if (rate <= 0 || !log.isInfoEnabled()) {
+      return false;
+    }
+    return rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0;
+  }
+
+  private static String reason(TimeParseError error) {
+    return error.name().toLowerCase(Locale.ROOT);
+  }
+}
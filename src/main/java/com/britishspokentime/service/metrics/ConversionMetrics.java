@@ -0,0 +1,190 @@
+package com.britishspokentime.service.metrics;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.domain.TimeParseError;
+import com.britishspokentime.service.factory.TimeFormatStrategyFactory;
+import com.britishspokentime.service.strategy.TimeFormatStrategy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Micrometer instrumentation for the conversion pipeline.
+ *
+ * <p>The conversion itself takes nanoseconds, so recording must cost about as much
+ * as an uncontended increment. Counts are kept in {@link LongAdder}s indexed by
+ * minute of the day or parse error and read by {@link FunctionCounter}s only when
+ * the registry is scraped. Single conversions are timed for one call in
+ * {@code time.metrics.timer-sample-rate}; the percentile timer is far more
+ * expensive than the conversion and a sample gives the same distribution.
+ */
+@Component
+public class ConversionMetrics {
+
+  /** Counter of conversions, tagged by the strategy that produced the phrase. */
+  public static final String CONVERSIONS = "time.conversions";
+
+  /** Counter of rejected inputs, tagged by the reason. */
+  public static final String PARSE_FAILURES = "time.parse.failures";
+
+  /** Timer of conversion requests, cached or not, tagged by operation. */
+  public static final String REQUESTS = "time.conversion.requests";
+
+  /** Start value returned for calls that are not sampled. */
+  static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+  private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+  private final LongAdder[] conversionsByMinute = new LongAdder[TimeConstants.MINUTES_IN_DAY];
+  private final LongAdder[] parseFailuresByError = new LongAdder[TimeParseError.values().length];
+  private final Map<String, LongAdder> conversionsByStrategy = new LinkedHashMap<>();
+  private final int sampleMask;
+  private final Timer singleTimer;
+  private final Timer batchTimer;
+
+  /**
+   * Registers all meters.
+   *
+   * @param registry the registry to publish to
+   * @param strategyFactory factory used to map each minute of the day to its strategy
+   * @param properties application properties providing the timer sample rate
+   * @throws IllegalStateException if the sample rate is not a positive power of two
+   */
+  public ConversionMetrics(MeterRegistry registry, TimeFormatStrategyFactory strategyFactory,
+      TimeProperties properties) {
+    int sampleRate = properties.getMetrics().getTimerSampleRate();
+    if (sampleRate <= 0 || Integer.bitCount(sampleRate) != 1) {
+      throw new IllegalStateException(
+          "Timer sample rate must be a positive power of two: " + sampleRate);
+    }
+    this.sampleMask = sampleRate - 1;
+
+    Map<TimeFormatStrategy, LongAdder> byStrategy = new HashMap<>();
+    for (int minuteOfDay = 0; minuteOfDay < conversionsByMinute.length; minuteOfDay++) {
+      conversionsByMinute[minuteOfDay] = byStrategy.computeIfAbsent(
+          strategyFactory.getStrategy(minuteOfDay), strategy -> {
+            String name = strategy.getClass().getSimpleName();
+            LongAdder adder = counter(registry, CONVERSIONS,
+                "Times converted, by formatting strategy", "strategy", name);
+            conversionsByStrategy.put(name, adder);
+            return adder;
+          });
+    }
+    for (TimeParseError error : TimeParseError.values()) {
+      parseFailuresByError[error.ordinal()] = counter(registry, PARSE_FAILURES,
+          "Time inputs rejected by the parser, by reason",
+          "reason", error.name().toLowerCase(Locale.ROOT));
+    }
+    singleTimer = timer(registry, "single");
+    batchTimer = timer(registry, "batch");
+  }
+
+  /**
+   * Counts a conversion of the given minute against its strategy.
+   *
+   * @param minuteOfDay minutes since midnight (0-1439)
+   */
+  public void recordConversion(int minuteOfDay) {
+    conversionsByMinute[minuteOfDay].increment();
+  }
+
+  /**
+   * Counts a rejected input.
+   *
+   * @param error the reason the input was rejected
+   */
+  public void recordParseFailure(TimeParseError error) {
+    parseFailuresByError[error.ordinal()].increment();
+  }
+
+  /**
+   * Counts a rejected input by its parser error code.
+   *
+   * @param code the negative code returned by the parser
+   */
+  public void recordParseFailure(int code) {
+    recordParseFailure(TimeParseError.fromCode(code));
+  }
+
+  /**
+   * Starts timing a single conversion if this call is sampled.
+   *
+   * @return the start time to pass to {@link #recordSingle(long)}
+   */
+  public long startSingle() {
+    return (ThreadLocalRandom.current().nextInt() & sampleMask) == 0
+        ? System.nanoTime() : NOT_SAMPLED;
+  }
+
+  /**
+   * Records the duration of a single conversion started with {@link #startSingle()}.
+   * Does nothing for calls that were not sampled.
+   *
+   * @param start the value returned by {@link #startSingle()}
+   */
+  public void recordSingle(long start) {
+    if (start != NOT_SAMPLED) {
+      singleTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Records the duration of a batch conversion. Every batch is timed.
+   *
+   * @param startNanos the {@link System#nanoTime()} value taken when the batch started
+   */
+  public void recordBatch(long startNanos) {
+    batchTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Returns the current conversion totals.
+   *
+   * @return conversions so far by strategy simple name, in order of first use in the day
+   */
+  public Map<String, Long> conversionsByStrategy() {
+    Map<String, Long> totals = new LinkedHashMap<>();
+    conversionsByStrategy.forEach((strategy, adder) -> totals.put(strategy, adder.sum()));
+    return totals;
+  }
+
+  /**
+   * Returns the current parse failure totals.
+   *
+   * @return rejected inputs so far by reason
+   */
+  public Map<TimeParseError, Long> parseFailuresByError() {
+    Map<TimeParseError, Long> totals = new LinkedHashMap<>();
+    for (TimeParseError error : TimeParseError.values()) {
+      totals.put(error, parseFailuresByError[error.ordinal()].sum());
+    }
+    return totals;
+  }
+
+  private static LongAdder counter(MeterRegistry registry, String name, String description,
+      String tagKey, String tagValue) {
+    LongAdder adder = new LongAdder();
+    FunctionCounter.builder(name, adder, LongAdder::doubleValue)
+        .description(description)
+        .tag(tagKey, tagValue)
+        .register(registry);
+    return adder;
+  }
+
+  private static Timer timer(MeterRegistry registry, String operation) {
+    return Timer.builder(REQUESTS)
+        .description("Conversion requests")
+        .tag("operation", operation)
+        .publishPercentiles(PERCENTILES)
+        .register(registry);
+  }
+}
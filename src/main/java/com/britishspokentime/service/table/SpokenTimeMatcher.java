@@ -0,0 +1,214 @@
+package com.britishspokentime.service.table;
+
+import com.britishspokentime.domain.SpokenMatch;
+import com.britishspokentime.domain.Time;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fuzzy reverse lookup of spoken times, for noisy text such as speech-recognition
+ * output ("quater past too", "twenty-five past three").
+ *
+ * <p>The input is split into words at whitespace, hyphens and other punctuation.
+ * Each word is corrected against the vocabulary of the spoken forms with a
+ * {@link WordBkTree}, which yields every vocabulary word within the edit budget.
+ * The corrected words are then followed through a word-level trie of the phrases,
+ * so only sequences that are actual spoken forms are explored and the budget,
+ * shared by the whole phrase, prunes the rest. Words must line up one to one:
+ * a phrase with a word missing, added, merged or split does not match.
+ *
+ * <p>Like {@link SpokenTimeTrie}, a phrase naming two times twelve hours apart
+ * resolves to the earlier one.
+ */
+final class SpokenTimeMatcher {
+
+  private static final int ROOT = 0;
+  private static final int NO_NODE = 0;
+  private static final int NO_VALUE = -1;
+  private static final char SPACE = ' ';
+  private static final char APOSTROPHE = '\'';
+  private static final char TYPOGRAPHIC_APOSTROPHE = '’';
+  private static final int ASCII = 128;
+
+  private static final Comparator<SpokenMatch> BEST_FIRST =
+      Comparator.comparingInt(SpokenMatch::distance)
+          .thenComparingInt(match -> match.time().getMinuteOfDay());
+
+  private final String[] phrases;
+  private final WordBkTree vocabulary;
+  private final int longestPhrase;
+  private final int[] transitions;
+  private final short[] minuteOfDay;
+
+  /**
+   * Indexes the spoken forms.
+   *
+   * @param phrases the spoken form of each minute of the day, indexed by minute, with
+   *     words separated by single spaces
+   */
+  SpokenTimeMatcher(String[] phrases) {
+    this.phrases = phrases;
+    Map<String, Integer> wordIds = new LinkedHashMap<>();
+    String[][] words = new String[phrases.length][];
+    int nodes = 1;
+    int longest = 0;
+    for (int minute = 0; minute < phrases.length; minute++) {
+      words[minute] = phrases[minute].split(String.valueOf(SPACE));
+      for (String word : words[minute]) {
+        wordIds.putIfAbsent(word, wordIds.size());
+      }
+      nodes += words[minute].length;
+      longest = Math.max(longest, words[minute].length);
+    }
+    longestPhrase = longest;
+    vocabulary = new WordBkTree(wordIds.keySet().toArray(String[]::new));
+
+    // Sized for a trie without shared prefixes, then trimmed
+    int alphabetSize = wordIds.size();
+    int[] table = new int[nodes * alphabetSize];
+    short[] values = new short[nodes];
+    Arrays.fill(values, (short) NO_VALUE);
+    int used = 1;
+    for (int minute = 0; minute < phrases.length; minute++) {
+      int node = ROOT;
+      for (String word : words[minute]) {
+        int slot = node * alphabetSize + wordIds.get(word);
+        if (table[slot] == NO_NODE) {
+          table[slot] = used++;
+        }
+        node = table[slot];
+      }
+      if (values[node] == NO_VALUE) {
+        values[node] = (short) minute;
+      }
+    }
+    transitions = Arrays.copyOf(table, used * alphabetSize);
+    minuteOfDay = Arrays.copyOf(values, used);
+  }
+
+  /**
+   * Finds the spoken forms within an edit distance of some text.
+   *
+   * @param text the noisy spoken time
+   * @param maxDistance the most character edits allowed, summed over the words
+   * @return the matches, closest first and then by time; empty if the text is blank
+   *     or nothing is close enough
+   * @throws IllegalArgumentException if maxDistance is negative
+   */
+  List<SpokenMatch> match(CharSequence text, int maxDistance) {
+    if (maxDistance < 0) {
+      throw new IllegalArgumentException(
+          "Maximum edit distance must not be negative: " + maxDistance);
+    }
+    if (text == null) {
+      return List.of();
+    }
+
+    // Lower-case the words into one buffer, giving up once there are too many
+    char[] letters = new char[text.length()];
+    int[] starts = new int[longestPhrase];
+    int[] ends = new int[longestPhrase];
+    int tokens = 0;
+    int length = 0;
+    boolean inWord = false;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (isSeparator(c)) {
+        if (inWord) {
+          ends[tokens++] = length;
+          inWord = false;
+        }
+        continue;
+      }
+      if (!inWord) {
+        if (tokens == longestPhrase) {
+          return List.of();
+        }
+        starts[tokens] = length;
+        inWord = true;
+      }
+      letters[length++] = normalize(c);
+    }
+    if (inWord) {
+      ends[tokens++] = length;
+    }
+    if (tokens == 0) {
+      return List.of();
+    }
+
+    Candidates candidates = new Candidates(tokens, vocabulary.size());
+    for (int token = 0; token < tokens; token++) {
+      int found = vocabulary.search(letters, starts[token], ends[token], maxDistance,
+          candidates.words[token], candidates.distances[token]);
+      if (found == 0) {
+        return List.of();
+      }
+      candidates.counts[token] = found;
+    }
+
+    List<SpokenMatch> matches = new ArrayList<>();
+    collect(candidates, 0, ROOT, 0, maxDistance, matches);
+    matches.sort(BEST_FIRST);
+    return matches;
+  }
+
+  /**
+   * Follows every candidate of the given word from a trie node without exceeding the
+   * budget, and records the phrases reached after the last word.
+   */
+  private void collect(Candidates candidates, int token, int node, int spent,
+      int maxDistance, List<SpokenMatch> matches) {
+    if (token == candidates.counts.length) {
+      if (minuteOfDay[node] != NO_VALUE) {
+        matches.add(toMatch(minuteOfDay[node], spent));
+      }
+      return;
+    }
+    int alphabetSize = vocabulary.size();
+    for (int i = 0; i < candidates.counts[token]; i++) {
+      int distance = spent + candidates.distances[token][i];
+      int next = transitions[node * alphabetSize + candidates.words[token][i]];
+      if (distance <= maxDistance && next != NO_NODE) {
+        collect(candidates, token + 1, next, distance, maxDistance, matches);
+      }
+    }
+  }
+
+  private SpokenMatch toMatch(int minute, int distance) {
+    String phrase = phrases[minute];
+    double confidence = Math.max(0.0, 1.0 - (double) distance / phrase.length());
+    return new SpokenMatch(Time.ofMinuteOfDay(minute), phrase, distance, confidence);
+  }
+
+  private static boolean isSeparator(char c) {
+    return Character.isWhitespace(c)
+        || (c < ASCII && c != APOSTROPHE && !Character.isLetterOrDigit(c));
+  }
+
+  private static char normalize(char c) {
+    if (c >= 'A' && c <= 'Z') {
+      return (char) (c + ('a' - 'A'));
+    }
+    return c == TYPOGRAPHIC_APOSTROPHE ? APOSTROPHE : c;
+  }
+
+  /**
+   * Vocabulary words within the edit budget of each input word.
+   */
+  private static final class Candidates {
+
+    final int[] counts;
+    final int[][] words;
+    final int[][] distances;
+
+    Candidates(int tokens, int vocabularySize) {
+      counts = new int[tokens];
+      words = new int[tokens][vocabularySize];
+      distances = new int[tokens][vocabularySize];
+    }
+  }
+}
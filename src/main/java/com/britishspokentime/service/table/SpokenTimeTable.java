@@ -0,0 +1,89 @@
+package com.britishspokentime.service.table;
+
+import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.domain.SpokenMatch;
+import com.britishspokentime.domain.Time;
+import com.britishspokentime.service.factory.TimeFormatStrategyFactory;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Precomputed spoken forms for every minute of the day.
+ * The table is rendered once at startup with the regular formatting strategies,
+ * so lookups are a single array access and allocate nothing. Spoken forms are read
+ * back through a {@link SpokenTimeTrie} compiled from the same phrases, so every
+ * phrase in the table round-trips, and noisy text is matched against them by a
+ * {@link SpokenTimeMatcher}.
+ */
+@Component
+public class SpokenTimeTable {
+
+  private final String[] phrases = new String[TimeConstants.MINUTES_IN_DAY];
+  private final SpokenTimeTrie trie;
+  private final SpokenTimeMatcher matcher;
+
+  /**
+   * Renders the table using the strategies known to the factory.
+   *
+   * @param strategyFactory factory used to format each minute of the day
+   */
+  public SpokenTimeTable(TimeFormatStrategyFactory strategyFactory) {
+    for (int minuteOfDay = 0; minuteOfDay < phrases.length; minuteOfDay++) {
+      Time time = Time.ofMinuteOfDay(minuteOfDay);
+      phrases[minuteOfDay] = strategyFactory.getStrategy(time).format(time);
+    }
+    trie = new SpokenTimeTrie(phrases);
+    matcher = new SpokenTimeMatcher(phrases);
+  }
+
+  /**
+   * Gets the spoken form for the given minute of the day.
+   *
+   * @param minuteOfDay minutes since midnight (0-1439)
+   * @return the British spoken form
+   * @throws IllegalArgumentException if minuteOfDay is outside the day
+   */
+  public String get(int minuteOfDay) {
+    if (minuteOfDay < 0 || minuteOfDay >= phrases.length) {
+      throw new IllegalArgumentException("Invalid minute of day: " + minuteOfDay);
+    }
+    return phrases[minuteOfDay];
+  }
+
+  /**
+   * Reads a spoken form back to its minute of the day, ignoring case and surrounding
+   * whitespace. Twelve-hour phrases resolve to the morning reading (00:00-11:59);
+   * the afternoon reading is 720 minutes later.
+   *
+   * @param spokenForm the spoken form, e.g. "quarter to nine"
+   * @return minutes since midnight, or a negative
+   *     {@link com.britishspokentime.domain.TimeParseError} code if the text is blank
+   *     or not a spoken form
+   */
+  public int minuteOfDay(CharSequence spokenForm) {
+    return trie.parse(spokenForm);
+  }
+
+  /**
+   * Finds the spoken forms closest to noisy text, such as speech-recognition output,
+   * word by word. Twelve-hour phrases resolve to the morning reading, as in
+   * {@link #minuteOfDay(CharSequence)}.
+   *
+   * @param text the noisy spoken time, e.g. "quater past too"
+   * @param maxDistance the most character edits allowed, summed over the words
+   * @return the spoken forms within maxDistance, closest first
+   * @throws IllegalArgumentException if maxDistance is negative
+   */
+  public List<SpokenMatch> match(CharSequence text, int maxDistance) {
+    return matcher.match(text, maxDistance);
+  }
+
+  /**
+   * Returns the number of entries in the table.
+   *
+   * @return the table size (one entry per minute of the day)
+   */
+  public int size() {
+    return phrases.length;
+  }
+}
@@ -0,0 +1,150 @@
+package com.britishspokentime.service.table;
+
+import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.domain.TimeParseError;
+import java.util.Arrays;
+
+/**
+ * Character trie compiled from the spoken forms of every minute of the day, for
+ * reading spoken times back.
+ *
+ * <p>Nodes are rows of a dense transition table indexed by symbol, where the
+ * symbols are the characters that occur in the phrases. Parsing follows one
+ * transition per input character, so it takes linear time and allocates nothing.
+ * Letters are matched case-insensitively, surrounding whitespace is ignored, a run
+ * of whitespace matches one space and a typographic apostrophe matches {@code '}.
+ *
+ * <p>Spoken forms use a twelve-hour clock, so every phrase but "midnight" and "noon"
+ * names two minutes of the day twelve hours apart. The trie resolves such a phrase
+ * to the earlier one, between 00:00 and 11:59; add 720 minutes for the afternoon
+ * reading.
+ */
+final class SpokenTimeTrie {
+
+  private static final int ROOT = 0;
+  private static final int NO_NODE = 0;
+  private static final int NO_VALUE = -1;
+  private static final int ASCII = 128;
+  private static final char SPACE = ' ';
+  private static final char APOSTROPHE = '\'';
+  private static final char TYPOGRAPHIC_APOSTROPHE = '’';
+
+  private final byte[] symbols = new byte[ASCII];
+  private final int alphabetSize;
+  private final int[] transitions;
+  private final short[] minuteOfDay;
+
+  /**
+   * Compiles the trie.
+   *
+   * @param phrases the spoken form of each minute of the day, indexed by minute
+   * @throws IllegalStateException if a phrase is not lower-case ASCII, or names two
+   *     minutes that are not twelve hours apart
+   */
+  SpokenTimeTrie(String[] phrases) {
+    Arrays.fill(symbols, (byte) -1);
+    int alphabet = 0;
+    int nodes = 1;
+    for (String phrase : phrases) {
+      for (int i = 0; i < phrase.length(); i++) {
+        char c = phrase.charAt(i);
+        if (c >= ASCII || Character.isUpperCase(c)) {
+          throw new IllegalStateException("Unsupported character in spoken form: " + phrase);
+        }
+        if (symbols[c] < 0) {
+          symbols[c] = (byte) alphabet++;
+        }
+      }
+      nodes += phrase.length();
+    }
+    alphabetSize = alphabet;
+
+    // Sized for a trie without shared prefixes, then trimmed
+    int[] table = new int[nodes * alphabetSize];
+    short[] values = new short[nodes];
+    Arrays.fill(values, (short) NO_VALUE);
+    int used = 1;
+    for (int minute = 0; minute < phrases.length; minute++) {
+      String phrase = phrases[minute];
+      int node = ROOT;
+      for (int i = 0; i < phrase.length(); i++) {
+        int slot = node * alphabetSize + symbols[phrase.charAt(i)];
+        if (table[slot] == NO_NODE) {
+          table[slot] = used++;
+        }
+        node = table[slot];
+      }
+      if (values[node] == NO_VALUE) {
+        values[node] = (short) minute;
+      } else if (minute - values[node] != TimeConstants.MINUTES_IN_DAY / 2) {
+        throw new IllegalStateException("Spoken form names unrelated times: " + phrase);
+      }
+    }
+    transitions = Arrays.copyOf(table, used * alphabetSize);
+    minuteOfDay = Arrays.copyOf(values, used);
+  }
+
+  /**
+   * Reads a spoken time.
+   *
+   * @param text the spoken form
+   * @return minutes since midnight, the morning reading for twelve-hour phrases, or
+   *     a negative {@link TimeParseError} code if the text is blank or not a spoken
+   *     form
+   */
+  int parse(CharSequence text) {
+    if (text == null) {
+      return TimeParseError.EMPTY.getCode();
+    }
+    int node = ROOT;
+    boolean space = false;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (Character.isWhitespace(c)) {
+        space = node != ROOT;
+        continue;
+      }
+      if (space) {
+        node = next(node, SPACE);
+        if (node == NO_NODE) {
+          return TimeParseError.UNKNOWN_PHRASE.getCode();
+        }
+        space = false;
+      }
+      node = next(node, c);
+      if (node == NO_NODE) {
+        return TimeParseError.UNKNOWN_PHRASE.getCode();
+      }
+    }
+    if (node == ROOT) {
+      return TimeParseError.EMPTY.getCode();
+    }
+    return minuteOfDay[node] >= 0 ? minuteOfDay[node] : TimeParseError.UNKNOWN_PHRASE.getCode();
+  }
+
+  /**
+   * Gets the number of nodes.
+   *
+   * @return the node count, including the root
+   */
+  int size() {
+    return minuteOfDay.length;
+  }
+
+  /**
+   * Follows the transition for a character, or returns {@link #NO_NODE} if there is
+   * none. The root has no incoming transitions, so 0 can mark a missing one.
+   */
+  private int next(int node, char c) {
+    char symbol = c;
+    if (c >= 'A' && c <= 'Z') {
+      symbol = (char) (c + ('a' - 'A'));
+    } else if (c == TYPOGRAPHIC_APOSTROPHE) {
+      symbol = APOSTROPHE;
+    }
+    if (symbol >= ASCII || symbols[symbol] < 0) {
+      return NO_NODE;
+    }
+    return transitions[node * alphabetSize + symbols[symbol]];
+  }
+}
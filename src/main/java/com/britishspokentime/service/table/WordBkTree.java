@@ -0,0 +1,214 @@
+package com.britishspokentime.service.table;
+
+import java.util.Arrays;
+
+/**
+ * BK-tree over a fixed list of words under Levenshtein distance, for finding every
+ * word within a given number of edits of a token.
+ *
+ * <p>Each word is a node, hung below its parent by its distance from the parent word.
+ * Edit distance is a metric, so a search that finds a node at distance {@code d}
+ * from the token only needs to descend into children at distances
+ * {@code d - radius} to {@code d + radius}; the rest of the tree is never compared.
+ * Children are kept as linked lists in flat arrays, indexed by word.
+ *
+ * <p>Searches compute each distance bit-parallel (Myers' algorithm as formulated by
+ * Hyyrö), with one bit per character of the word, from match masks prepared for
+ * every word and symbol when the tree is built. That costs a few machine operations
+ * per character of the token instead of one row of the edit matrix.
+ */
+final class WordBkTree {
+
+  private static final int ROOT = 0;
+  private static final int NONE = -1;
+  private static final int ASCII = 128;
+
+  private final char[][] words;
+  private final int longestWord;
+  private final byte[] symbols = new byte[ASCII];
+  /** Symbol for characters that occur in no word; its masks are all zero. */
+  private final int otherSymbol;
+  /** Bit i of the mask for a word and symbol is set if character i of the word is it. */
+  private final long[] matchMasks;
+  private final int[] distanceFromParent;
+  private final int[] firstChild;
+  private final int[] nextSibling;
+
+  /**
+   * Builds the tree, rooted at the first word.
+   *
+   * @param words the words to index
+   * @throws IllegalArgumentException if there are no words, a word is empty or longer
+   *     than 64 characters, or a word is repeated
+   */
+  WordBkTree(String[] words) {
+    if (words.length == 0) {
+      throw new IllegalArgumentException("A BK-tree needs at least one word");
+    }
+    this.words = new char[words.length][];
+    int longest = 0;
+    int alphabet = 0;
+    Arrays.fill(symbols, (byte) -1);
+    for (int i = 0; i < words.length; i++) {
+      if (words[i].isEmpty() || words[i].length() > Long.SIZE) {
+        throw new IllegalArgumentException("Unsupported word length: " + words[i]);
+      }
+      this.words[i] = words[i].toCharArray();
+      longest = Math.max(longest, words[i].length());
+      for (char c : this.words[i]) {
+        if (c < ASCII && symbols[c] < 0) {
+          symbols[c] = (byte) alphabet++;
+        }
+      }
+    }
+    longestWord = longest;
+    otherSymbol = alphabet;
+    matchMasks = new long[words.length * (alphabet + 1)];
+    for (int word = 0; word < words.length; word++) {
+      for (int i = 0; i < this.words[word].length; i++) {
+        matchMasks[word * (alphabet + 1) + symbol(this.words[word][i])] |= 1L << i;
+      }
+    }
+    distanceFromParent = new int[words.length];
+    firstChild = new int[words.length];
+    nextSibling = new int[words.length];
+    Arrays.fill(firstChild, NONE);
+    Arrays.fill(nextSibling, NONE);
+
+    int[] row = new int[longest + 1];
+    for (int word = 1; word < words.length; word++) {
+      insert(word, row);
+    }
+  }
+
+  /**
+   * Finds the words within an edit distance of a token.
+   *
+   * @param text characters holding the token, lower-case
+   * @param start index of the first character of the token (inclusive)
+   * @param end index after the last character of the token (exclusive)
+   * @param radius the largest edit distance to accept
+   * @param found receives the index of each word found; needs room for every word
+   * @param distances receives the edit distance of each word found
+   * @return the number of words found
+   */
+  int search(char[] text, int start, int end, int radius, int[] found, int[] distances) {
+    if (end - start > longestWord + radius) {
+      return 0;
+    }
+    int[] token = new int[end - start];
+    for (int i = 0; i < token.length; i++) {
+      token[i] = symbol(text[start + i]);
+    }
+    int[] pending = new int[words.length];
+    pending[0] = ROOT;
+    int top = 1;
+    int count = 0;
+    while (top > 0) {
+      int node = pending[--top];
+      int distance = distance(token, node);
+      if (distance <= radius) {
+        found[count] = node;
+        distances[count++] = distance;
+      }
+      for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+        if (Math.abs(distanceFromParent[child] - distance) <= radius) {
+          pending[top++] = child;
+        }
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Gets the number of words.
+   *
+   * @return the word count
+   */
+  int size() {
+    return words.length;
+  }
+
+  private void insert(int word, int[] row) {
+    char[] letters = words[word];
+    int node = ROOT;
+    while (true) {
+      int distance = distance(letters, 0, letters.length, words[node], row);
+      if (distance == 0) {
+        throw new IllegalArgumentException("Repeated word: " + String.valueOf(letters));
+      }
+      int child = firstChild[node];
+      while (child != NONE && distanceFromParent[child] != distance) {
+        child = nextSibling[child];
+      }
+      if (child == NONE) {
+        distanceFromParent[word] = distance;
+        nextSibling[word] = firstChild[node];
+        firstChild[node] = word;
+        return;
+      }
+      node = child;
+    }
+  }
+
+  /**
+   * Computes the Levenshtein distance between a token and a word bit-parallel. Bit i
+   * of the vertical deltas tells whether the edit matrix goes up or down between
+   * rows i and i + 1 of the current column; the last row holds the distance.
+   */
+  private int distance(int[] token, int word) {
+    int length = words[word].length;
+    int masks = word * (otherSymbol + 1);
+    long last = 1L << (length - 1);
+    long positive = length == Long.SIZE ? -1L : (1L << length) - 1;
+    long negative = 0;
+    int distance = length;
+    for (int symbol : token) {
+      long match = matchMasks[masks + symbol];
+      final long vertical = match | negative;
+      long horizontal = (((match & positive) + positive) ^ positive) | match;
+      long up = negative | ~(horizontal | positive);
+      long down = positive & horizontal;
+      if ((up & last) != 0) {
+        distance++;
+      } else if ((down & last) != 0) {
+        distance--;
+      }
+      // The first row of each column is one more than in the previous column
+      up = (up << 1) | 1;
+      down <<= 1;
+      positive = down | ~(vertical | up);
+      negative = up & vertical;
+    }
+    return distance;
+  }
+
+  /**
+   * Computes the Levenshtein distance between a token and a word, one row of the
+   * edit matrix at a time.
+   *
+   * @param row scratch space for at least {@code end - start + 1} entries
+   */
+  static int distance(char[] text, int start, int end, char[] word, int[] row) {
+    int length = end - start;
+    for (int i = 0; i <= length; i++) {
+      row[i] = i;
+    }
+    for (int j = 1; j <= word.length; j++) {
+      char c = word[j - 1];
+      int diagonal = row[0];
+      row[0] = j;
+      for (int i = 1; i <= length; i++) {
+        int above = row[i];
+        int substitution = diagonal + (text[start + i - 1] == c ? 0 : 1);
+        row[i] = Math.min(substitution, Math.min(above, row[i - 1]) + 1);
+        diagonal = above;
+      }
+    }
+    return row[length];
+  }
+
+  private int symbol(char c) {
+    return c < ASCII && symbols[c] >= 0 ? symbols[c] : otherSymbol;
+  }
+}
@@ -0,0 +1,73 @@
+package com.britishspokentime.service.util;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join task that runs an action over the index range of an array.
+ * Ranges longer than the threshold are halved and the halves run in parallel;
+ * shorter ranges run sequentially on the current thread.
+ *
+ * <p>Forked subtasks run in the pool of the calling thread when it is a fork/join
+ * worker, and in the common pool otherwise, so callers choose the parallelism by
+ * choosing where to call from.
+ */
+public final class RangeTask extends RecursiveAction {
+
+  /**
+   * Action applied to a contiguous index range.
+   */
+  @FunctionalInterface
+  public interface RangeAction {
+
+    /**
+     * Processes the indexes from {@code from} (inclusive) to {@code to} (exclusive).
+     *
+     * @param from first index
+     * @param to index after the last
+     */
+    void apply(int from, int to);
+  }
+
+  private final int from;
+  private final int to;
+  private final int threshold;
+  private final transient RangeAction action;
+
+  private RangeTask(int from, int to, int threshold, RangeAction action) {
+    this.from = from;
+    this.to = to;
+    this.threshold = threshold;
+    this.action = action;
+  }
+
+  /**
+   * Applies the action to the indexes from 0 to {@code length}, in parallel when
+   * the range is longer than the threshold, and waits for it to finish.
+   *
+   * @param length number of indexes
+   * @param threshold longest range processed sequentially, at least 1
+   * @param action the action to apply
+   * @throws IllegalArgumentException if the threshold is below 1
+   */
+  public static void forRange(int length, int threshold, RangeAction action) {
+    if (threshold < 1) {
+      throw new IllegalArgumentException("Threshold must be at least 1: " + threshold);
+    }
+    if (length <= threshold) {
+      action.apply(0, length);
+      return;
+    }
+    new RangeTask(0, length, threshold, action).invoke();
+  }
+
+  @Override
+  protected void compute() {
+    if (to - from <= threshold) {
+      action.apply(from, to);
+      return;
+    }
+    int middle = (from + to) >>> 1;
+    invokeAll(new RangeTask(from, middle, threshold, action),
+        new RangeTask(middle, to, threshold, action));
+  }
+}
@@ -0,0 +1,192 @@
+package com.britishspokentime.service.util;
+
+import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.domain.TimeParseError;
+
+/**
+ * Allocation-free parser for HH:mm time strings.
+ * Scans the characters once and returns the minute of day as a primitive int,
+ * or a negative {@link TimeParseError} code when the input is rejected.
+ * Byte input is read as ISO-8859-1, so it parses exactly like the decoded text.
+ */
+public final class TimeParser {
+
+  private static final int MAX_HOUR_DIGITS = 2;
+  private static final int MINUTE_DIGITS = 2;
+
+  private TimeParser() {
+    throw new UnsupportedOperationException("Utility class");
+  }
+
+  /**
+   * Parses a time in H:mm or HH:mm format (24-hour).
+   *
+   * @param text the text to parse
+   * @return minutes since midnight (0-1439), or a negative {@link TimeParseError} code
+   */
+  public static int parseMinuteOfDay(CharSequence text) {
+    if (text == null) {
+      return TimeParseError.EMPTY.getCode();
+    }
+    return parseMinuteOfDay(text, 0, text.length());
+  }
+
+  /**
+   * Parses a time in H:mm or HH:mm format from a region of a character sequence.
+   *
+   * @param text the text containing the time
+   * @param start index of the first character (inclusive)
+   * @param end index after the last character (exclusive)
+   * @return minutes since midnight (0-1439), or a negative {@link TimeParseError} code
+   */
+  public static int parseMinuteOfDay(CharSequence text, int start, int end) {
+    int length = end - start;
+    int separator = length - MINUTE_DIGITS - 1;
+    if (separator < 1 || separator > MAX_HOUR_DIGITS
+        || text.charAt(start + separator) != TimeConstants.TIME_SEPARATOR_CHAR) {
+      return isBlank(text, start, end)
+          ? TimeParseError.EMPTY.getCode() : TimeParseError.MALFORMED.getCode();
+    }
+
+    int hour = 0;
+    for (int i = start; i < start + separator; i++) {
+      int digit = text.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return TimeParseError.MALFORMED.getCode();
+      }
+      hour = hour * 10 + digit;
+    }
+
+    int minuteTens = text.charAt(end - 2) - '0';
+    int minuteUnits = text.charAt(end - 1) - '0';
+    if (minuteTens < 0 || minuteTens > 9 || minuteUnits < 0 || minuteUnits > 9) {
+      return TimeParseError.MALFORMED.getCode();
+    }
+    int minute = minuteTens * 10 + minuteUnits;
+
+    if (hour > TimeConstants.MAX_HOUR || minute > TimeConstants.MAX_MINUTE) {
+      return TimeParseError.OUT_OF_RANGE.getCode();
+    }
+    return hour * TimeConstants.MINUTES_IN_HOUR + minute;
+  }
+
+  /**
+   * Parses a time in H:mm or HH:mm format from a region of a byte array.
+   *
+   * @param text the bytes containing the time
+   * @param start index of the first byte (inclusive)
+   * @param end index after the last byte (exclusive)
+   * @return minutes since midnight (0-1439), or a negative {@link TimeParseError} code
+   */
+  public static int parseMinuteOfDay(byte[] text, int start, int end) {
+    int length = end - start;
+    int separator = length - MINUTE_DIGITS - 1;
+    if (separator < 1 || separator > MAX_HOUR_DIGITS
+        || text[start + separator] != TimeConstants.TIME_SEPARATOR_CHAR) {
+      return isBlank(text, start, end)
+          ? TimeParseError.EMPTY.getCode() : TimeParseError.MALFORMED.getCode();
+    }
+
+    int hour = 0;
+    for (int i = start; i < start + separator; i++) {
+      int digit = text[i] - '0';
+      if (digit < 0 || digit > 9) {
+        return TimeParseError.MALFORMED.getCode();
+      }
+      hour = hour * 10 + digit;
+    }
+
+    int minuteTens = text[end - 2] - '0';
+    int minuteUnits = text[end - 1] - '0';
+    if (minuteTens < 0 || minuteTens > 9 || minuteUnits < 0 || minuteUnits > 9) {
+      return TimeParseError.MALFORMED.getCode();
+    }
+    int minute = minuteTens * 10 + minuteUnits;
+
+    if (hour > TimeConstants.MAX_HOUR || minute > TimeConstants.MAX_MINUTE) {
+      return TimeParseError.OUT_OF_RANGE.getCode();
+    }
+    return hour * TimeConstants.MINUTES_IN_HOUR + minute;
+  }
+
+  /**
+   * Parses newline-separated times from a region of a byte array, one result per
+   * line. Spaces, tabs and carriage returns around each time are ignored, and a line
+   * break at the end of the region does not start another line.
+   *
+   * @param text the bytes containing the lines
+   * @param start index of the first byte (inclusive)
+   * @param end index after the last byte (exclusive)
+   * @param out receives the minute of day or negative {@link TimeParseError} code of
+   *     each line, from index 0
+   * @return the number of lines
+   * @throws IllegalArgumentException if {@code out} has fewer entries than there are
+   *     lines
+   */
+  public static int parseLines(byte[] text, int start, int end, int[] out) {
+    int count = 0;
+    int position = start;
+    while (position < end) {
+      int lineEnd = lineEnd(text, position, end);
+      checkCapacity(out, count + 1);
+      out[count++] = parseLine(text, position, lineEnd);
+      position = lineEnd + 1;
+    }
+    return count;
+  }
+
+  /**
+   * Finds the end of the line starting at the given index: the index of its line
+   * break, or {@code end} if it has none.
+   */
+  static int lineEnd(byte[] text, int start, int end) {
+    int i = start;
+    while (i < end && text[i] != '\n') {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * Parses one line without its line break, ignoring surrounding spaces, tabs and
+   * carriage returns.
+   */
+  static int parseLine(byte[] text, int start, int end) {
+    while (start < end && isLinePadding(text[start])) {
+      start++;
+    }
+    while (end > start && isLinePadding(text[end - 1])) {
+      end--;
+    }
+    return parseMinuteOfDay(text, start, end);
+  }
+
+  static void checkCapacity(int[] out, int required) {
+    if (out.length < required) {
+      throw new IllegalArgumentException(
+          "Output array too short for the lines in the text: " + out.length);
+    }
+  }
+
+  private static boolean isLinePadding(byte b) {
+    return b == ' ' || b == '\t' || b == '\r';
+  }
+
+  private static boolean isBlank(byte[] text, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (!Character.isWhitespace((char) (text[i] & 0xFF))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isBlank(CharSequence text, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (!Character.isWhitespace(text.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
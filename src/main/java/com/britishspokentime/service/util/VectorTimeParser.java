@@ -0,0 +1,182 @@
+package com.britishspokentime.service.util;
+
+import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.domain.TimeParseError;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Newline-separated HH:mm parser built on the incubating Vector API.
+ *
+ * <p>Each step loads one vector of bytes covering up to ten canonical {@code HH:mm\n}
+ * lines (five with 256-bit vectors), validates every byte at once and decodes the
+ * leading run of canonical lines to minutes of day with a handful of vector
+ * instructions. The first line that is not canonical (a {@code 7:05}, padding, a
+ * malformed time or the tail of the text) is parsed with {@link TimeParser} before
+ * the next step, so the results are always those of {@link TimeParser#parseLines}.
+ *
+ * <p>The JVM must be started with {@code --add-modules jdk.incubator.vector}; check
+ * {@link #isAvailable()} before calling {@link #parseLines}, which fails to link
+ * without the module.
+ */
+public final class VectorTimeParser {
+
+  private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+  private VectorTimeParser() {
+    throw new UnsupportedOperationException("Utility class");
+  }
+
+  /**
+   * Checks whether the Vector API module is loaded in this JVM.
+   *
+   * @return {@code true} if {@link #parseLines} can be used
+   */
+  public static boolean isAvailable() {
+    return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+  }
+
+  /**
+   * Parses newline-separated times from a region of a byte array, one result per
+   * line, with the same results as {@link TimeParser#parseLines}.
+   *
+   * @param text the bytes containing the lines
+   * @param start index of the first byte (inclusive)
+   * @param end index after the last byte (exclusive)
+   * @param out receives the minute of day or negative {@link TimeParseError} code of
+   *     each line, from index 0
+   * @return the number of lines
+   * @throws IllegalArgumentException if {@code out} has fewer entries than there are
+   *     lines
+   */
+  public static int parseLines(byte[] text, int start, int end, int[] out) {
+    return Lanes.TOKENS < 2
+        ? TimeParser.parseLines(text, start, end, out)
+        : Lanes.parseLines(text, start, end, out);
+  }
+
+  /**
+   * Vector constants, kept out of the outer class so that {@link #isAvailable()}
+   * never touches Vector API types.
+   */
+  private static final class Lanes {
+
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS =
+        VectorSpecies.of(int.class, BYTES.vectorShape());
+
+    /** Length of a canonical line: two hour digits, colon, two minute digits, break. */
+    private static final int TOKEN_LENGTH = 6;
+    private static final int TOKENS = Math.min(BYTES.length() / TOKEN_LENGTH, INTS.length());
+    private static final int BLOCK = TOKENS * TOKEN_LENGTH;
+
+    private static final int SEPARATOR_OFFSET = 2;
+    private static final int LINE_BREAK_OFFSET = 5;
+
+    private static final ByteVector TEMPLATE = ByteVector.fromArray(BYTES, template(), 0);
+    private static final VectorMask<Byte> DIGIT_LANES = mask(
+        i -> i < BLOCK && !isSeparator(i));
+    private static final VectorMask<Byte> SEPARATOR_LANES = mask(
+        i -> i < BLOCK && isSeparator(i));
+    private static final VectorMask<Byte> UNUSED_LANES = mask(i -> i >= BLOCK);
+    private static final VectorMask<Integer> RESULT_LANES = INTS.indexInRange(0, TOKENS);
+    /** Result lanes of a block whose canonical run ends early, by its length. */
+    private static final List<VectorMask<Integer>> PARTIAL_RESULT_LANES =
+        IntStream.range(0, TOKENS).mapToObj(tokens -> INTS.indexInRange(0, tokens)).toList();
+
+    private static final VectorShuffle<Byte> HOUR_TENS = gather(0);
+    private static final VectorShuffle<Byte> HOUR_UNITS = gather(1);
+    private static final VectorShuffle<Byte> MINUTE_TENS = gather(3);
+    private static final VectorShuffle<Byte> MINUTE_UNITS = gather(4);
+
+    static int parseLines(byte[] text, int start, int end, int[] out) {
+      int count = 0;
+      int position = start;
+      while (position < end) {
+        int tokens = end - position >= BYTES.length() && out.length - count >= TOKENS
+            ? decodeBlock(text, position, out, count) : 0;
+        position += tokens * TOKEN_LENGTH;
+        count += tokens;
+        if (tokens < TOKENS && position < end) {
+          // The next line is not canonical, or too close to the end for a vector
+          int lineEnd = TimeParser.lineEnd(text, position, end);
+          TimeParser.checkCapacity(out, count + 1);
+          out[count++] = TimeParser.parseLine(text, position, lineEnd);
+          position = lineEnd + 1;
+        }
+      }
+      return count;
+    }
+
+    /**
+     * Decodes the canonical lines at the start of the block at the given position.
+     *
+     * @return the number of lines decoded, up to the first line that is not canonical
+     */
+    private static int decodeBlock(byte[] text, int position, int[] out, int index) {
+      ByteVector bytes = ByteVector.fromArray(BYTES, text, position);
+      ByteVector digits = bytes.sub((byte) '0');
+      VectorMask<Byte> invalid = digits.compare(VectorOperators.UNSIGNED_LT, 10).and(DIGIT_LANES)
+          .or(bytes.eq(TEMPLATE).and(SEPARATOR_LANES))
+          .or(UNUSED_LANES)
+          .not();
+      int tokens = invalid.anyTrue() ? invalid.firstTrue() / TOKEN_LENGTH : TOKENS;
+      if (tokens == 0) {
+        return 0;
+      }
+
+      ByteVector hours = digits.rearrange(HOUR_TENS).mul((byte) 10)
+          .add(digits.rearrange(HOUR_UNITS));
+      ByteVector minutes = digits.rearrange(MINUTE_TENS).mul((byte) 10)
+          .add(digits.rearrange(MINUTE_UNITS));
+      IntVector hour = (IntVector) hours.convertShape(VectorOperators.B2I, INTS, 0);
+      IntVector minute = (IntVector) minutes.convertShape(VectorOperators.B2I, INTS, 0);
+      hour.mul(TimeConstants.MINUTES_IN_HOUR).add(minute)
+          .blend(TimeParseError.OUT_OF_RANGE.getCode(),
+              hour.compare(VectorOperators.GT, TimeConstants.MAX_HOUR)
+                  .or(minute.compare(VectorOperators.GT, TimeConstants.MAX_MINUTE)))
+          .intoArray(out, index,
+              tokens == TOKENS ? RESULT_LANES : PARTIAL_RESULT_LANES.get(tokens));
+      return tokens;
+    }
+
+    private static boolean isSeparator(int lane) {
+      int offset = lane % TOKEN_LENGTH;
+      return offset == SEPARATOR_OFFSET || offset == LINE_BREAK_OFFSET;
+    }
+
+    /**
+     * Bytes expected in the separator lanes: a colon and a line break per token.
+     */
+    private static byte[] template() {
+      byte[] lanes = new byte[BYTES.length()];
+      for (int token = 0; token < TOKENS; token++) {
+        lanes[token * TOKEN_LENGTH + SEPARATOR_OFFSET] = TimeConstants.TIME_SEPARATOR_CHAR;
+        lanes[token * TOKEN_LENGTH + LINE_BREAK_OFFSET] = '\n';
+      }
+      return lanes;
+    }
+
+    private static VectorMask<Byte> mask(IntPredicate lane) {
+      boolean[] lanes = new boolean[BYTES.length()];
+      for (int i = 0; i < lanes.length; i++) {
+        lanes[i] = lane.test(i);
+      }
+      return VectorMask.fromArray(BYTES, lanes, 0);
+    }
+
+    /**
+     * Moves the byte at the given offset of each token into the token's own lane.
+     */
+    private static VectorShuffle<Byte> gather(int offset) {
+      return VectorShuffle.fromOp(BYTES, i -> i < TOKENS ? i * TOKEN_LENGTH + offset : 0);
+    }
+  }
+}
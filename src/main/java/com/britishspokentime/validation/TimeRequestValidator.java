@@ -0,0 +1,35 @@
+package com.britishspokentime.validation;
+
+import com.britishspokentime.dto.TimeRequest;
+import com.britishspokentime.service.util.TimeParser;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validator for {@link ValidTime}.
+ * Parses the time with {@link TimeParser} and stores the resulting minute of day on
+ * the request, so the service does not parse the same string again.
+ */
+public class TimeRequestValidator implements ConstraintValidator<ValidTime, TimeRequest> {
+
+  static final String TIME_PROPERTY = "time";
+
+  @Override
+  public boolean isValid(TimeRequest request, ConstraintValidatorContext context) {
+    if (request == null || request.getTime() == null) {
+      return true;
+    }
+
+    int minuteOfDay = TimeParser.parseMinuteOfDay(request.getTime());
+    if (minuteOfDay >= 0) {
+      request.setMinuteOfDay(minuteOfDay);
+      return true;
+    }
+
+    context.disableDefaultConstraintViolation();
+    context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+        .addPropertyNode(TIME_PROPERTY)
+        .addConstraintViolation();
+    return false;
+  }
+}
@@ -0,0 +1,50 @@
+package com.britishspokentime.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates that a {@link com.britishspokentime.dto.TimeRequest} holds a time in
+ * H:mm or HH:mm format (00:00 to 23:59).
+ * Accepts exactly what the pattern {@code ^([0-1]?[0-9]|2[0-3]):[0-5][0-9]$} accepts,
+ * with a single character scan instead of a regular expression. Violations are
+ * reported on the {@code time} property; a missing time is left to
+ * {@code @NotBlank}.
+ */
+@Documented
+@Constraint(validatedBy = TimeRequestValidator.class)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidTime {
+
+  /**
+   * Default message, reported when the time is malformed or out of range.
+   */
+  String MESSAGE = "Time must be in HH:mm format (00:00 to 23:59)";
+
+  /**
+   * Message reported when the time is malformed or out of range.
+   *
+   * @return the message template
+   */
+  String message() default MESSAGE;
+
+  /**
+   * Validation groups.
+   *
+   * @return the groups
+   */
+  Class<?>[] groups() default {};
+
+  /**
+   * Payload for clients of the constraint.
+   *
+   * @return the payload
+   */
+  Class<? extends Payload>[] payload() default {};
+}
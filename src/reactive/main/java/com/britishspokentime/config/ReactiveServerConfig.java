@@ -0,0 +1,37 @@
+package com.britishspokentime.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorResourceFactory;
+
+/**
+ * Runs the reactive variant on Netty. Tomcat stays on the classpath for the
+ * servlet variant, and Spring Boot would otherwise prefer it for reactive
+ * applications too.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfig {
+
+  /**
+   * Creates the Netty server factory; server.* properties are still applied by
+   * Spring Boot's factory customizer.
+   *
+   * @param resourceFactory the shared Reactor Netty resources, if configured
+   * @param serverCustomizers customizers of the Netty HTTP server
+   * @return the server factory
+   */
+  @Bean
+  public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(
+      ObjectProvider<ReactorResourceFactory> resourceFactory,
+      ObjectProvider<NettyServerCustomizer> serverCustomizers) {
+    NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+    resourceFactory.ifAvailable(factory::setResourceFactory);
+    serverCustomizers.orderedStream().forEach(factory::addServerCustomizers);
+    return factory;
+  }
+}
@@ -0,0 +1,101 @@
+package com.britishspokentime.controller.reactive;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+/**
+ * Splits a request body, arriving as a sequence of buffers, into lines.
+ *
+ * <p>Splitting happens on bytes: the newline byte never occurs inside a multi-byte
+ * UTF-8 sequence, so a character split across two buffers is kept whole. At most
+ * the configured number of characters of a line is held; longer lines are
+ * reported as overflowing rather than buffered. One instance serves one body.
+ */
+class LineSplitter {
+
+  private static final int MAX_BYTES_PER_CHAR = 4;
+  private static final int CONTINUATION_MASK = 0xC0;
+  private static final int CONTINUATION_BITS = 0x80;
+
+  /**
+   * A complete line, or a marker for a line that exceeded the maximum length.
+   *
+   * @param text the line without its newline, or null if it overflowed
+   */
+  record Line(String text) {
+
+    static final Line TOO_LONG = new Line(null);
+
+    boolean overflow() {
+      return text == null;
+    }
+  }
+
+  private final int maxLineLength;
+  private final byte[] line;
+  private int length;
+  private int chars;
+  private boolean overflow;
+
+  LineSplitter(int maxLineLength) {
+    this.maxLineLength = maxLineLength;
+    this.line = new byte[maxLineLength * MAX_BYTES_PER_CHAR];
+  }
+
+  /**
+   * Consumes a buffer and releases it.
+   *
+   * @param buffer the next part of the body
+   * @return the lines completed by this buffer
+   */
+  List<Line> split(DataBuffer buffer) {
+    List<Line> lines = new ArrayList<>();
+    try {
+      byte[] bytes = new byte[buffer.readableByteCount()];
+      buffer.read(bytes);
+      for (byte b : bytes) {
+        if (b == '\n') {
+          lines.add(complete());
+        } else {
+          append(b);
+        }
+      }
+    } finally {
+      DataBufferUtils.release(buffer);
+    }
+    return lines;
+  }
+
+  /**
+   * Returns the final line of a body that does not end with a newline.
+   *
+   * @return the last line, or null if the body ended with a newline
+   */
+  Line finish() {
+    return length > 0 || overflow ? complete() : null;
+  }
+
+  private void append(byte b) {
+    if (overflow) {
+      return;
+    }
+    boolean startsChar = (b & CONTINUATION_MASK) != CONTINUATION_BITS;
+    if ((startsChar && ++chars > maxLineLength) || length == line.length) {
+      overflow = true;
+      return;
+    }
+    line[length++] = b;
+  }
+
+  private Line complete() {
+    final Line completed = overflow
+        ? Line.TOO_LONG : new Line(new String(line, 0, length, StandardCharsets.UTF_8));
+    length = 0;
+    chars = 0;
+    overflow = false;
+    return completed;
+  }
+}
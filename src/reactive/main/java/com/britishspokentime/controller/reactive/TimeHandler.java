@@ -0,0 +1,279 @@
+package com.britishspokentime.controller.reactive;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.domain.ParseOutcome;
+import com.britishspokentime.dto.BatchTimeRequest;
+import com.britishspokentime.dto.ErrorResponse;
+import com.britishspokentime.dto.TimeConversionResult;
+import com.britishspokentime.dto.TimeRequest;
+import com.britishspokentime.exception.ErrorResponseTemplates;
+import com.britishspokentime.service.TimeService;
+import com.britishspokentime.service.TimeStreamService;
+import com.britishspokentime.service.binary.BinaryConversionService;
+import com.britishspokentime.service.binary.BinaryFormat;
+import com.britishspokentime.service.binary.BinaryMediaTypes;
+import com.britishspokentime.service.cache.CachedResponse;
+import com.britishspokentime.service.cache.TimeResponseCache;
+import com.britishspokentime.service.logging.ConversionEventLogger;
+import com.britishspokentime.service.metrics.ConversionMetrics;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux handlers for the conversion API, the functional counterpart of
+ * {@link com.britishspokentime.controller.TimeController}.
+ * Uses the same services, response cache and error templates, so both variants
+ * return identical bodies. Conversion is CPU-only and never blocks, so it runs
+ * directly on the event loop.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class TimeHandler {
+
+  private static final String TIME = "time";
+  private static final String HOUR = "hour";
+  private static final String MINUTE = "minute";
+
+  private final TimeService timeService;
+  private final TimeStreamService timeStreamService;
+  private final BinaryConversionService binaryConversionService;
+  private final TimeResponseCache responseCache;
+  private final TimeProperties properties;
+  private final ConversionMetrics metrics;
+  private final ConversionEventLogger eventLogger;
+  private final ErrorResponseTemplates errorResponses;
+  private final Validator validator;
+
+  /**
+   * Converts the time of a JSON {@link TimeRequest}, like {@code POST /convert}.
+   *
+   * @param request the server request
+   * @return the response
+   */
+  public Mono<ServerResponse> convert(ServerRequest request) {
+    return request.bodyToMono(TimeRequest.class)
+        .defaultIfEmpty(new TimeRequest())
+        .flatMap(body -> timed(() -> {
+          String time = body.getTime();
+          String violations = ErrorResponseTemplates.joinMessages(validator.validate(body).stream()
+              .map(ConstraintViolation::getMessage));
+          if (!violations.isEmpty()) {
+            // Parsed again only to count the reject by reason
+            timeService.parse(time);
+            return error(errorResponses.validationError(violations, request.path()));
+          }
+
+          CachedResponse cached = responseCache.get(time);
+          if (cached != null) {
+            metrics.recordConversion(cached.minuteOfDay());
+            eventLogger.conversion(time, cached.minuteOfDay());
+            return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(cached.body());
+          }
+          return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+              .bodyValue(timeService.convertTime(body));
+        }));
+  }
+
+  /**
+   * Converts a time given as hour and minute path variables, with caching headers.
+   *
+   * @param request the server request
+   * @return the response
+   */
+  public Mono<ServerResponse> convertByPath(ServerRequest request) {
+    return timed(() -> cacheable(request,
+        request.pathVariable(HOUR) + ":" + request.pathVariable(MINUTE)));
+  }
+
+  /**
+   * Converts a time given as the {@code time} query parameter, with caching headers.
+   *
+   * @param request the server request
+   * @return the response
+   */
+  public Mono<ServerResponse> convertByQuery(ServerRequest request) {
+    return timed(() -> cacheable(request, request.queryParam(TIME).orElse(null)));
+  }
+
+  /**
+   * Converts a JSON {@link BatchTimeRequest} in one response.
+   *
+   * @param request the server request
+   * @return the response
+   */
+  public Mono<ServerResponse> convertBatch(ServerRequest request) {
+    return request.bodyToMono(BatchTimeRequest.class)
+        .defaultIfEmpty(new BatchTimeRequest())
+        .flatMap(body -> {
+          String violations = ErrorResponseTemplates.joinMessages(validator.validate(body).stream()
+              .map(ConstraintViolation::getMessage));
+          if (!violations.isEmpty()) {
+            return error(errorResponses.validationError(violations, request.path()));
+          }
+          return Mono.fromCallable(() -> timeService.convertBatch(body))
+              .flatMap(response -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                  .bodyValue(response))
+              .onErrorResume(IllegalArgumentException.class,
+                  e -> error(errorResponses.badRequest(e.getMessage(), request.path())));
+        });
+  }
+
+  /**
+   * Converts a newline-delimited body as a stream of NDJSON results.
+   *
+   * <p>The body is consumed only as fast as results are written: each line is
+   * converted when the response asks for the next element, and the next buffer
+   * is read from the connection only once the lines of the previous one have
+   * been written, so a slow client throttles the upload instead of filling memory.
+   *
+   * @param request the server request
+   * @return the streaming response
+   */
+  public Mono<ServerResponse> convertStream(ServerRequest request) {
+    int maxLineLength = properties.getStream().getMaxLineLength();
+    Flux<TimeConversionResult> results = Flux.defer(() -> {
+      LineSplitter splitter = new LineSplitter(maxLineLength);
+      return request.body(BodyExtractors.toDataBuffers())
+          .concatMapIterable(splitter::split)
+          .concatWith(Mono.fromSupplier(splitter::finish))
+          .mapNotNull(line -> line.overflow()
+              ? timeStreamService.lineTooLong() : timeStreamService.convertLine(line.text()));
+    });
+    return ServerResponse.ok().contentType(MediaType.APPLICATION_NDJSON)
+        .body(results, TimeConversionResult.class);
+  }
+
+  /**
+   * Converts one time in the binary protocol, like {@code POST /convert} with
+   * {@value BinaryMediaTypes#MINUTES_VALUE}.
+   *
+   * @param request the server request
+   * @return the response
+   */
+  public Mono<ServerResponse> convertBinary(ServerRequest request) {
+    return binary(request, 1, false);
+  }
+
+  /**
+   * Converts a batch of times in the binary protocol.
+   *
+   * @param request the server request
+   * @return the response
+   */
+  public Mono<ServerResponse> convertBatchBinary(ServerRequest request) {
+    return binary(request, binaryConversionService.maxBatchSize(), true);
+  }
+
+  /**
+   * Returns the dictionary that binary phrase IDs index into.
+   *
+   * @param request the server request
+   * @return the response
+   */
+  public Mono<ServerResponse> phrases(ServerRequest request) {
+    return ServerResponse.ok().contentType(BinaryMediaTypes.PHRASES)
+        .bodyValue(binaryConversionService.dictionary());
+  }
+
+  /**
+   * Health check.
+   *
+   * @param request the server request
+   * @return the response
+   */
+  public Mono<ServerResponse> health(ServerRequest request) {
+    return ServerResponse.ok().contentType(MediaType.TEXT_PLAIN)
+        .bodyValue("British Spoken Time API is running");
+  }
+
+  /**
+   * Builds a cacheable response. The entity tag is known once the time is parsed,
+   * so a matching If-None-Match is answered with 304 before the conversion is run,
+   * counted or logged.
+   */
+  private Mono<ServerResponse> cacheable(ServerRequest request, String time) {
+    CachedResponse cached = responseCache.get(time);
+    ParseOutcome outcome = cached == null ? timeService.parse(time) : null;
+    if (outcome != null && !outcome.isValid()) {
+      return error(errorResponses.invalidTime(outcome.getError(), request.path()));
+    }
+    int minuteOfDay = cached != null ? cached.minuteOfDay() : outcome.getMinuteOfDay();
+
+    String etag = responseCache.etag(time, minuteOfDay);
+    CacheControl cacheControl = CacheControl.maxAge(properties.getHttpCache().getMaxAge())
+        .cachePublic()
+        .immutable();
+    return request.checkNotModified(etag)
+        .flatMap(notModified -> ServerResponse.from(notModified).cacheControl(cacheControl)
+            .build())
+        .switchIfEmpty(Mono.defer(() -> {
+          Object body;
+          if (cached == null) {
+            body = timeService.convertTime(time, outcome);
+          } else {
+            metrics.recordConversion(minuteOfDay);
+            eventLogger.conversion(time, minuteOfDay);
+            body = cached.body();
+          }
+          return ServerResponse.ok()
+              .contentType(MediaType.APPLICATION_JSON)
+              .eTag(etag)
+              .cacheControl(cacheControl)
+              .bodyValue(body);
+        }));
+  }
+
+  /**
+   * Times a single conversion in {@link ConversionMetrics}, from subscription until the
+   * response is built, whether it came from the response cache or not.
+   */
+  private Mono<ServerResponse> timed(Supplier<Mono<ServerResponse>> conversion) {
+    return Mono.defer(() -> {
+      long start = metrics.startSingle();
+      return conversion.get().doFinally(signal -> metrics.recordSingle(start));
+    });
+  }
+
+  private Mono<ServerResponse> binary(ServerRequest request, int maxItems, boolean batch) {
+    return request.bodyToMono(byte[].class)
+        .defaultIfEmpty(new byte[0])
+        .flatMap(body -> {
+          String problem = binaryConversionService.checkRequest(body, maxItems);
+          if (problem != null) {
+            return error(errorResponses.badRequest(problem, request.path()));
+          }
+          BinaryFormat format;
+          try {
+            format = BinaryFormat.negotiate(request.headers().header(HttpHeaders.ACCEPT));
+          } catch (InvalidMediaTypeException ex) {
+            return error(errorResponses.notAcceptable(ex.getMessage(), request.path()));
+          }
+          byte[] response = batch
+              ? binaryConversionService.convertBatch(body, format)
+              : binaryConversionService.convert(body, format);
+          return ServerResponse.ok().contentType(format.getMediaType()).bodyValue(response);
+        });
+  }
+
+  private static Mono<ServerResponse> error(ResponseEntity<ErrorResponse> response) {
+    return ServerResponse.status(response.getStatusCode())
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(response.getBody());
+  }
+}
@@ -0,0 +1,47 @@
+package com.britishspokentime.controller.reactive;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.contentType;
+
+import com.britishspokentime.service.binary.BinaryMediaTypes;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Routes of the reactive variant of the API, active when the application runs as
+ * a reactive web application (the {@code reactive} profile). Paths match those of
+ * {@link com.britishspokentime.controller.TimeController}.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class TimeRouter {
+
+  /**
+   * Maps the conversion endpoints to {@link TimeHandler}.
+   *
+   * @param handler the handler serving the endpoints
+   * @return the routes
+   */
+  @Bean
+  public RouterFunction<ServerResponse> timeRoutes(TimeHandler handler) {
+    return RouterFunctions.route()
+        .path("/api/v1/time", builder -> builder
+            .POST("/convert/batch", contentType(BinaryMediaTypes.MINUTES),
+                handler::convertBatchBinary)
+            .POST("/convert/batch", handler::convertBatch)
+            .POST("/convert/stream",
+                contentType(MediaType.APPLICATION_NDJSON, MediaType.TEXT_PLAIN),
+                handler::convertStream)
+            .POST("/convert", contentType(BinaryMediaTypes.MINUTES), handler::convertBinary)
+            .POST("/convert", handler::convert)
+            .GET("/convert", handler::convertByQuery)
+            .GET("/phrases", handler::phrases)
+            .GET("/health", handler::health)
+            .GET("/{hour:\\d{1,2}}/{minute:\\d{1,2}}", handler::convertByPath))
+        .build();
+  }
+}
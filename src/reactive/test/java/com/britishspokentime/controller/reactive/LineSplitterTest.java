@@ -0,0 +1,77 @@
+package com.britishspokentime.controller.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+/**
+ * Tests for LineSplitter.
+ */
+class LineSplitterTest {
+
+  private final DefaultDataBufferFactory buffers = DefaultDataBufferFactory.sharedInstance;
+
+  @Test
+  void split_shouldJoinLinesAcrossBuffers() {
+    // Arrange
+    LineSplitter splitter = new LineSplitter(16);
+
+    // Act
+    List<LineSplitter.Line> first = splitter.split(buffer("07:3".getBytes(StandardCharsets.UTF_8)));
+    List<LineSplitter.Line> second = splitter.split(buffer("0\n12:00\n6:".getBytes(StandardCharsets.UTF_8)));
+    LineSplitter.Line last = splitter.finish();
+
+    // Assert
+    assertThat(first).isEmpty();
+    assertThat(second).extracting(LineSplitter.Line::text).containsExactly("07:30", "12:00");
+    assertThat(last.text()).isEqualTo("6:");
+    assertThat(splitter.finish()).isNull();
+  }
+
+  @Test
+  void split_shouldKeepMultiByteCharacterSplitAcrossBuffers() {
+    // Arrange
+    LineSplitter splitter = new LineSplitter(4);
+    byte[] bytes = "é€\n".getBytes(StandardCharsets.UTF_8);
+
+    // Act
+    splitter.split(buffer(Arrays.copyOfRange(bytes, 0, 2)));
+    List<LineSplitter.Line> lines = splitter.split(buffer(Arrays.copyOfRange(bytes, 2, bytes.length)));
+
+    // Assert
+    assertThat(lines).extracting(LineSplitter.Line::text).containsExactly("é€");
+  }
+
+  @Test
+  void split_shouldMarkLinesLongerThanMaximum() {
+    // Arrange
+    LineSplitter splitter = new LineSplitter(4);
+
+    // Act
+    List<LineSplitter.Line> lines = splitter.split(buffer("12:345\n7:30\n".getBytes(StandardCharsets.UTF_8)));
+
+    // Assert
+    assertThat(lines).hasSize(2);
+    assertThat(lines.get(0).overflow()).isTrue();
+    assertThat(lines.get(1).text()).isEqualTo("7:30");
+  }
+
+  @Test
+  void finish_afterOverflowWithoutNewline_shouldReportOverflow() {
+    // Arrange
+    LineSplitter splitter = new LineSplitter(2);
+    splitter.split(buffer("123".getBytes(StandardCharsets.UTF_8)));
+
+    // Act & Assert
+    assertThat(splitter.finish().overflow()).isTrue();
+  }
+
+  private DataBuffer buffer(byte[] bytes) {
+    return buffers.wrap(bytes);
+  }
+}
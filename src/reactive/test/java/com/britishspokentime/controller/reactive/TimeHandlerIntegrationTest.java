@@ -0,0 +1,311 @@
+package com.britishspokentime.controller.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.britishspokentime.controller.TimeController;
+import com.britishspokentime.dto.BatchTimeRequest;
+import com.britishspokentime.dto.TimeConversionResult;
+import com.britishspokentime.dto.TimeRequest;
+import com.britishspokentime.exception.GlobalExceptionHandler;
+import com.britishspokentime.service.binary.BinaryMediaTypes;
+import com.britishspokentime.service.metrics.ConversionMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/**
+ * Integration tests for the reactive profile.
+ * Runs the functional endpoints on Netty and checks they answer like TimeController.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class TimeHandlerIntegrationTest {
+
+  @Autowired
+  private ReactiveWebServerApplicationContext applicationContext;
+
+  @Autowired
+  private WebTestClient webTestClient;
+
+  @Autowired
+  private ConversionMetrics metrics;
+
+  @Test
+  void reactiveProfile_shouldRunOnNettyWithoutServletBeans() {
+    assertThat(applicationContext.getWebServer()).isInstanceOf(NettyWebServer.class);
+    assertThat(applicationContext.getBeanNamesForType(TimeController.class)).isEmpty();
+    assertThat(applicationContext.getBeanNamesForType(GlobalExceptionHandler.class)).isEmpty();
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "7:30, half past seven",
+      "00:00, midnight",
+      "6:32, six thirty two"
+  })
+  void convert_validTime_shouldReturnSpokenForm(String time, String expected) {
+    webTestClient.post().uri("/api/v1/time/convert")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(new TimeRequest(time))
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().contentType(MediaType.APPLICATION_JSON)
+        .expectBody()
+        .jsonPath("$.time").isEqualTo(time)
+        .jsonPath("$.spokenForm").isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @CsvSource(value = {
+      "25:00; Time must be in HH:mm format (00:00 to 23:59)",
+      "''; Time is required, Time must be in HH:mm format (00:00 to 23:59)"
+  }, delimiter = ';')
+  void convert_invalidTime_shouldReturnValidationError(String time, String message) {
+    webTestClient.post().uri("/api/v1/time/convert")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(new TimeRequest(time))
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.status").isEqualTo(400)
+        .jsonPath("$.error").isEqualTo("Validation Error")
+        .jsonPath("$.message").isEqualTo(message)
+        .jsonPath("$.path").isEqualTo("/api/v1/time/convert");
+  }
+
+  @Test
+  void convert_missingTime_shouldReturnRequired() {
+    webTestClient.post().uri("/api/v1/time/convert")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue("{}")
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.message").isEqualTo("Time is required");
+  }
+
+  @Test
+  void convertByPath_shouldReturnCacheableResponseAndNotModified() {
+    String etag = webTestClient.get().uri("/api/v1/time/{hour}/{minute}", "07", "30")
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().cacheControl(CacheControl
+            .maxAge(Duration.ofDays(365)).cachePublic().immutable())
+        .expectBody()
+        .jsonPath("$.time").isEqualTo("07:30")
+        .jsonPath("$.spokenForm").isEqualTo("half past seven")
+        .returnResult()
+        .getResponseHeaders()
+        .getETag();
+
+    assertThat(etag).matches("\"[0-9a-f]{16}-0730\"");
+    Map<String, Long> before = metrics.conversionsByStrategy();
+    webTestClient.get().uri("/api/v1/time/{hour}/{minute}", "07", "30")
+        .header(HttpHeaders.IF_NONE_MATCH, etag)
+        .exchange()
+        .expectStatus().isNotModified()
+        .expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+        .expectBody().isEmpty();
+    assertThat(metrics.conversionsByStrategy()).isEqualTo(before);
+  }
+
+  @Test
+  void convertByPath_invalidTime_shouldReturnBadRequest() {
+    webTestClient.get().uri("/api/v1/time/{hour}/{minute}", "25", "00")
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectHeader().doesNotExist(HttpHeaders.ETAG)
+        .expectBody()
+        .jsonPath("$.error").isEqualTo("Bad Request")
+        .jsonPath("$.message").isEqualTo("Hour must be 0-23 and minute must be 0-59")
+        .jsonPath("$.path").isEqualTo("/api/v1/time/25/00");
+  }
+
+  @Test
+  void getBulkEndpoint_shouldNotBeTreatedAsTime() {
+    webTestClient.get().uri("/api/v1/time/convert/batch")
+        .exchange()
+        .expectStatus().isNotFound();
+  }
+
+  @Test
+  void convertByQuery_shouldConvertAndRejectMissingTime() {
+    webTestClient.get().uri("/api/v1/time/convert?time=9:45")
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().exists(HttpHeaders.ETAG)
+        .expectBody()
+        .jsonPath("$.spokenForm").isEqualTo("quarter to ten");
+
+    webTestClient.get().uri("/api/v1/time/convert")
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.message").isEqualTo("Time string cannot be null or empty");
+  }
+
+  @Test
+  void convertBatch_shouldReportItemsInOrder() {
+    webTestClient.post().uri("/api/v1/time/convert/batch")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(new BatchTimeRequest(List.of("7:30", "25:00")))
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.results[0].spokenForm").isEqualTo("half past seven")
+        .jsonPath("$.results[1].error").isEqualTo("Hour must be 0-23 and minute must be 0-59");
+  }
+
+  @Test
+  void convertBatch_invalidRequests_shouldReturnBadRequest() {
+    webTestClient.post().uri("/api/v1/time/convert/batch")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue("{}")
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.error").isEqualTo("Validation Error")
+        .jsonPath("$.message").isEqualTo("Times are required");
+
+    webTestClient.post().uri("/api/v1/time/convert/batch")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(new BatchTimeRequest(Collections.nCopies(1001, "7:30")))
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.error").isEqualTo("Bad Request")
+        .jsonPath("$.message").isEqualTo("Batch size must not exceed 1000 times: 1001");
+  }
+
+  @Test
+  void convertBinary_shouldNegotiateResponseFormat() {
+    webTestClient.post().uri("/api/v1/time/convert")
+        .contentType(BinaryMediaTypes.MINUTES)
+        .bodyValue(new byte[] {0x02, (byte) 0xD0})
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().contentType(BinaryMediaTypes.PHRASES)
+        .expectBody(byte[].class).isEqualTo("\u0004noon".getBytes(StandardCharsets.UTF_8));
+
+    webTestClient.post().uri("/api/v1/time/convert/batch")
+        .contentType(BinaryMediaTypes.MINUTES)
+        .accept(BinaryMediaTypes.PHRASE_IDS)
+        .bodyValue(new byte[] {0x00, 0x00, 0x05, (byte) 0xA0})
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().contentType(BinaryMediaTypes.PHRASE_IDS)
+        .expectBody(byte[].class).isEqualTo(new byte[] {0x00, 0x00, (byte) 0xFF, (byte) 0xFF});
+  }
+
+  @Test
+  void convertBinary_shouldPreferTheHighestQuality() {
+    webTestClient.post().uri("/api/v1/time/convert")
+        .contentType(BinaryMediaTypes.MINUTES)
+        .header(HttpHeaders.ACCEPT, BinaryMediaTypes.PHRASES_VALUE + ";q=0.5, "
+            + BinaryMediaTypes.PHRASE_IDS_VALUE)
+        .bodyValue(new byte[] {0x02, (byte) 0xD0})
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().contentType(BinaryMediaTypes.PHRASE_IDS);
+  }
+
+  @Test
+  void convertBinary_malformedAccept_shouldReturnNotAcceptable() {
+    webTestClient.post().uri("/api/v1/time/convert")
+        .contentType(BinaryMediaTypes.MINUTES)
+        .header(HttpHeaders.ACCEPT, BinaryMediaTypes.PHRASE_IDS_VALUE + ";q=high")
+        .bodyValue(new byte[] {0x02, (byte) 0xD0})
+        .exchange()
+        .expectStatus().isEqualTo(HttpStatus.NOT_ACCEPTABLE)
+        .expectHeader().contentType(MediaType.APPLICATION_JSON)
+        .expectBody()
+        .jsonPath("$.status").isEqualTo(406)
+        .jsonPath("$.error").isEqualTo("Not Acceptable");
+  }
+
+  @Test
+  void convertBinary_malformedRequest_shouldReturnBadRequest() {
+    webTestClient.post().uri("/api/v1/time/convert")
+        .contentType(BinaryMediaTypes.MINUTES)
+        .bodyValue(new byte[] {0x00, 0x00, 0x00, 0x01})
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectHeader().contentType(MediaType.APPLICATION_JSON)
+        .expectBody()
+        .jsonPath("$.message")
+        .isEqualTo("Binary request for /convert must contain exactly one time: 2");
+  }
+
+  @Test
+  void convertStream_shouldReturnOneResultPerLine() {
+    String body = "{\"time\":\"07:30\"}\n\n\"12:00\"\r\n25:00\n{oops\n"
+        + "9".repeat(2000) + "\n6:32";
+
+    Flux<TimeConversionResult> results = webTestClient.post().uri("/api/v1/time/convert/stream")
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .bodyValue(body)
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+        .returnResult(TimeConversionResult.class)
+        .getResponseBody();
+
+    StepVerifier.create(results)
+        .expectNext(TimeConversionResult.success("07:30", "half past seven"))
+        .expectNext(TimeConversionResult.success("12:00", "noon"))
+        .expectNext(TimeConversionResult.failure("25:00",
+            "Hour must be 0-23 and minute must be 0-59"))
+        .expectNext(TimeConversionResult.failure("{oops", "Line is not valid JSON"))
+        .expectNext(TimeConversionResult.failure(null, "Line exceeds the maximum length"))
+        .expectNext(TimeConversionResult.success("6:32", "six thirty two"))
+        .verifyComplete();
+  }
+
+  @Test
+  void convertStream_largePlainTextBody_shouldStreamEveryLine() {
+    String body = IntStream.range(0, 20_000)
+        .mapToObj(i -> String.format("%d:%02d", (i / 60) % 24, i % 60))
+        .collect(Collectors.joining("\n"));
+
+    Flux<TimeConversionResult> results = webTestClient.post().uri("/api/v1/time/convert/stream")
+        .contentType(MediaType.TEXT_PLAIN)
+        .bodyValue(body)
+        .exchange()
+        .expectStatus().isOk()
+        .returnResult(TimeConversionResult.class)
+        .getResponseBody();
+
+    StepVerifier.create(results, 16)
+        .expectNext(TimeConversionResult.success("0:00", "midnight"))
+        .thenRequest(Long.MAX_VALUE)
+        .expectNextCount(19_999)
+        .verifyComplete();
+  }
+
+  @Test
+  void health_shouldReturnStatus() {
+    webTestClient.get().uri("/api/v1/time/health")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody(String.class).isEqualTo("British Spoken Time API is running");
+  }
+}
@@ -0,0 +1,55 @@
+package com.britishspokentime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.Executor;
+import org.apache.catalina.connector.Connector;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Tests for the virtual-threads profile.
+ * Verifies request handling and async work run on virtual threads.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("virtual-threads")
+class VirtualThreadsProfileTest {
+
+  @Autowired
+  private ServletWebServerApplicationContext applicationContext;
+
+  @Autowired
+  @Qualifier("applicationTaskExecutor")
+  private AsyncTaskExecutor applicationTaskExecutor;
+
+  @Test
+  void tomcat_shouldHandleRequestsOnVirtualThreads() {
+    // Arrange
+    TomcatWebServer webServer = (TomcatWebServer) applicationContext.getWebServer();
+    Connector connector = webServer.getTomcat().getConnector();
+
+    // Act
+    Executor executor = connector.getProtocolHandler().getExecutor();
+
+    // Assert
+    assertThat(executor).isInstanceOf(VirtualThreadExecutor.class);
+    assertThat(connector.getProperty("maxConnections")).isEqualTo(60000);
+  }
+
+  @Test
+  void applicationTaskExecutor_shouldRunTasksOnVirtualThreads() throws Exception {
+    // Act
+    boolean virtual = applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual())
+        .get();
+
+    // Assert
+    assertThat(virtual).isTrue();
+  }
+}
@@ -0,0 +1,144 @@
+package com.britishspokentime.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.britishspokentime.domain.TimeParseError;
+import com.britishspokentime.service.TimeConverter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for BulkConverter.
+ * Converts generated files with many small chunks and several threads and
+ * compares the output line by line with converting the input sequentially.
+ */
+class BulkConverterTest {
+
+  private static TimeConverter converter;
+
+  @TempDir
+  private Path directory;
+
+  @BeforeAll
+  static void createConverter() {
+    converter = BulkConverter.converter();
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "1, 1048576",
+      "1, 7",
+      "4, 16",
+      "3, 100"
+  })
+  void convert_shouldMatchSequentialConversionInOrder(int threads, int chunkSize)
+      throws IOException {
+    // Arrange
+    List<String> lines = new ArrayList<>();
+    for (int minuteOfDay = 0; minuteOfDay < 1440; minuteOfDay++) {
+      lines.add(String.format("%02d:%02d", minuteOfDay / 60, minuteOfDay % 60));
+    }
+    lines.addAll(List.of("7:05", "25:00", "", "  7:30\r", "\t12:00 ", "abc", "7:3",
+        "café", "12:60", "x".repeat(300), "6:32"));
+    Path input = write(String.join("\n", lines));
+    Path output = directory.resolve("out.txt");
+
+    // Act
+    BulkConverter.Result result =
+        new BulkConverter(converter, threads, chunkSize).convert(input, output);
+
+    // Assert
+    assertThat(Files.readAllLines(output, StandardCharsets.UTF_8))
+        .containsExactlyElementsOf(lines.stream().map(BulkConverterTest::expected).toList());
+    assertThat(result.lines()).isEqualTo(lines.size());
+    assertThat(result.rejected()).isEqualTo(7);
+    assertThat(result.inputBytes()).isEqualTo(Files.size(input));
+    assertThat(result.outputBytes()).isEqualTo(Files.size(output));
+  }
+
+  @Test
+  void convert_trailingNewline_shouldNotAddALine() throws IOException {
+    Path input = write("07:30\n12:00\n");
+    Path output = directory.resolve("out.txt");
+
+    BulkConverter.Result result = new BulkConverter(converter, 2, 4).convert(input, output);
+
+    assertThat(Files.readString(output)).isEqualTo("half past seven\nnoon\n");
+    assertThat(result.lines()).isEqualTo(2);
+  }
+
+  @Test
+  void convert_emptyFile_shouldWriteEmptyOutput() throws IOException {
+    Path input = write("");
+    Path output = write("stale");
+
+    BulkConverter.Result result = new BulkConverter(converter, 2, 4).convert(input, output);
+
+    assertThat(Files.size(output)).isZero();
+    assertThat(result.lines()).isZero();
+  }
+
+  @Test
+  void constructor_nonPositiveSettings_shouldThrow() {
+    assertThatThrownBy(() -> new BulkConverter(converter, 0, 4))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new BulkConverter(converter, 1, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void run_shouldConvertAndReportThroughput() throws IOException {
+    Path input = write("07:30\n25:00");
+    Path output = directory.resolve("out.txt");
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    int status = BulkConverter.run(new String[] {
+        input.toString(), output.toString(), "--threads=2", "--chunk-size=4"},
+        new PrintStream(err, true, StandardCharsets.UTF_8));
+
+    assertThat(status).isZero();
+    assertThat(Files.readString(output)).isEqualTo(
+        "half past seven\nERROR " + TimeParseError.OUT_OF_RANGE.getMessage() + "\n");
+    assertThat(err.toString(StandardCharsets.UTF_8))
+        .startsWith("Converted 2 lines (1 rejected)")
+        .contains("MB/s with 2 worker threads");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "in.txt", "in.txt out.txt extra", "in.txt out.txt --threads=0",
+      "in.txt out.txt --threads=x", "in.txt out.txt --chunk-size=-1"})
+  void run_invalidArguments_shouldPrintUsage(String args) throws IOException {
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    int status = BulkConverter.run(args.isEmpty() ? new String[0] : args.split(" "),
+        new PrintStream(err, true, StandardCharsets.UTF_8));
+
+    assertThat(status).isEqualTo(2);
+    assertThat(err.toString(StandardCharsets.UTF_8)).startsWith("Usage: BulkConverter");
+  }
+
+  private Path write(String content) throws IOException {
+    Path file = Files.createTempFile(directory, "times", ".txt");
+    return Files.writeString(file, content, StandardCharsets.UTF_8);
+  }
+
+  private static String expected(String line) {
+    int minuteOfDay = converter.parseMinuteOfDay(line.strip());
+    return minuteOfDay >= 0
+        ? converter.convert(minuteOfDay)
+        : "ERROR " + TimeParseError.fromCode(minuteOfDay).getMessage();
+  }
+}
@@ -0,0 +1,75 @@
+package com.britishspokentime.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Tests for the OpenAPI documentation.
+ * Checks the prebuilt spec is served and still matches what springdoc generates
+ * from the controllers, so a stale static/openapi.json fails the build.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class OpenApiConfigTest {
+
+  private static final String SPEC = "static/openapi.json";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Test
+  void staticSpec_shouldBeServed() throws Exception {
+    mockMvc.perform(get("/openapi.json"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+  }
+
+  @Test
+  @EnabledIf("springdocPresent")
+  void staticSpec_shouldMatchRuntimeSpec() throws Exception {
+    // Arrange
+    JsonNode prebuilt = readSpec();
+
+    // Act
+    String runtime = mockMvc.perform(get("/api-docs"))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+
+    // Assert
+    assertThat(objectMapper.readTree(runtime))
+        .as("static/openapi.json is stale; regenerate with ./mvnw -Popenapi verify -DskipTests")
+        .isEqualTo(prebuilt);
+  }
+
+  private JsonNode readSpec() throws IOException {
+    try (InputStream in = new ClassPathResource(SPEC).getInputStream()) {
+      return objectMapper.readTree(in);
+    }
+  }
+
+  static boolean springdocPresent() {
+    return ClassUtils.isPresent("org.springdoc.core.configuration.SpringDocConfiguration",
+        OpenApiConfigTest.class.getClassLoader());
+  }
+}
@@ -0,0 +1,106 @@
+package com.britishspokentime.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.validation.BindValidationException;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tests for TimeProperties binding.
+ * Values that would make every request fail must stop the application at startup,
+ * or a server started without Spring.
+ */
+class TimePropertiesTest {
+
+  private final ApplicationContextRunner runner = new ApplicationContextRunner()
+      .withUserConfiguration(PropertiesConfig.class);
+
+  @Test
+  void defaults_shouldBind() {
+    runner.run(context -> assertThat(context).hasNotFailed()
+        .getBean(TimeProperties.class)
+        .extracting(properties -> properties.getStream().getFlushLines())
+        .isEqualTo(512));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "time.stream.flush-lines=0",
+      "time.stream.max-line-length=0",
+      "time.batch.max-size=0",
+      "time.converter.bulk-threshold=0",
+      "time.converter.fuzzy-max-distance=-1",
+      "time.metrics.timer-sample-rate=0",
+      "time.logging.sampling.conversion=-1",
+      "time.logging.async.queue-size=0",
+      "time.logging.summary-interval=0s",
+      "time.logging.summary-interval=-1m",
+      "time.http-cache.max-age=-1s",
+      "time.grpc.port=-1",
+      "time.grpc.port=65536"
+  })
+  void invalidValue_shouldFailStartup(String property) {
+    runner.withPropertyValues(property)
+        .run(context -> assertThat(context).hasFailed()
+            .getFailure()
+            .rootCause()
+            .isInstanceOf(BindValidationException.class));
+  }
+
+  @Test
+  void zeroWhereAllowed_shouldBind() {
+    runner.withPropertyValues("time.logging.sampling.conversion=0",
+            "time.converter.fuzzy-max-distance=0", "time.http-cache.max-age=0s",
+            "time.grpc.port=0")
+        .run(context -> assertThat(context).hasNotFailed());
+  }
+
+  @Test
+  void fromArguments_shouldBindTimeArgumentsOnly() {
+    TimeProperties properties = TimeProperties.fromArguments("--server.port=8081",
+        "--time.http-cache.max-age=1h", "--time.response-cache.enabled=false",
+        "--time.converter.engine=strategy", "positional");
+
+    assertThat(properties.getHttpCache().getMaxAge()).isEqualTo(Duration.ofHours(1));
+    assertThat(properties.getResponseCache().isEnabled()).isFalse();
+    assertThat(properties.getConverter().getEngine())
+        .isEqualTo(TimeProperties.Engine.STRATEGY);
+    assertThat(properties.getStream().getFlushLines()).isEqualTo(512);
+  }
+
+  @Test
+  void fromArguments_noTimeArguments_shouldKeepDefaults() {
+    assertThat(TimeProperties.fromArguments("--server.port=8081"))
+        .isEqualTo(new TimeProperties());
+  }
+
+  @Test
+  void fromArguments_invalidValue_shouldThrow() {
+    assertThatThrownBy(() -> TimeProperties.fromArguments("--time.stream.flush-lines=0"))
+        .isInstanceOf(BindException.class)
+        .rootCause()
+        .isInstanceOf(BindValidationException.class);
+    assertThatThrownBy(() -> TimeProperties.fromArguments("--time.http-cache.max-age=soon"))
+        .isInstanceOf(BindException.class);
+    assertThatThrownBy(() -> TimeProperties.fromArguments("--time.http-cache.max-age=-1h"))
+        .isInstanceOf(BindException.class)
+        .rootCause()
+        .isInstanceOf(BindValidationException.class);
+    assertThatThrownBy(() -> TimeProperties.fromArguments("--time.batch.max-size"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Expected --time.batch.max-size=<value>");
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @EnableConfigurationProperties(TimeProperties.class)
+  static class PropertiesConfig {
+  }
+}
@@ -0,0 +1,56 @@
+package com.britishspokentime.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the Prometheus scrape endpoint.
+ * Verifies conversion metrics are published, including for cached responses.
+ * Every conversion is timed, so the timer counts are exact.
+ */
+@SpringBootTest(properties = "time.metrics.timer-sample-rate=1")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsEndpointIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  void prometheus_shouldExposeConversionMetrics() throws Exception {
+    // Arrange
+    mockMvc.perform(post("/api/v1/time/convert")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"time\":\"07:30\"}"))
+        .andExpect(status().isOk());
+    mockMvc.perform(get("/api/v1/time/convert").param("time", "7:5"))
+        .andExpect(status().isBadRequest());
+    mockMvc.perform(get("/api/v1/time/7/30"))
+        .andExpect(status().isOk());
+
+    // Act & Assert
+    mockMvc.perform(get("/actuator/prometheus"))
+        .andExpect(status().isOk())
+        .andExpect(content().string(containsString(
+            "time_conversions_total{application=\"british-spoken-time\","
+                + "strategy=\"HalfPastStrategy\"}")))
+        .andExpect(content().string(containsString(
+            "time_parse_failures_total{application=\"british-spoken-time\","
+                + "reason=\"malformed\"}")))
+        .andExpect(content().string(containsString(
+            "time_conversion_requests_seconds_count{application=\"british-spoken-time\","
+                + "operation=\"single\"} 3\n")))
+        .andExpect(content().string(containsString("quantile=\"0.99\"")));
+  }
+}
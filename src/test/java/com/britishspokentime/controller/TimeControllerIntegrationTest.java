@@ -1,14 +1,26 @@
 package com.britishspokentime.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.britishspokentime.dto.BatchTimeRequest;
 import com.britishspokentime.dto.TimeRequest;
+import com.britishspokentime.service.binary.BinaryMediaTypes;
+import com.britishspokentime.service.metrics.ConversionMetrics;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -18,6 +30,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -35,6 +48,9 @@ class TimeControllerIntegrationTest {
   @Autowired
   private ObjectMapper objectMapper;
 
+  @Autowired
+  private ConversionMetrics metrics;
+
   // ========== POST /api/v1/time/convert Tests ==========
 
   @ParameterizedTest
@@ -67,6 +83,18 @@ class TimeControllerIntegrationTest {
         .andExpect(jsonPath("$.spokenForm", is(expectedSpoken)));
   }
 
+  @Test
+  void testConvertTime_cachedResponseBody() throws Exception {
+    TimeRequest request = new TimeRequest("7:05");
+
+    mockMvc.perform(post("/api/v1/time/convert")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().string("{\"time\":\"7:05\",\"spokenForm\":\"five past seven\"}"));
+  }
+
   @Test
   void testConvertTime_nullTime() throws Exception {
     TimeRequest request = new TimeRequest(null);
@@ -76,7 +104,29 @@ class TimeControllerIntegrationTest {
             .content(objectMapper.writeValueAsString(request)))
         .andExpect(status().isBadRequest())
         .andExpect(jsonPath("$.status", is(400)))
-        .andExpect(jsonPath("$.error", is("Validation Error")));
+        .andExpect(jsonPath("$.error", is("Validation Error")))
+        .andExpect(jsonPath("$.message", is("Time is required")))
+        .andExpect(jsonPath("$.path", is("/api/v1/time/convert")));
+  }
+
+  @ParameterizedTest
+  @CsvSource(value = {
+      "''; Time is required, Time must be in HH:mm format (00:00 to 23:59)",
+      "25:00; Time must be in HH:mm format (00:00 to 23:59)",
+      "7:5; Time must be in HH:mm format (00:00 to 23:59)"
+  }, delimiter = ';')
+  void testConvertTime_invalidTime_keepsValidationMessages(String invalidTime, String message)
+      throws Exception {
+    TimeRequest request = new TimeRequest(invalidTime);
+
+    mockMvc.perform(post("/api/v1/time/convert")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.error", is("Validation Error")))
+        .andExpect(jsonPath("$.message", is(message)))
+        .andExpect(jsonPath("$.path", is("/api/v1/time/convert")))
+        .andExpect(jsonPath("$.timestamp").exists());
   }
 
   @ParameterizedTest
@@ -91,6 +141,286 @@ class TimeControllerIntegrationTest {
         .andExpect(jsonPath("$.status", is(400)));
   }
 
+  // ========== GET /api/v1/time/{hour}/{minute} and /convert?time= Tests ==========
+
+  @ParameterizedTest
+  @CsvSource({
+      "7, 30, 7:30, half past seven",
+      "07, 30, 07:30, half past seven",
+      "00, 00, 00:00, midnight",
+      "12, 00, 12:00, noon",
+      "23, 59, 23:59, one to twelve"
+  })
+  void testGetConvert_byPath(String hour, String minute, String time, String expected)
+      throws Exception {
+    mockMvc.perform(get("/api/v1/time/{hour}/{minute}", hour, minute))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(header().string(HttpHeaders.ETAG,
+            matchesPattern("\"[0-9a-f]{16}-" + hour + minute + "\"")))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL,
+            "max-age=31536000, public, immutable"))
+        .andExpect(jsonPath("$.time", is(time)))
+        .andExpect(jsonPath("$.spokenForm", is(expected)));
+  }
+
+  @Test
+  void testGetConvert_byQuery() throws Exception {
+    mockMvc.perform(get("/api/v1/time/convert").param("time", "9:45"))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(HttpHeaders.ETAG))
+        .andExpect(jsonPath("$.time", is("9:45")))
+        .andExpect(jsonPath("$.spokenForm", is("quarter to ten")));
+  }
+
+  @Test
+  void testGetConvert_ifNoneMatch_shouldReturnNotModified() throws Exception {
+    String etag = mockMvc.perform(get("/api/v1/time/7/30"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/api/v1/time/7/30").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, etag))
+        .andExpect(header().exists(HttpHeaders.CACHE_CONTROL))
+        .andExpect(content().string(""));
+
+    mockMvc.perform(get("/api/v1/time/convert").param("time", "7:30")
+            .header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + etag))
+        .andExpect(status().isNotModified());
+  }
+
+  @Test
+  void testGetConvert_ifNoneMatch_shouldNotCountConversion() throws Exception {
+    String etag = mockMvc.perform(get("/api/v1/time/8/15"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    Map<String, Long> before = metrics.conversionsByStrategy();
+
+    mockMvc.perform(get("/api/v1/time/8/15").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified());
+
+    assertThat(metrics.conversionsByStrategy()).isEqualTo(before);
+  }
+
+  @Test
+  void testGetConvert_staleEtag_shouldReturnBody() throws Exception {
+    mockMvc.perform(get("/api/v1/time/7/30").header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.spokenForm", is("half past seven")));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "25, 00",
+      "12, 60",
+      "7, 5"
+  })
+  void testGetConvert_invalidTime(String hour, String minute) throws Exception {
+    mockMvc.perform(get("/api/v1/time/{hour}/{minute}", hour, minute))
+        .andExpect(status().isBadRequest())
+        .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+        .andExpect(jsonPath("$.status", is(400)))
+        .andExpect(jsonPath("$.error", is("Bad Request")))
+        .andExpect(jsonPath("$.path", is("/api/v1/time/" + hour + "/" + minute)));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "ab, cd",
+      "123, 30",
+      "7, 300"
+  })
+  void testGetConvert_nonNumericSegments_shouldNotBeTreatedAsTime(String hour, String minute)
+      throws Exception {
+    mockMvc.perform(get("/api/v1/time/{hour}/{minute}", hour, minute))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.status", is(404)))
+        .andExpect(jsonPath("$.error", is("Not Found")))
+        .andExpect(jsonPath("$.path", is("/api/v1/time/" + hour + "/" + minute)));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "/api/v1/time/convert/batch",
+      "/api/v1/time/convert/stream"
+  })
+  void testGetBulkEndpoint_shouldNotBeTreatedAsTime(String path) throws Exception {
+    mockMvc.perform(get(path))
+        .andExpect(status().isMethodNotAllowed())
+        .andExpect(header().string(HttpHeaders.ALLOW, "POST"))
+        .andExpect(jsonPath("$.status", is(405)))
+        .andExpect(jsonPath("$.error", is("Method Not Allowed")))
+        .andExpect(jsonPath("$.path", is(path)));
+  }
+
+  @Test
+  void testGetConvert_invalidQuery_reportsParserMessage() throws Exception {
+    mockMvc.perform(get("/api/v1/time/convert").param("time", "24:00"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.error", is("Bad Request")))
+        .andExpect(jsonPath("$.message", is("Hour must be 0-23 and minute must be 0-59")))
+        .andExpect(jsonPath("$.path", is("/api/v1/time/convert")));
+  }
+
+  // ========== POST /api/v1/time/convert/batch Tests ==========
+
+  @Test
+  void testConvertBatch_mixedTimes() throws Exception {
+    BatchTimeRequest request = new BatchTimeRequest(
+        Arrays.asList("7:30", "25:00", "00:00", "ab:cd", null, "6:32"));
+
+    mockMvc.perform(post("/api/v1/time/convert/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.results", hasSize(6)))
+        .andExpect(jsonPath("$.results[0].time", is("7:30")))
+        .andExpect(jsonPath("$.results[0].spokenForm", is("half past seven")))
+        .andExpect(jsonPath("$.results[0].error").doesNotExist())
+        .andExpect(jsonPath("$.results[1].time", is("25:00")))
+        .andExpect(jsonPath("$.results[1].spokenForm").doesNotExist())
+        .andExpect(jsonPath("$.results[1].error",
+            is("Hour must be 0-23 and minute must be 0-59")))
+        .andExpect(jsonPath("$.results[2].spokenForm", is("midnight")))
+        .andExpect(jsonPath("$.results[3].error", is("Time must be in HH:mm format")))
+        .andExpect(jsonPath("$.results[4].error", is("Time string cannot be null or empty")))
+        .andExpect(jsonPath("$.results[5].spokenForm", is("six thirty two")));
+  }
+
+  @Test
+  void testConvertBatch_emptyList() throws Exception {
+    BatchTimeRequest request = new BatchTimeRequest(Collections.emptyList());
+
+    mockMvc.perform(post("/api/v1/time/convert/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.results", hasSize(0)));
+  }
+
+  @Test
+  void testConvertBatch_missingTimes() throws Exception {
+    mockMvc.perform(post("/api/v1/time/convert/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{}"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.error", is("Validation Error")))
+        .andExpect(jsonPath("$.message", is("Times are required")));
+  }
+
+  @Test
+  void testConvertBatch_exceedingMaxSize() throws Exception {
+    BatchTimeRequest request = new BatchTimeRequest(Collections.nCopies(1001, "7:30"));
+
+    mockMvc.perform(post("/api/v1/time/convert/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.error", is("Bad Request")))
+        .andExpect(jsonPath("$.message", is("Batch size must not exceed 1000 times: 1001")));
+  }
+
+  // ========== Binary protocol Tests ==========
+
+  @Test
+  void testConvertBinary_defaultsToPhrases() throws Exception {
+    mockMvc.perform(post("/api/v1/time/convert")
+            .contentType(BinaryMediaTypes.MINUTES)
+            .content(new byte[] {0x01, (byte) 0xC2}))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(BinaryMediaTypes.PHRASES))
+        .andExpect(content().bytes(phrases("half past seven")));
+  }
+
+  @Test
+  void testConvertBatchBinary_phraseIdsByAccept() throws Exception {
+    byte[] dictionary = mockMvc.perform(get("/api/v1/time/phrases"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(BinaryMediaTypes.PHRASES))
+        .andReturn()
+        .getResponse()
+        .getContentAsByteArray();
+
+    mockMvc.perform(post("/api/v1/time/convert/batch")
+            .contentType(BinaryMediaTypes.MINUTES)
+            .accept(BinaryMediaTypes.PHRASE_IDS)
+            .content(new byte[] {0x00, 0x00, 0x05, (byte) 0xA0}))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(BinaryMediaTypes.PHRASE_IDS))
+        .andExpect(content().bytes(new byte[] {0x00, 0x00, (byte) 0xFF, (byte) 0xFF}));
+    assertThat(dictionary).startsWith(phrases("midnight"));
+  }
+
+  @Test
+  void testConvertBinary_shouldPreferTheHighestQuality() throws Exception {
+    mockMvc.perform(post("/api/v1/time/convert")
+            .contentType(BinaryMediaTypes.MINUTES)
+            .header(HttpHeaders.ACCEPT, BinaryMediaTypes.PHRASES_VALUE + ";q=0.5, "
+                + BinaryMediaTypes.PHRASE_IDS_VALUE)
+            .content(new byte[] {0x02, (byte) 0xD0}))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(BinaryMediaTypes.PHRASE_IDS));
+  }
+
+  @Test
+  void testConvertBinary_malformedAccept_shouldReturnNotAcceptable() throws Exception {
+    mockMvc.perform(post("/api/v1/time/convert")
+            .contentType(BinaryMediaTypes.MINUTES)
+            .header(HttpHeaders.ACCEPT, BinaryMediaTypes.PHRASE_IDS_VALUE + ";q=high")
+            .content(new byte[] {0x02, (byte) 0xD0}))
+        .andExpect(status().isNotAcceptable())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.status", is(406)))
+        .andExpect(jsonPath("$.error", is("Not Acceptable")));
+  }
+
+  @Test
+  void testConvertBinary_malformedRequests() throws Exception {
+    mockMvc.perform(post("/api/v1/time/convert")
+            .contentType(BinaryMediaTypes.MINUTES)
+            .content(new byte[] {0x01, (byte) 0xC2, 0x00}))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.error", is("Bad Request")))
+        .andExpect(jsonPath("$.message",
+            is("Binary request length must be a multiple of 2 bytes: 3")));
+
+    mockMvc.perform(post("/api/v1/time/convert/batch")
+            .contentType(BinaryMediaTypes.MINUTES)
+            .content(new byte[2002]))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message", is("Batch size must not exceed 1000 times: 1001")));
+  }
+
+  // ========== POST /api/v1/time/convert/stream Tests ==========
+
+  @Test
+  void testConvertStream_ndjson() throws Exception {
+    String body = "{\"time\":\"7:30\"}\n{\"time\":\"25:00\"}\n\"00:00\"\n";
+
+    mockMvc.perform(post("/api/v1/time/convert/stream")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(body))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+        .andExpect(content().string(
+            "{\"time\":\"7:30\",\"spokenForm\":\"half past seven\"}\n"
+                + "{\"time\":\"25:00\",\"error\":\"Hour must be 0-23 and minute must be 0-59\"}\n"
+                + "{\"time\":\"00:00\",\"spokenForm\":\"midnight\"}\n"));
+  }
+
+  @Test
+  void testConvertStream_plainText() throws Exception {
+    mockMvc.perform(post("/api/v1/time/convert/stream")
+            .contentType(MediaType.TEXT_PLAIN)
+            .content("12:00\n9:45"))
+        .andExpect(status().isOk())
+        .andExpect(content().string(
+            "{\"time\":\"12:00\",\"spokenForm\":\"noon\"}\n"
+                + "{\"time\":\"9:45\",\"spokenForm\":\"quarter to ten\"}\n"));
+  }
+
   // ========== Health Check Test ==========
 
   @Test
@@ -146,4 +476,14 @@ class TimeControllerIntegrationTest {
           .andExpect(jsonPath("$.spokenForm", is(expected[i])));
     }
   }
+
+  private static byte[] phrases(String... phrases) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (String phrase : phrases) {
+      byte[] utf8 = phrase.getBytes(StandardCharsets.UTF_8);
+      out.write(utf8.length);
+      out.writeBytes(utf8);
+    }
+    return out.toByteArray();
+  }
 }
@@ -0,0 +1,61 @@
+package com.britishspokentime.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.britishspokentime.service.TimeService;
+import com.britishspokentime.service.cache.TimeResponseCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the cacheable GET endpoints with the response cache disabled.
+ * Conditional requests must be answered from the entity tag alone, without converting.
+ */
+@SpringBootTest(properties = "time.response-cache.enabled=false")
+@AutoConfigureMockMvc
+class TimeControllerUncachedIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private TimeResponseCache responseCache;
+
+  @MockitoSpyBean
+  private TimeService timeService;
+
+  @Test
+  void get_shouldCarryTheSameEtagAsTheCache() throws Exception {
+    assertThat(responseCache.size()).isZero();
+
+    mockMvc.perform(get("/api/v1/time/7/30"))
+        .andExpect(status().isOk())
+        .andExpect(header().stringValues(HttpHeaders.ETAG, responseCache.etag("7:30", 450)))
+        .andExpect(jsonPath("$.time", is("7:30")))
+        .andExpect(jsonPath("$.spokenForm", is("half past seven")));
+  }
+
+  @Test
+  void get_ifNoneMatch_shouldNotConvert() throws Exception {
+    mockMvc.perform(get("/api/v1/time/convert").param("time", "07:30")
+            .header(HttpHeaders.IF_NONE_MATCH, responseCache.etag("07:30", 450)))
+        .andExpect(status().isNotModified())
+        .andExpect(header().exists(HttpHeaders.CACHE_CONTROL));
+
+    verify(timeService, never()).convertTime(anyString(), any());
+  }
+}
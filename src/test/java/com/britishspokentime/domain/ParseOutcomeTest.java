@@ -0,0 +1,55 @@
+package com.britishspokentime.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Unit tests for ParseOutcome.
+ */
+class ParseOutcomeTest {
+
+  @Test
+  void testOf_minuteOfDay_returnsValidInternedOutcome() {
+    ParseOutcome outcome = ParseOutcome.of(450);
+
+    assertTrue(outcome.isValid());
+    assertSame(Time.of(7, 30), outcome.getTime());
+    assertEquals(450, outcome.getMinuteOfDay());
+    assertNull(outcome.getError());
+    assertSame(outcome, ParseOutcome.of(450));
+  }
+
+  @ParameterizedTest
+  @EnumSource(TimeParseError.class)
+  void testOf_errorCode_returnsRejection(TimeParseError error) {
+    ParseOutcome outcome = ParseOutcome.of(error.getCode());
+
+    assertFalse(outcome.isValid());
+    assertSame(error, outcome.getError());
+    assertSame(ParseOutcome.rejected(error), outcome);
+    assertThrows(IllegalStateException.class, outcome::getTime);
+    assertThrows(IllegalStateException.class, outcome::getMinuteOfDay);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1440, -99})
+  void testOf_outOfRange_throws(int result) {
+    assertThrows(IllegalArgumentException.class, () -> ParseOutcome.of(result));
+  }
+
+  @Test
+  void testToString() {
+    assertEquals("ParseOutcome(Time(hour=7, minute=30))", ParseOutcome.of(450).toString());
+    assertEquals("ParseOutcome(MALFORMED)",
+        ParseOutcome.rejected(TimeParseError.MALFORMED).toString());
+  }
+}
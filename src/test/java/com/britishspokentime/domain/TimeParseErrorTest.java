@@ -0,0 +1,34 @@
+package com.britishspokentime.domain;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Unit tests for TimeParseError.
+ */
+class TimeParseErrorTest {
+
+  @ParameterizedTest
+  @EnumSource(TimeParseError.class)
+  void testFromCode_resolvesEveryReasonByItsOwnCode(TimeParseError error) {
+    assertSame(error, TimeParseError.fromCode(error.getCode()));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 450, Integer.MIN_VALUE})
+  void testFromCode_rejectsValuesThatAreNotCodes(int code) {
+    assertThrows(IllegalArgumentException.class, () -> TimeParseError.fromCode(code));
+  }
+
+  @Test
+  void testFromCode_rejectsCodesPastTheLast() {
+    int pastLast = -TimeParseError.values().length - 1;
+
+    assertThrows(IllegalArgumentException.class, () -> TimeParseError.fromCode(pastLast));
+  }
+}
@@ -2,6 +2,9 @@ package com.britishspokentime.domain;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -97,4 +100,50 @@ class TimeTest {
     Time time = new Time(hour, 30);
     assertEquals(expected, time.getNextHour());
   }
+
+  @Test
+  void testOf_returnsSharedInstance() {
+    assertSame(Time.of(7, 30), Time.of(7, 30));
+    assertSame(Time.of(7, 30), Time.ofMinuteOfDay(450));
+  }
+
+  @Test
+  void testOf_equalToConstructedTime() {
+    Time constructed = new Time(7, 30);
+    assertNotSame(constructed, Time.of(7, 30));
+    assertEquals(constructed, Time.of(7, 30));
+    assertEquals(constructed.hashCode(), Time.of(7, 30).hashCode());
+    assertEquals("Time(hour=7, minute=30)", Time.of(7, 30).toString());
+  }
+
+  @Test
+  void testOf_coversEveryMinuteOfTheDay() {
+    for (int minuteOfDay = 0; minuteOfDay < 1440; minuteOfDay++) {
+      Time time = Time.ofMinuteOfDay(minuteOfDay);
+      Time expected = new Time(minuteOfDay / 60, minuteOfDay % 60);
+      assertEquals(expected, time);
+      assertEquals(minuteOfDay, time.getMinuteOfDay());
+      assertEquals(expected.getTwelveHourFormat(), time.getTwelveHourFormat());
+      assertEquals(expected.getNextHour(), time.getNextHour());
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "-1, 0",
+      "24, 0",
+      "12, 60",
+      "12, -1"
+  })
+  void testOf_invalidTimes_throwException(int hour, int minute) {
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> Time.of(hour, minute));
+    assertEquals("Invalid time: " + hour + ":" + minute, exception.getMessage());
+  }
+
+  @ParameterizedTest
+  @CsvSource({"-1", "1440"})
+  void testOfMinuteOfDay_outsideDay_throwsException(int minuteOfDay) {
+    assertThrows(IllegalArgumentException.class, () -> Time.ofMinuteOfDay(minuteOfDay));
+  }
 }
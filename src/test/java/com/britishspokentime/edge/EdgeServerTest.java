@@ -0,0 +1,242 @@
+package com.britishspokentime.edge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.britishspokentime.config.TimeProperties;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * Differential tests for the edge server.
+ * Sends the same requests to the edge server and to the Spring application and
+ * expects the same status, headers that matter to clients and body; only error
+ * timestamps may differ.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class EdgeServerTest {
+
+  private static final String TIMESTAMP = "\"timestamp\":\"[^\"]*\"";
+  private static final List<String> COMPARED_HEADERS =
+      List.of("Content-Type", "ETag", "Cache-Control");
+
+  private static EdgeServer edgeServer;
+
+  private final HttpClient client = HttpClient.newHttpClient();
+
+  @LocalServerPort
+  private int springPort;
+
+  @BeforeAll
+  static void startEdgeServer() throws IOException {
+    edgeServer = EdgeServer.start(0, new TimeProperties());
+  }
+
+  @AfterAll
+  static void stopEdgeServer() {
+    edgeServer.close();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "{\"time\":\"7:30\"}",
+      "{\"time\":\"07:30\"}",
+      "{\"time\":\"00:00\"}",
+      "{\"time\":\"12:00\"}",
+      "{\"time\":\"23:59\"}",
+      "{\"time\":\"25:00\"}",
+      "{\"time\":\"7:60\"}",
+      "{\"time\":\"abc\"}",
+      "{\"time\":\"\"}",
+      "{\"time\":\"   \"}",
+      "{\"time\":\" 7:30 \"}",
+      "{\"time\":\"\\u0037:30\"}",
+      "{\"time\":\"7:3\\n\"}",
+      "{\"time\":\"\\u00e9\\\"\\\\\"}",
+      "{\"time\":null}",
+      "{\"time\":730}",
+      "{\"time\":true}",
+      "{}",
+      "{\"other\":[1,{\"a\":null}],\"time\":\"8:15\"}",
+      "{\"time\":\"8:15\",\"time\":\"9:45\"}",
+      "{\"time\":[\"7:30\"]}",
+      "{\"time\":\"7:30\"",
+      "{\"time\":\"7:30\"} x",
+      "",
+      "[]",
+      "\"7:30\"",
+      "\"25:00\"",
+      "\"\"",
+      "730",
+      "null"
+  })
+  void postConvert_shouldMatchSpringApplication(String body) throws Exception {
+    assertSameResponse(port -> HttpRequest.newBuilder(uri(port, "/api/v1/time/convert"))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build());
+  }
+
+  @Test
+  void postConvert_nonJsonContentType_shouldMatchSpringApplication() throws Exception {
+    assertSameResponse(port -> HttpRequest.newBuilder(uri(port, "/api/v1/time/convert"))
+        .header("Content-Type", "text/plain")
+        .POST(HttpRequest.BodyPublishers.ofString("{\"time\":\"7:30\"}"))
+        .build());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "/api/v1/time/convert?time=7:30",
+      "/api/v1/time/convert?time=07%3A30",
+      "/api/v1/time/convert?time=25:00",
+      "/api/v1/time/convert?time=",
+      "/api/v1/time/convert?time=+7:30",
+      "/api/v1/time/convert?other=1&time=9:45",
+      "/api/v1/time/convert",
+      "/api/v1/time/7/30",
+      "/api/v1/time/07/05",
+      "/api/v1/time/0/0",
+      "/api/v1/time/25/00",
+      "/api/v1/time/a/b",
+      "/api/v1/time/123/30",
+      "/api/v1/time/health",
+      "/api/v1/time/unknown",
+      "/api/v1/other"
+  })
+  void get_shouldMatchSpringApplication(String path) throws Exception {
+    assertSameResponse(port -> HttpRequest.newBuilder(uri(port, path)).GET().build());
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "/api/v1/time/7/30",
+      "/api/v1/time/convert?time=7:30",
+      "/api/v1/time/convert?time=07:30"
+  })
+  void get_matchingEtag_shouldAnswerNotModified(String path) throws Exception {
+    HttpResponse<String> first = send(edgeServer.getPort(),
+        port -> HttpRequest.newBuilder(uri(port, path)).GET().build());
+    String etag = first.headers().firstValue("ETag").orElseThrow();
+
+    assertSameResponse(port -> HttpRequest.newBuilder(uri(port, path))
+        .header("If-None-Match", etag)
+        .GET()
+        .build());
+    HttpResponse<String> revalidated = send(edgeServer.getPort(),
+        port -> HttpRequest.newBuilder(uri(port, path)).header("If-None-Match", etag).build());
+    assertThat(revalidated.statusCode()).isEqualTo(304);
+    assertThat(revalidated.body()).isEmpty();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "/api/v1/time/convert",
+      "/api/v1/time/health",
+      "/api/v1/time/7/30",
+      "/api/v1/time/unknown"
+  })
+  void delete_shouldMatchSpringApplication(String path) throws Exception {
+    assertSameResponse(port -> HttpRequest.newBuilder(uri(port, path))
+        .DELETE()
+        .build());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "/api/v1/time/convert?time=7:30",
+      "/api/v1/time/convert?time=25:00",
+      "/api/v1/time/convert",
+      "/api/v1/time/7/30",
+      "/api/v1/time/25/00",
+      "/api/v1/time/health",
+      "/api/v1/time/unknown",
+      "/api/v1/other"
+  })
+  void head_shouldMatchSpringApplication(String path) throws Exception {
+    assertSameResponse(port -> HttpRequest.newBuilder(uri(port, path))
+        .method("HEAD", HttpRequest.BodyPublishers.noBody())
+        .build());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "/api/v1/time/convert?time=7:30",
+      "/api/v1/time/7/30",
+      "/api/v1/time/health"
+  })
+  void head_shouldAnnounceTheLengthOfTheGetBody(String path) throws Exception {
+    HttpResponse<String> get = send(edgeServer.getPort(),
+        port -> HttpRequest.newBuilder(uri(port, path)).GET().build());
+    HttpResponse<String> head = send(edgeServer.getPort(),
+        port -> HttpRequest.newBuilder(uri(port, path))
+            .method("HEAD", HttpRequest.BodyPublishers.noBody())
+            .build());
+
+    assertThat(head.headers().firstValue("Content-Length"))
+        .hasValue(Integer.toString(get.body().getBytes(StandardCharsets.UTF_8).length));
+    assertThat(head.body()).isEmpty();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "/api/v1/time/convert",
+      "/api/v1/time/7/30",
+      "/api/v1/time/health",
+      "/api/v1/time/unknown",
+      "/api/v1/other"
+  })
+  void options_shouldMatchSpringApplication(String path) throws Exception {
+    assertSameResponse(port -> HttpRequest.newBuilder(uri(port, path))
+        .method("OPTIONS", HttpRequest.BodyPublishers.noBody())
+        .build());
+  }
+
+  private void assertSameResponse(RequestFactory request) throws Exception {
+    HttpResponse<String> expected = send(springPort, request);
+    HttpResponse<String> actual = send(edgeServer.getPort(), request);
+
+    assertThat(actual.statusCode()).isEqualTo(expected.statusCode());
+    for (String header : COMPARED_HEADERS) {
+      assertThat(actual.headers().firstValue(header))
+          .as(header)
+          .isEqualTo(expected.headers().firstValue(header));
+    }
+    // Spring lists the methods of an OPTIONS response in no fixed order
+    assertThat(allowedMethods(actual)).isEqualTo(allowedMethods(expected));
+    assertThat(actual.body().replaceAll(TIMESTAMP, "\"timestamp\":\"\""))
+        .isEqualTo(expected.body().replaceAll(TIMESTAMP, "\"timestamp\":\"\""));
+  }
+
+  private static Set<String> allowedMethods(HttpResponse<String> response) {
+    return response.headers().firstValue("Allow")
+        .map(allow -> Set.of(allow.split(",")))
+        .orElse(Set.of());
+  }
+
+  private HttpResponse<String> send(int port, RequestFactory request) throws Exception {
+    return client.send(request.create(port), HttpResponse.BodyHandlers.ofString());
+  }
+
+  private static URI uri(int port, String path) {
+    return URI.create("http://localhost:" + port + path);
+  }
+
+  @FunctionalInterface
+  private interface RequestFactory {
+    HttpRequest create(int port);
+  }
+}
@@ -0,0 +1,83 @@
+package com.britishspokentime.edge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.britishspokentime.dto.ErrorResponse;
+import com.britishspokentime.dto.TimeResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Tests for JsonEncoder.
+ * Compares every encoding byte for byte with Jackson as configured by Spring.
+ */
+class JsonEncoderTest {
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+      .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+      .build();
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "7:30",
+      "",
+      "quote \" and backslash \\ and slash /",
+      "\b\f\n\r\t",
+      "\u0000\u0001\u001f\u007f",
+      "caf\u00e9 \u20ac",
+      "\u2028\u2029"
+  })
+  void encodeTimeResponse_shouldMatchJackson(String text) throws Exception {
+    // Arrange
+    TimeResponse response = new TimeResponse(text, "half past " + text);
+
+    // Act & Assert
+    assertThat(JsonEncoder.encode(response)).isEqualTo(objectMapper.writeValueAsBytes(response));
+  }
+
+  @Test
+  void encodeTimeResponse_supplementaryCharacter_shouldWriteStandardUtf8() {
+    // Jackson writes each half of a surrogate pair as its own three-byte sequence
+    TimeResponse response = new TimeResponse("\ud83d\udd52", "clock");
+
+    assertThat(JsonEncoder.encode(response))
+        .isEqualTo("{\"time\":\"\ud83d\udd52\",\"spokenForm\":\"clock\"}"
+            .getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void encodeTimeResponse_nullFields_shouldMatchJackson() throws Exception {
+    TimeResponse response = new TimeResponse(null, null);
+
+    assertThat(JsonEncoder.encode(response)).isEqualTo(objectMapper.writeValueAsBytes(response));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "2026-10-18T16:23:04",
+      "2026-10-18T16:23:04.5",
+      "2026-10-18T16:23:04.123456789",
+      "2026-01-01T00:00"
+  })
+  void encodeErrorResponse_shouldMatchJackson(String timestamp) throws Exception {
+    // Arrange
+    ErrorResponse response = new ErrorResponse(LocalDateTime.parse(timestamp), 400,
+        "Bad Request", "Minute must be between 0 and 59", "/api/v1/time/7/60");
+
+    // Act & Assert
+    assertThat(JsonEncoder.encode(response)).isEqualTo(objectMapper.writeValueAsBytes(response));
+  }
+
+  @Test
+  void encodeErrorResponse_nullFields_shouldMatchJackson() throws Exception {
+    ErrorResponse response = new ErrorResponse(null, 500, null, null, null);
+
+    assertThat(JsonEncoder.encode(response)).isEqualTo(objectMapper.writeValueAsBytes(response));
+  }
+}
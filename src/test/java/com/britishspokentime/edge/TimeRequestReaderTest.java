@@ -0,0 +1,79 @@
+package com.britishspokentime.edge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.britishspokentime.dto.TimeRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Tests for TimeRequestReader.
+ * Checks that bodies are accepted and rejected the way Jackson binds TimeRequest.
+ */
+class TimeRequestReaderTest {
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+      .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+      .build();
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "{\"time\":\"7:30\"}",
+      " { \"time\" : \"7:30\" } ",
+      "{}",
+      "{\"time\":null}",
+      "{\"time\":\"\"}",
+      "{\"time\":\"a\\\"b\\\\c\\/d\\b\\f\\n\\r\\t\"}",
+      "{\"time\":\"\\u0037:\\u0033\\u0030\"}",
+      "{\"time\":\"caf\u00e9\"}",
+      "{\"time\":-12.5e+3}",
+      "{\"time\":0}",
+      "{\"time\":false}",
+      "{\"a\":{},\"b\":[],\"c\":[true,null,{\"d\":\"x\"}],\"time\":\"1:00\"}",
+      "{\"time\":\"1:00\",\"time\":\"2:00\"}",
+      "{\"time\":\"1:00\"} trailing",
+      "\"7:30\"",
+      "\"\""
+  })
+  void readTime_acceptedBody_shouldMatchJackson(String json) throws Exception {
+    // Arrange
+    byte[] body = json.getBytes(StandardCharsets.UTF_8);
+
+    // Act
+    String time = TimeRequestReader.readTime(body);
+
+    // Assert
+    assertThat(time).isEqualTo(objectMapper.readValue(body, TimeRequest.class).getTime());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "",
+      "[]",
+      "{\"time\":\"7:30\"",
+      "{\"time\" \"7:30\"}",
+      "{\"time\":[\"7:30\"]}",
+      "{\"time\":{}}",
+      "{\"time\":\"7:30\",}",
+      "{\"time\":\"\\x\"}",
+      "{\"time\":\"\\u00g0\"}",
+      "{\"time\":\"\\u00\"}",
+      "{\"time\":\"7:30\\",
+      "{\"time\":\"a\tb\"}",
+      "{\"time\":nope}",
+      "{\"time\":01}"
+  })
+  void readTime_rejectedBody_shouldThrow(String json) {
+    byte[] body = json.getBytes(StandardCharsets.UTF_8);
+
+    assertThatThrownBy(() -> TimeRequestReader.readTime(body))
+        .isInstanceOf(TimeRequestReader.MalformedJsonException.class);
+    assertThatThrownBy(() -> objectMapper.readValue(body, TimeRequest.class))
+        .isInstanceOf(Exception.class);
+  }
+}
@@ -0,0 +1,100 @@
+package com.britishspokentime.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.britishspokentime.domain.TimeParseError;
+import com.britishspokentime.dto.ErrorResponse;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Tests for ErrorResponseTemplates.
+ * Verifies the bodies match the exception handler's and carry their own timestamp.
+ */
+class ErrorResponseTemplatesTest {
+
+  private static final String PATH = "/api/v1/time/convert";
+  private static final String FORMAT_MESSAGE = "Time must be in HH:mm format (00:00 to 23:59)";
+
+  private final ErrorResponseTemplates templates = new ErrorResponseTemplates();
+
+  @Test
+  void invalidRequest_nullTime_shouldReportRequired() {
+    // Act
+    ResponseEntity<ErrorResponse> response =
+        templates.invalidRequest(null, TimeParseError.EMPTY, PATH);
+
+    // Assert
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(response.getBody()).satisfies(body -> {
+      assertThat(body.getStatus()).isEqualTo(400);
+      assertThat(body.getError()).isEqualTo("Validation Error");
+      assertThat(body.getMessage()).isEqualTo("Time is required");
+      assertThat(body.getPath()).isEqualTo(PATH);
+      assertThat(body.getTimestamp())
+          .isCloseTo(LocalDateTime.now(), within(2, ChronoUnit.SECONDS));
+    });
+  }
+
+  @Test
+  void invalidRequest_blankTime_shouldReportRequiredAndFormat() {
+    // Act
+    ErrorResponse body = templates.invalidRequest(" ", TimeParseError.EMPTY, PATH).getBody();
+
+    // Assert
+    assertThat(body.getMessage()).isEqualTo("Time is required, " + FORMAT_MESSAGE);
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = TimeParseError.class, names = {"MALFORMED", "OUT_OF_RANGE"})
+  void invalidRequest_invalidTime_shouldReportFormat(TimeParseError error) {
+    // Act
+    ErrorResponse body = templates.invalidRequest("25:00", error, PATH).getBody();
+
+    // Assert
+    assertThat(body.getError()).isEqualTo("Validation Error");
+    assertThat(body.getMessage()).isEqualTo(FORMAT_MESSAGE);
+  }
+
+  @ParameterizedTest
+  @EnumSource(TimeParseError.class)
+  void invalidTime_shouldReportParserMessage(TimeParseError error) {
+    // Act
+    ErrorResponse body = templates.invalidTime(error, "/api/v1/time/25/00").getBody();
+
+    // Assert
+    assertThat(body.getError()).isEqualTo("Bad Request");
+    assertThat(body.getMessage()).isEqualTo(error.getMessage());
+    assertThat(body.getPath()).isEqualTo("/api/v1/time/25/00");
+  }
+
+  @Test
+  void invalidTime_shouldTimestampEachResponse() {
+    // Act
+    ResponseEntity<ErrorResponse> first = templates.invalidTime(TimeParseError.MALFORMED, PATH);
+    ResponseEntity<ErrorResponse> second = templates.invalidTime(TimeParseError.MALFORMED, PATH);
+
+    // Assert
+    assertThat(second.getBody()).isNotSameAs(first.getBody());
+    assertThat(second.getBody().getTimestamp())
+        .isAfterOrEqualTo(first.getBody().getTimestamp());
+  }
+
+  @Test
+  void invalidTime_otherPath_shouldBuildNewResponse() {
+    // Act
+    ResponseEntity<ErrorResponse> first = templates.invalidTime(TimeParseError.MALFORMED, PATH);
+    ResponseEntity<ErrorResponse> other =
+        templates.invalidTime(TimeParseError.MALFORMED, "/api/v1/time/ab/cd");
+
+    // Assert
+    assertThat(other).isNotSameAs(first);
+    assertThat(other.getBody().getPath()).isEqualTo("/api/v1/time/ab/cd");
+  }
+}
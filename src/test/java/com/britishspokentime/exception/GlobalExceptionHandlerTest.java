@@ -5,13 +5,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.util.Arrays;
 import java.util.List;
@@ -26,6 +30,9 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class GlobalExceptionHandlerTest {
 
+  @Spy
+  private ErrorResponseTemplates errorResponses = new ErrorResponseTemplates();
+
   @InjectMocks
   private GlobalExceptionHandler globalExceptionHandler;
 
@@ -105,6 +112,36 @@ class GlobalExceptionHandlerTest {
     assertThat(response.getBody().getTimestamp()).isNotNull();
   }
 
+  @Test
+  void handleNoEndpoint_shouldReturnNotFound() {
+    // Act
+    ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleNoEndpoint(
+        new NoResourceFoundException(HttpMethod.GET, "api/test"), webRequest);
+
+    // Assert
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getError()).isEqualTo("Not Found");
+    assertThat(response.getBody().getPath()).isEqualTo("/api/test");
+  }
+
+  @Test
+  void handleMethodNotSupported_shouldReturnMethodNotAllowed() {
+    // Act
+    ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleMethodNotSupported(
+        new HttpRequestMethodNotSupportedException("DELETE", List.of("GET", "POST")),
+        webRequest);
+
+    // Assert
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.METHOD_NOT_ALLOWED);
+    assertThat(response.getHeaders().getAllow())
+        .containsExactlyInAnyOrder(HttpMethod.GET, HttpMethod.POST);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getMessage())
+        .isEqualTo("Request method 'DELETE' is not supported");
+    assertThat(response.getBody().getPath()).isEqualTo("/api/test");
+  }
+
   @Test
   void handleGlobalException_shouldReturnInternalServerError() {
     // Arrange
@@ -0,0 +1,53 @@
+package com.britishspokentime.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.grpc.proto.ConvertRequest;
+import com.britishspokentime.grpc.proto.SpokenTimeGrpc;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Tests for GrpcServer.
+ * Converts over a real network channel, both with the server run by the Spring
+ * application and with the standalone server.
+ */
+@SpringBootTest(properties = {"time.grpc.enabled=true", "time.grpc.port=0"})
+class GrpcServerTest {
+
+  @Autowired
+  private GrpcServerLifecycle lifecycle;
+
+  @Test
+  void springApplication_shouldServeGrpcAlongsideHttp() {
+    assertThat(lifecycle.isRunning()).isTrue();
+
+    assertThat(convert(lifecycle.getPort(), "7:30")).isEqualTo("half past seven");
+  }
+
+  @Test
+  void standaloneServer_shouldServeWithoutSpring() throws Exception {
+    try (GrpcServer server = GrpcServer.start(0, GrpcServer.service(new TimeProperties()))) {
+      assertThat(server.getPort()).isPositive();
+
+      assertThat(convert(server.getPort(), "23:45")).isEqualTo("quarter to twelve");
+    }
+  }
+
+  private static String convert(int port, String time) {
+    ManagedChannel channel = Grpc.newChannelBuilderForAddress(
+        "localhost", port, InsecureChannelCredentials.create()).build();
+    try {
+      return SpokenTimeGrpc.newBlockingStub(channel)
+          .convert(ConvertRequest.newBuilder().setTime(time).build())
+          .getSpokenForm();
+    } finally {
+      channel.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,231 @@
+package com.britishspokentime.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.britishspokentime.grpc.proto.ConvertBatchReply;
+import com.britishspokentime.grpc.proto.ConvertBatchRequest;
+import com.britishspokentime.grpc.proto.ConvertReply;
+import com.britishspokentime.grpc.proto.ConvertRequest;
+import com.britishspokentime.grpc.proto.SpokenTimeGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Tests for SpokenTimeGrpcService.
+ * Calls the service through an in-process channel, so requests and replies go
+ * through the generated stubs and gRPC flow control without a network.
+ */
+@SpringBootTest
+class SpokenTimeGrpcServiceTest {
+
+  @Autowired
+  private SpokenTimeGrpcService service;
+
+  private Server server;
+  private ManagedChannel channel;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    String name = InProcessServerBuilder.generateName();
+    server = InProcessServerBuilder.forName(name)
+        .directExecutor()
+        .addService(service)
+        .build()
+        .start();
+    channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    channel.shutdownNow();
+    server.shutdownNow();
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "7:30, half past seven",
+      "00:00, midnight",
+      "12:00, noon",
+      "6:32, six thirty two"
+  })
+  void convert_validTime_shouldReturnSpokenForm(String time, String expected) {
+    ConvertReply reply = SpokenTimeGrpc.newBlockingStub(channel)
+        .convert(ConvertRequest.newBuilder().setTime(time).build());
+
+    assertThat(reply.getTime()).isEqualTo(time);
+    assertThat(reply.getSpokenForm()).isEqualTo(expected);
+    assertThat(reply.hasError()).isFalse();
+  }
+
+  @Test
+  void convert_invalidTime_shouldFailWithInvalidArgument() {
+    SpokenTimeGrpc.SpokenTimeBlockingStub stub = SpokenTimeGrpc.newBlockingStub(channel);
+
+    assertThatThrownBy(() -> stub.convert(ConvertRequest.newBuilder().setTime("25:00").build()))
+        .isInstanceOfSatisfying(StatusRuntimeException.class, e -> {
+          assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+          assertThat(e.getStatus().getDescription())
+              .isEqualTo("Hour must be 0-23 and minute must be 0-59");
+        });
+    assertThatThrownBy(() -> stub.convert(ConvertRequest.getDefaultInstance()))
+        .isInstanceOfSatisfying(StatusRuntimeException.class, e ->
+            assertThat(e.getStatus().getDescription())
+                .isEqualTo("Time string cannot be null or empty"));
+  }
+
+  @Test
+  void convertBatch_shouldReportItemsInOrder() {
+    ConvertBatchReply reply = SpokenTimeGrpc.newBlockingStub(channel)
+        .convertBatch(ConvertBatchRequest.newBuilder()
+            .addAllTimes(List.of("7:30", "25:00", "ab:cd", "00:00"))
+            .build());
+
+    assertThat(reply.getResultsList())
+        .extracting(ConvertReply::getTime, ConvertReply::getSpokenForm, ConvertReply::getError)
+        .containsExactly(
+            tuple("7:30", "half past seven", ""),
+            tuple("25:00", "", "Hour must be 0-23 and minute must be 0-59"),
+            tuple("ab:cd", "", "Time must be in HH:mm format"),
+            tuple("00:00", "midnight", ""));
+  }
+
+  @Test
+  void convertBatch_exceedingMaxSize_shouldFailWithInvalidArgument() {
+    ConvertBatchRequest request = ConvertBatchRequest.newBuilder()
+        .addAllTimes(Collections.nCopies(1001, "7:30"))
+        .build();
+    SpokenTimeGrpc.SpokenTimeBlockingStub stub = SpokenTimeGrpc.newBlockingStub(channel);
+
+    assertThatThrownBy(() -> stub.convertBatch(request))
+        .isInstanceOfSatisfying(StatusRuntimeException.class, e -> {
+          assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+          assertThat(e.getStatus().getDescription())
+              .isEqualTo("Batch size must not exceed 1000 times: 1001");
+        });
+  }
+
+  @Test
+  void convertStream_shouldReplyToEveryRequestInOrder() throws Exception {
+    // Arrange
+    RecordingObserver replies = new RecordingObserver(Integer.MAX_VALUE);
+    StreamObserver<ConvertRequest> requests =
+        SpokenTimeGrpc.newStub(channel).convertStream(replies);
+
+    // Act
+    for (int i = 0; i < 10_000; i++) {
+      requests.onNext(request(i));
+    }
+    requests.onCompleted();
+
+    // Assert
+    replies.completed.get(10, TimeUnit.SECONDS);
+    assertThat(replies.received).hasSize(10_000);
+    for (int i = 0; i < 10_000; i++) {
+      assertThat(replies.received.get(i).getTime()).isEqualTo(request(i).getTime());
+    }
+    assertThat(replies.received.get(1440 + 450).getSpokenForm()).isEqualTo("half past seven");
+  }
+
+  @Test
+  void convertStream_slowClient_shouldStopReadingRequests() throws Exception {
+    // Arrange
+    RecordingObserver replies = new RecordingObserver(2);
+    StreamObserver<ConvertRequest> requests =
+        SpokenTimeGrpc.newStub(channel).convertStream(replies);
+
+    // Act
+    for (int i = 0; i < 100; i++) {
+      requests.onNext(request(i));
+    }
+
+    // Assert: two replies taken, the server has stopped asking for requests
+    assertThat(replies.received).hasSize(2);
+    assertThat(replies.requestStream.isReady()).isFalse();
+
+    replies.requestStream.request(98);
+    requests.onCompleted();
+    replies.completed.get(10, TimeUnit.SECONDS);
+    assertThat(replies.received).hasSize(100);
+  }
+
+  @Test
+  void convertStream_invalidTimes_shouldBeReportedInline() throws Exception {
+    RecordingObserver replies = new RecordingObserver(Integer.MAX_VALUE);
+    StreamObserver<ConvertRequest> requests =
+        SpokenTimeGrpc.newStub(channel).convertStream(replies);
+
+    requests.onNext(ConvertRequest.newBuilder().setTime("24:00").build());
+    requests.onNext(ConvertRequest.newBuilder().setTime("12:00").build());
+    requests.onCompleted();
+
+    replies.completed.get(10, TimeUnit.SECONDS);
+    assertThat(replies.received.get(0).getError())
+        .isEqualTo("Hour must be 0-23 and minute must be 0-59");
+    assertThat(replies.received.get(1).getSpokenForm()).isEqualTo("noon");
+  }
+
+  private static ConvertRequest request(int i) {
+    int minuteOfDay = i % 1440;
+    return ConvertRequest.newBuilder()
+        .setTime(String.format("%02d:%02d", minuteOfDay / 60, minuteOfDay % 60))
+        .build();
+  }
+
+  /**
+   * Collects replies, taking only the given number until asked for more.
+   */
+  private static final class RecordingObserver
+      implements ClientResponseObserver<ConvertRequest, ConvertReply> {
+
+    private final int initialRequests;
+    private final List<ConvertReply> received = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<Void> completed = new CompletableFuture<>();
+    private ClientCallStreamObserver<ConvertRequest> requestStream;
+
+    RecordingObserver(int initialRequests) {
+      this.initialRequests = initialRequests;
+    }
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<ConvertRequest> requestStream) {
+      this.requestStream = requestStream;
+      requestStream.disableAutoRequestWithInitial(initialRequests);
+    }
+
+    @Override
+    public void onNext(ConvertReply reply) {
+      received.add(reply);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      completed.completeExceptionally(t);
+    }
+
+    @Override
+    public void onCompleted() {
+      completed.complete(null);
+    }
+  }
+}
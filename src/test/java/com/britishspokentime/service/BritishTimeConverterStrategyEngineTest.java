@@ -0,0 +1,55 @@
+package com.britishspokentime.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.domain.Time;
+import com.britishspokentime.service.table.SpokenTimeTable;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Tests for BritishTimeConverter running with the per-call strategy engine.
+ * The table engine is the default, so this verifies the alternative stays equivalent.
+ */
+@SpringBootTest(properties = "time.converter.engine=strategy")
+class BritishTimeConverterStrategyEngineTest {
+
+  @Autowired
+  private BritishTimeConverter converter;
+
+  @Autowired
+  private SpokenTimeTable table;
+
+  @ParameterizedTest
+  @CsvSource({
+      "0, 0, midnight",
+      "12, 0, noon",
+      "7, 30, half past seven",
+      "6, 32, six thirty two",
+      "9, 45, quarter to ten"
+  })
+  void testConvert_strategyEngine(int hour, int minute, String expected) {
+    assertEquals(expected, converter.convert(new Time(hour, minute)));
+  }
+
+  @Test
+  void testConvert_strategyEngineMatchesTableForEveryMinute() {
+    for (int minuteOfDay = 0; minuteOfDay < TimeConstants.MINUTES_IN_DAY; minuteOfDay++) {
+      Time time = new Time(minuteOfDay / TimeConstants.MINUTES_IN_HOUR,
+          minuteOfDay % TimeConstants.MINUTES_IN_HOUR);
+      assertEquals(table.get(minuteOfDay), converter.convert(time));
+    }
+  }
+
+  @Test
+  void testConvert_strategyEngineInvalidTime() {
+    assertThrows(IllegalArgumentException.class, () -> converter.convert(new Time(24, 0)));
+  }
+}
@@ -1,9 +1,22 @@
 package com.britishspokentime.service;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.domain.ParseOutcome;
+import com.britishspokentime.domain.SpokenMatch;
 import com.britishspokentime.domain.Time;
+import com.britishspokentime.domain.TimeParseError;
+import com.britishspokentime.service.metrics.ConversionMetrics;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -24,6 +37,12 @@ class BritishTimeConverterTest {
   @Autowired
   private BritishTimeConverter converter;
 
+  @Autowired
+  private TimeProperties properties;
+
+  @Autowired
+  private ConversionMetrics metrics;
+
   // ========== Tests from Assignment Examples ==========
 
   @ParameterizedTest
@@ -257,4 +276,265 @@ class BritishTimeConverterTest {
     Time time = new Time(hour, minute);
     assertEquals(expected, converter.convert(time));
   }
+
+  // ========== Primitive Path Tests ==========
+
+  @ParameterizedTest
+  @CsvSource({
+      "0, midnight",
+      "720, noon",
+      "450, half past seven",
+      "392, six thirty two",
+      "1439, one to twelve"
+  })
+  void testConvert_minuteOfDay(int minuteOfDay, String expected) {
+    assertEquals(expected, converter.convert(minuteOfDay));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {-1, 1440})
+  void testConvert_minuteOfDayOutOfRange(int minuteOfDay) {
+    assertThrows(IllegalArgumentException.class, () -> converter.convert(minuteOfDay));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "7:30, 450",
+      "07:30, 450",
+      "23:59, 1439"
+  })
+  void testParseMinuteOfDay_valid(String input, int expected) {
+    assertEquals(expected, converter.parseMinuteOfDay(input));
+  }
+
+  @Test
+  void testParseMinuteOfDay_invalid() {
+    assertEquals(TimeParseError.MALFORMED.getCode(), converter.parseMinuteOfDay("ab:cd"));
+    assertEquals(TimeParseError.OUT_OF_RANGE.getCode(), converter.parseMinuteOfDay("24:00"));
+  }
+
+  @Test
+  void testTryParse_returnsInternedOutcomes() {
+    assertSame(ParseOutcome.of(450), converter.tryParse("7:30"));
+    assertSame(Time.of(7, 30), converter.tryParse("07:30").getTime());
+    assertSame(ParseOutcome.rejected(TimeParseError.EMPTY), converter.tryParse(null));
+    assertEquals(TimeParseError.MALFORMED, converter.tryParse("7:5").getError());
+    assertEquals(TimeParseError.OUT_OF_RANGE, converter.tryParse("24:00").getError());
+  }
+
+  @Test
+  void testParseTime_slowPathKeepsMessages() {
+    IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+        () -> converter.parseTime("ab:cd"));
+    assertEquals("Invalid time format: ab:cd", ex.getMessage());
+    assertEquals(5, converter.parseTime("7:5").getMinute());
+  }
+
+  @Test
+  void testParseAndConvert_primitivePathAllocatesNothing() {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    String[] inputs = new String[1440];
+    for (int i = 0; i < inputs.length; i++) {
+      inputs[i] = String.format("%02d:%02d", i / 60, i % 60);
+    }
+
+    long checksum = 0;
+    for (int round = 0; round < 20; round++) {
+      checksum += parseAndConvertAll(inputs);
+    }
+
+    long before = threads.getCurrentThreadAllocatedBytes();
+    for (int round = 0; round < 20; round++) {
+      checksum += parseAndConvertAll(inputs);
+    }
+    long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+    assertTrue(checksum > 0);
+    // 28,800 conversions; anything per-call would allocate hundreds of kilobytes
+    assertTrue(allocated < 1024, "Allocated " + allocated + " bytes");
+  }
+
+  private long parseAndConvertAll(String[] inputs) {
+    long total = 0;
+    for (String input : inputs) {
+      total += converter.convert(converter.parseMinuteOfDay(input)).length();
+    }
+    return total;
+  }
+
+  @Test
+  void testParseTime_returnsSharedInstanceWithoutAllocating() {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assertSame(Time.of(7, 30), converter.parseTime("07:30"));
+    assertSame(Time.of(7, 30), converter.parseTime("7:30"));
+
+    long checksum = 0;
+    for (int round = 0; round < 20_000; round++) {
+      checksum += converter.parseTime("07:30").getMinuteOfDay();
+    }
+    long before = threads.getCurrentThreadAllocatedBytes();
+    for (int round = 0; round < 20_000; round++) {
+      checksum += converter.parseTime("07:30").getMinuteOfDay();
+    }
+    long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+    assertTrue(checksum > 0);
+    assertTrue(allocated < 1024, "Allocated " + allocated + " bytes");
+  }
+
+  // ========== Bulk Tests ==========
+
+  @Test
+  void testConvertAll_matchesSingleConversions() {
+    // Longer than the bulk threshold, so the array is split across the pool
+    int[] minutesOfDay = new int[50_000];
+    String[] expected = new String[minutesOfDay.length];
+    for (int i = 0; i < minutesOfDay.length; i++) {
+      minutesOfDay[i] = (i * 7) % 1440;
+      expected[i] = converter.convert(minutesOfDay[i]);
+    }
+    String[] out = new String[minutesOfDay.length];
+
+    converter.convertAll(minutesOfDay, out);
+
+    assertArrayEquals(expected, out);
+  }
+
+  @Test
+  void testConvertAll_invalidInput() {
+    assertThrows(IllegalArgumentException.class,
+        () -> converter.convertAll(new int[] {0, 1440}, new String[2]));
+    assertThrows(IllegalArgumentException.class,
+        () -> converter.convertAll(new int[] {0, 1}, new String[1]));
+  }
+
+  @Test
+  void testParseAll_matchesSingleParses() {
+    CharSequence[] times = new CharSequence[50_000];
+    int[] expected = new int[times.length];
+    String[] samples = {"7:30", "07:30", "23:59", "00:00", "24:00", "ab:cd", "", "7:5"};
+    for (int i = 0; i < times.length; i++) {
+      times[i] = i % 3 == 0
+          ? String.format("%02d:%02d", (i / 60) % 24, i % 60)
+          : new StringBuilder(samples[i % samples.length]);
+      expected[i] = converter.parseMinuteOfDay(times[i]);
+    }
+    int[] out = new int[times.length + 1];
+
+    converter.parseAll(times, out);
+
+    assertArrayEquals(expected, Arrays.copyOf(out, times.length));
+    assertEquals(0, out[times.length]);
+    assertEquals(TimeParseError.OUT_OF_RANGE.getCode(), out[4]);
+  }
+
+  @Test
+  void testParseAll_outputTooShort() {
+    assertThrows(IllegalArgumentException.class,
+        () -> converter.parseAll(new CharSequence[] {"7:30"}, new int[0]));
+  }
+
+  @Test
+  void testParseLines_recordsFailuresWithAndWithoutVectors() {
+    byte[] text = "07:30\n24:00\n12:00\nab:cd\n".getBytes(StandardCharsets.US_ASCII);
+    int[] expected = {450, TimeParseError.OUT_OF_RANGE.getCode(), 720,
+        TimeParseError.MALFORMED.getCode()};
+
+    for (boolean vectorParsing : new boolean[] {true, false}) {
+      properties.getConverter().setVectorParsing(vectorParsing);
+      try {
+        Map<TimeParseError, Long> before = metrics.parseFailuresByError();
+        int[] out = new int[text.length];
+
+        int lines = converter.parseLines(text, 0, text.length, out);
+
+        assertArrayEquals(expected, Arrays.copyOf(out, lines));
+        Map<TimeParseError, Long> after = metrics.parseFailuresByError();
+        assertEquals(1, after.get(TimeParseError.OUT_OF_RANGE)
+            - before.get(TimeParseError.OUT_OF_RANGE));
+        assertEquals(1, after.get(TimeParseError.MALFORMED)
+            - before.get(TimeParseError.MALFORMED));
+      } finally {
+        properties.getConverter().setVectorParsing(true);
+      }
+    }
+  }
+
+  // ========== Spoken Form Parsing Tests ==========
+
+  @Test
+  void testParseSpoken_everyConversionRoundTrips() {
+    for (int minuteOfDay = 0; minuteOfDay < 1440; minuteOfDay++) {
+      Time time = Time.ofMinuteOfDay(minuteOfDay);
+
+      Time parsed = converter.parseSpoken(converter.convert(time));
+
+      assertTrue(parsed == time || parsed.getMinuteOfDay() + 720 == minuteOfDay,
+          time + " read back as " + parsed);
+      assertEquals(time.getMinute(), parsed.getMinute());
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "quarter to nine, 8, 45",
+      "twenty five past three, 3, 25",
+      "noon, 12, 0",
+      "midnight, 0, 0",
+      "one to twelve, 11, 59"
+  })
+  void testParseSpoken_returnsMorningReading(String spokenForm, int hour, int minute) {
+    assertSame(Time.of(hour, minute), converter.parseSpoken(spokenForm));
+  }
+
+  @Test
+  void testParseSpoken_rejectedTextThrowsAndIsCounted() {
+    long before = metrics.parseFailuresByError().get(TimeParseError.UNKNOWN_PHRASE);
+
+    IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+        () -> converter.parseSpoken("quater past too"));
+
+    assertEquals(TimeParseError.UNKNOWN_PHRASE.getMessage(), ex.getMessage());
+    assertEquals(TimeParseError.UNKNOWN_PHRASE.getCode(),
+        converter.parseSpokenMinuteOfDay("quater past too"));
+    assertEquals(2, metrics.parseFailuresByError().get(TimeParseError.UNKNOWN_PHRASE) - before);
+    assertThrows(IllegalArgumentException.class, () -> converter.parseSpoken(" "));
+    assertEquals(TimeParseError.EMPTY.getCode(), converter.parseSpokenMinuteOfDay(null));
+  }
+
+  // ========== Fuzzy Spoken Form Matching Tests ==========
+
+  @Test
+  void testMatchSpoken_correctsNoisyWords() {
+    List<SpokenMatch> matches = converter.matchSpoken("Quater past too");
+
+    assertEquals(1, matches.size());
+    SpokenMatch best = matches.get(0);
+    assertSame(Time.of(2, 15), best.time());
+    assertEquals("quarter past two", best.spokenForm());
+    assertEquals(2, best.distance());
+    assertEquals(1.0 - 2.0 / "quarter past two".length(), best.confidence(), 1e-9);
+  }
+
+  @Test
+  void testMatchSpoken_hyphenatedNumberMatchesExactly() {
+    SpokenMatch best = converter.matchSpoken("twenty-five past three").get(0);
+
+    assertSame(Time.of(3, 25), best.time());
+    assertEquals(0, best.distance());
+    assertEquals(1.0, best.confidence());
+  }
+
+  @Test
+  void testMatchSpoken_usesConfiguredMaxDistance() {
+    properties.getConverter().setFuzzyMaxDistance(0);
+    try {
+      assertTrue(converter.matchSpoken("quater past too").isEmpty());
+      assertEquals(1, converter.matchSpoken("quarter past two").size());
+    } finally {
+      properties.getConverter().setFuzzyMaxDistance(2);
+    }
+  }
 }
@@ -0,0 +1,41 @@
+package com.britishspokentime.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.britishspokentime.config.TimeProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for ConversionComponents.
+ * The hand-wired components must share one strategy factory and table and record
+ * metrics in the given registry.
+ */
+class ConversionComponentsTest {
+
+  @Test
+  void create_shouldWireAWorkingConverter() {
+    // Arrange
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    // Act
+    ConversionComponents components = ConversionComponents.create(new TimeProperties(), registry);
+
+    // Assert
+    assertThat(components.converter().convert(450)).isEqualTo("half past seven");
+    assertThat(components.table().get(450)).isEqualTo("half past seven");
+    assertThat(components.strategyFactory().getStrategy(450).getClass().getSimpleName())
+        .isEqualTo("HalfPastStrategy");
+    assertThat(registry.getMeters()).isNotEmpty();
+  }
+
+  @Test
+  void eventLogger_shouldUseTheComponents() {
+    // Arrange
+    ConversionComponents components =
+        ConversionComponents.create(new TimeProperties(), new SimpleMeterRegistry());
+
+    // Act & Assert
+    assertThat(components.eventLogger()).isNotNull();
+  }
+}
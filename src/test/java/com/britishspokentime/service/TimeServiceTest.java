@@ -2,14 +2,28 @@ package com.britishspokentime.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.domain.ParseOutcome;
+import com.britishspokentime.domain.TimeParseError;
+import com.britishspokentime.dto.BatchTimeRequest;
+import com.britishspokentime.dto.BatchTimeResponse;
+import com.britishspokentime.dto.TimeConversionResult;
 import com.britishspokentime.dto.TimeRequest;
 import com.britishspokentime.dto.TimeResponse;
 import com.britishspokentime.domain.Time;
+import com.britishspokentime.service.logging.ConversionEventLogger;
+import com.britishspokentime.service.metrics.ConversionMetrics;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,6 +31,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 /**
@@ -29,6 +44,15 @@ class TimeServiceTest {
   @Mock
   private TimeConverter timeConverter;
 
+  @Spy
+  private TimeProperties properties = new TimeProperties();
+
+  @Mock
+  private ConversionMetrics metrics;
+
+  @Mock
+  private ConversionEventLogger eventLogger;
+
   @InjectMocks
   private TimeService timeService;
 
@@ -311,4 +335,207 @@ class TimeServiceTest {
     assertThat(response.getTime()).isEqualTo("01:05");
     assertThat(response.getSpokenForm()).isEqualTo("five past one");
   }
+
+  // ========== Batch Conversion Tests ==========
+
+  @Test
+  void convertBatch_withValidTimes_shouldReturnResultsInOrder() {
+    // Arrange
+    BatchTimeRequest request = new BatchTimeRequest(List.of("7:30", "00:00", "12:00"));
+
+    when(timeConverter.parseMinuteOfDay("7:30")).thenReturn(450);
+    when(timeConverter.parseMinuteOfDay("00:00")).thenReturn(0);
+    when(timeConverter.parseMinuteOfDay("12:00")).thenReturn(720);
+    when(timeConverter.convert(450)).thenReturn("half past seven");
+    when(timeConverter.convert(0)).thenReturn("midnight");
+    when(timeConverter.convert(720)).thenReturn("noon");
+
+    // Act
+    BatchTimeResponse response = timeService.convertBatch(request);
+
+    // Assert
+    assertThat(response.getResults())
+        .extracting(TimeConversionResult::getTime, TimeConversionResult::getSpokenForm)
+        .containsExactly(
+            tuple("7:30", "half past seven"),
+            tuple("00:00", "midnight"),
+            tuple("12:00", "noon"));
+    assertThat(response.getResults()).allSatisfy(
+        result -> assertThat(result.getError()).isNull());
+  }
+
+  @Test
+  void convertBatch_withInvalidItems_shouldReportErrorsPerItem() {
+    // Arrange
+    BatchTimeRequest request = new BatchTimeRequest(Arrays.asList("25:00", null, "9:45"));
+
+    when(timeConverter.parseMinuteOfDay("25:00"))
+        .thenReturn(TimeParseError.OUT_OF_RANGE.getCode());
+    when(timeConverter.parseMinuteOfDay(null)).thenReturn(TimeParseError.EMPTY.getCode());
+    when(timeConverter.parseMinuteOfDay("9:45")).thenReturn(585);
+    when(timeConverter.convert(585)).thenReturn("quarter to ten");
+
+    // Act
+    List<TimeConversionResult> results = timeService.convertBatch(request).getResults();
+
+    // Assert
+    assertThat(results).hasSize(3);
+    assertThat(results.get(0).getSpokenForm()).isNull();
+    assertThat(results.get(0).getError()).isEqualTo(TimeParseError.OUT_OF_RANGE.getMessage());
+    assertThat(results.get(1).getError()).isEqualTo(TimeParseError.EMPTY.getMessage());
+    assertThat(results.get(2).getSpokenForm()).isEqualTo("quarter to ten");
+  }
+
+  @Test
+  void convertBatch_withEmptyList_shouldReturnNoResults() {
+    // Act
+    BatchTimeResponse response = timeService.convertBatch(
+        new BatchTimeRequest(Collections.emptyList()));
+
+    // Assert
+    assertThat(response.getResults()).isEmpty();
+  }
+
+  @Test
+  void convertBatch_exceedingMaxSize_shouldThrowException() {
+    // Arrange
+    properties.getBatch().setMaxSize(2);
+    BatchTimeRequest request = new BatchTimeRequest(List.of("1:00", "2:00", "3:00"));
+
+    // Act & Assert
+    assertThatThrownBy(() -> timeService.convertBatch(request))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("must not exceed 2");
+  }
+
+  // ========== Metrics Tests ==========
+
+  @Test
+  void convertTime_shouldLeaveTimingToTheEndpoint() {
+    // Arrange
+    when(timeConverter.parseTime("7:30")).thenReturn(new Time(7, 30));
+    when(timeConverter.convert(any(Time.class))).thenReturn("half past seven");
+
+    // Act
+    timeService.convertTime(new TimeRequest("7:30"));
+    timeService.convertTime("7:30", ParseOutcome.of(450));
+
+    // Assert
+    verify(metrics, never()).startSingle();
+    verify(metrics, never()).recordSingle(anyLong());
+  }
+
+  @Test
+  void convertBatch_shouldRecordBatchTimer() {
+    // Arrange
+    when(timeConverter.parseMinuteOfDay("1:00")).thenReturn(60);
+    when(timeConverter.convert(60)).thenReturn("one o'clock");
+
+    // Act
+    timeService.convertBatch(new BatchTimeRequest(List.of("1:00")));
+
+    // Assert
+    verify(metrics).recordBatch(anyLong());
+  }
+
+  // ========== Event Logging Tests ==========
+
+  @Test
+  void convertTime_shouldLogConversionEvent() {
+    // Arrange
+    when(timeConverter.parseTime("7:30")).thenReturn(new Time(7, 30));
+    when(timeConverter.convert(any(Time.class))).thenReturn("half past seven");
+
+    // Act
+    timeService.convertTime(new TimeRequest("7:30"));
+
+    // Assert
+    verify(eventLogger).conversion("7:30", 450);
+  }
+
+  @Test
+  void convertTime_withPerRequestLogging_shouldStillConvert() {
+    // Arrange
+    properties.getLogging().setPerRequest(true);
+    when(timeConverter.parseTime("7:30")).thenReturn(new Time(7, 30));
+    when(timeConverter.convert(any(Time.class))).thenReturn("half past seven");
+
+    // Act
+    TimeResponse response = timeService.convertTime(new TimeRequest("7:30"));
+
+    // Assert
+    assertThat(response.getSpokenForm()).isEqualTo("half past seven");
+    verify(eventLogger).conversion("7:30", 450);
+  }
+
+  @Test
+  void convertBatch_shouldLogBatchEventWithFailureCount() {
+    // Arrange
+    when(timeConverter.parseMinuteOfDay("1:00")).thenReturn(60);
+    when(timeConverter.parseMinuteOfDay("bad")).thenReturn(TimeParseError.MALFORMED.getCode());
+    when(timeConverter.convert(60)).thenReturn("one o'clock");
+
+    // Act
+    timeService.convertBatch(new BatchTimeRequest(List.of("1:00", "bad", "bad")));
+
+    // Assert
+    verify(eventLogger).batch(3, 2);
+  }
+
+  @Test
+  void convertTime_withValidatedRequest_shouldNotParseAgain() {
+    // Arrange
+    TimeRequest request = new TimeRequest("7:30");
+    request.setMinuteOfDay(450);
+    when(timeConverter.convert(Time.of(7, 30))).thenReturn("half past seven");
+
+    // Act
+    TimeResponse response = timeService.convertTime(request);
+
+    // Assert
+    assertThat(response.getSpokenForm()).isEqualTo("half past seven");
+    verify(timeConverter, never()).parseTime(anyString());
+  }
+
+  @Test
+  void parse_validTime_shouldReturnOutcomeWithoutLogging() {
+    // Arrange
+    when(timeConverter.tryParse("7:30")).thenReturn(ParseOutcome.of(450));
+
+    // Act
+    ParseOutcome outcome = timeService.parse("7:30");
+
+    // Assert
+    assertThat(outcome.getTime()).isSameAs(Time.of(7, 30));
+    verify(eventLogger, never()).parseFailure(anyString(), any());
+  }
+
+  @Test
+  void parse_invalidTime_shouldReturnRejectionWithoutThrowing() {
+    // Arrange
+    when(timeConverter.tryParse("25:00"))
+        .thenReturn(ParseOutcome.rejected(TimeParseError.OUT_OF_RANGE));
+
+    // Act
+    ParseOutcome outcome = timeService.parse("25:00");
+
+    // Assert
+    assertThat(outcome.isValid()).isFalse();
+    assertThat(outcome.getError()).isEqualTo(TimeParseError.OUT_OF_RANGE);
+    verify(eventLogger).parseFailure("25:00", TimeParseError.OUT_OF_RANGE);
+  }
+
+  @Test
+  void convertTime_withParsedOutcome_shouldConvertMinuteOfDay() {
+    // Arrange
+    when(timeConverter.convert(450)).thenReturn("half past seven");
+
+    // Act
+    TimeResponse response = timeService.convertTime("07:30", ParseOutcome.of(450));
+
+    // Assert
+    assertThat(response.getTime()).isEqualTo("07:30");
+    assertThat(response.getSpokenForm()).isEqualTo("half past seven");
+    verify(eventLogger).conversion("07:30", 450);
+  }
 }
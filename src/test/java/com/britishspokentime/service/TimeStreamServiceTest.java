@@ -0,0 +1,125 @@
+package com.britishspokentime.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.britishspokentime.config.TimeProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Tests for TimeStreamService.
+ * Verifies line handling, inline error reporting and bounded buffering.
+ */
+@SpringBootTest
+class TimeStreamServiceTest {
+
+  @Autowired
+  private TimeStreamService streamService;
+
+  @Autowired
+  private TimeProperties properties;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @AfterEach
+  void tearDown() {
+    properties.getStream().setMaxLineLength(1024);
+  }
+
+  @Test
+  void convertStream_plainLines_shouldConvertEachLine() throws IOException {
+    List<JsonNode> results = convert("7:30\n00:00\n12:00\n");
+
+    assertThat(results).hasSize(3);
+    assertThat(results.get(0).get("time").asText()).isEqualTo("7:30");
+    assertThat(results.get(0).get("spokenForm").asText()).isEqualTo("half past seven");
+    assertThat(results.get(1).get("spokenForm").asText()).isEqualTo("midnight");
+    assertThat(results.get(2).get("spokenForm").asText()).isEqualTo("noon");
+  }
+
+  @Test
+  void convertStream_jsonLines_shouldReadTimeField() throws IOException {
+    List<JsonNode> results = convert("{\"time\":\"9:45\"}\n\"6:32\"\n{\"other\":1}\n");
+
+    assertThat(results).hasSize(3);
+    assertThat(results.get(0).get("spokenForm").asText()).isEqualTo("quarter to ten");
+    assertThat(results.get(1).get("spokenForm").asText()).isEqualTo("six thirty two");
+    assertThat(results.get(2).get("error").asText())
+        .isEqualTo("Time string cannot be null or empty");
+  }
+
+  @Test
+  void convertStream_malformedLines_shouldBeReportedInline() throws IOException {
+    List<JsonNode> results = convert("25:00\n{\"time\":\n ab:cd \r\n1:15");
+
+    assertThat(results).hasSize(4);
+    assertThat(results.get(0).get("error").asText())
+        .isEqualTo("Hour must be 0-23 and minute must be 0-59");
+    assertThat(results.get(1).get("error").asText()).isEqualTo(TimeStreamService.INVALID_JSON);
+    assertThat(results.get(2).get("time").asText()).isEqualTo("ab:cd");
+    assertThat(results.get(2).get("error").asText()).isEqualTo("Time must be in HH:mm format");
+    assertThat(results.get(3).get("spokenForm").asText()).isEqualTo("quarter past one");
+  }
+
+  @Test
+  void convertStream_blankLines_shouldBeSkipped() throws IOException {
+    List<JsonNode> results = convert("\n\n7:30\n   \n\n");
+
+    assertThat(results).hasSize(1);
+  }
+
+  @Test
+  void convertStream_lineTooLong_shouldBeReportedAndStreamContinues() throws IOException {
+    properties.getStream().setMaxLineLength(8);
+
+    List<JsonNode> results = convert("{\"time\":\"07:30\"}\n8:40\n");
+
+    assertThat(results).hasSize(2);
+    assertThat(results.get(0).has("time")).isFalse();
+    assertThat(results.get(0).get("error").asText()).isEqualTo(TimeStreamService.LINE_TOO_LONG);
+    assertThat(results.get(1).get("spokenForm").asText()).isEqualTo("twenty to nine");
+  }
+
+  @Test
+  void convertStream_largeInput_shouldPreserveOrder() throws IOException {
+    StringBuilder input = new StringBuilder();
+    for (int i = 0; i < 20_000; i++) {
+      int minuteOfDay = i % 1440;
+      input.append(String.format("%02d:%02d%n", minuteOfDay / 60, minuteOfDay % 60));
+    }
+
+    List<JsonNode> results = convert(input.toString());
+
+    assertThat(results).hasSize(20_000);
+    assertThat(results.get(1440).get("spokenForm").asText()).isEqualTo("midnight");
+    assertThat(results.get(19_999).get("time").asText()).isEqualTo("21:19");
+  }
+
+  private List<JsonNode> convert(String input) throws IOException {
+    InputStream in = new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    long count = streamService.convertStream(in, out);
+
+    List<JsonNode> results = new ArrayList<>();
+    for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+      if (!line.isEmpty()) {
+        results.add(objectMapper.readTree(line));
+      }
+    }
+    assertThat(results).hasSize((int) count);
+    return results;
+  }
+}
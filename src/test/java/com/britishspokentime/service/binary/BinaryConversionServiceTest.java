@@ -0,0 +1,181 @@
+package com.britishspokentime.service.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.domain.TimeParseError;
+import com.britishspokentime.service.metrics.ConversionMetrics;
+import com.britishspokentime.service.table.SpokenTimeTable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.InvalidMediaTypeException;
+
+/**
+ * Tests for BinaryConversionService.
+ * Decodes the binary responses and checks them against the spoken-time table.
+ */
+@SpringBootTest
+class BinaryConversionServiceTest {
+
+  @Autowired
+  private BinaryConversionService service;
+
+  @Autowired
+  private SpokenTimeTable table;
+
+  @Autowired
+  private ConversionMetrics metrics;
+
+  @Test
+  void convert_phrases_shouldMatchTableForEveryMinute() {
+    // Arrange
+    byte[] request = minutes(allMinutes());
+
+    // Act
+    List<String> phrases = decodePhrases(service.convert(request, BinaryFormat.PHRASES));
+
+    // Assert
+    assertThat(phrases).hasSize(TimeConstants.MINUTES_IN_DAY);
+    for (int minuteOfDay = 0; minuteOfDay < TimeConstants.MINUTES_IN_DAY; minuteOfDay++) {
+      assertThat(phrases.get(minuteOfDay)).isEqualTo(table.get(minuteOfDay));
+    }
+  }
+
+  @Test
+  void convert_phraseIds_shouldIndexDictionaryForEveryMinute() {
+    // Arrange
+    byte[] request = minutes(allMinutes());
+    List<String> dictionary = decodePhrases(service.dictionary());
+
+    // Act
+    ByteBuffer ids = ByteBuffer.wrap(service.convert(request, BinaryFormat.PHRASE_IDS));
+
+    // Assert
+    assertThat(ids.remaining()).isEqualTo(request.length);
+    for (int minuteOfDay = 0; minuteOfDay < TimeConstants.MINUTES_IN_DAY; minuteOfDay++) {
+      assertThat(dictionary.get(Short.toUnsignedInt(ids.getShort())))
+          .isEqualTo(table.get(minuteOfDay));
+    }
+  }
+
+  @Test
+  void dictionary_shouldListEachPhraseOnceInOrderOfFirstUse() {
+    List<String> dictionary = decodePhrases(service.dictionary());
+
+    assertThat(new HashSet<>(dictionary)).hasSize(dictionary.size());
+    assertThat(dictionary).first().isEqualTo("midnight");
+    assertThat(dictionary).containsExactlyInAnyOrderElementsOf(
+        new HashSet<>(decodePhrases(service.convert(minutes(allMinutes()),
+            BinaryFormat.PHRASES))));
+  }
+
+  @Test
+  void convert_outOfRangeValues_shouldBeMarkedAndCounted() {
+    // Arrange
+    long failuresBefore = metrics.parseFailuresByError().get(TimeParseError.OUT_OF_RANGE);
+    byte[] request = minutes(450, 1440, 0xFFFF, 720);
+
+    // Act
+    byte[] phrases = service.convert(request, BinaryFormat.PHRASES);
+    byte[] ids = service.convertBatch(request, BinaryFormat.PHRASE_IDS);
+
+    // Assert
+    assertThat(decodePhrases(phrases)).containsExactly("half past seven", "", "", "noon");
+    ByteBuffer idBuffer = ByteBuffer.wrap(ids);
+    idBuffer.getShort();
+    assertThat(Short.toUnsignedInt(idBuffer.getShort()))
+        .isEqualTo(BinaryConversionService.INVALID_PHRASE_ID);
+    assertThat(Short.toUnsignedInt(idBuffer.getShort()))
+        .isEqualTo(BinaryConversionService.INVALID_PHRASE_ID);
+    assertThat(metrics.parseFailuresByError().get(TimeParseError.OUT_OF_RANGE))
+        .isEqualTo(failuresBefore + 4);
+  }
+
+  @Test
+  void checkRequest_shouldDescribeMalformedRequests() {
+    assertThat(service.checkRequest(minutes(450), 1)).isNull();
+    assertThat(service.checkRequest(minutes(450, 451), 2)).isNull();
+    assertThat(service.checkRequest(new byte[0], 1))
+        .isEqualTo("Binary request must contain at least one time");
+    assertThat(service.checkRequest(new byte[3], 5))
+        .isEqualTo("Binary request length must be a multiple of 2 bytes: 3");
+    assertThat(service.checkRequest(minutes(1, 2), 1))
+        .isEqualTo("Binary request for /convert must contain exactly one time: 2");
+    assertThat(service.checkRequest(minutes(1, 2, 3), 2))
+        .isEqualTo("Batch size must not exceed 2 times: 3");
+  }
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', value = {
+      "*/*| PHRASES",
+      "application/json, application/vnd.spoken-time.phrase-ids| PHRASE_IDS",
+      "application/vnd.spoken-time.phrases, application/vnd.spoken-time.phrase-ids| PHRASES",
+      "application/vnd.spoken-time.phrases;q=0.5, application/vnd.spoken-time.phrase-ids"
+          + "| PHRASE_IDS",
+      "*/*, application/vnd.spoken-time.phrase-ids| PHRASE_IDS",
+      "application/*;q=0.9, application/vnd.spoken-time.phrase-ids;q=0.8| PHRASES",
+      "application/vnd.spoken-time.phrase-ids;q=0| PHRASES",
+      "application/json| PHRASES"
+  })
+  void negotiate_shouldPreferByQualityThenSpecificity(String accept, BinaryFormat expected) {
+    assertThat(BinaryFormat.negotiate(List.of(accept))).isEqualTo(expected);
+  }
+
+  @Test
+  void negotiate_noAcceptHeader_shouldDefaultToPhrases() {
+    assertThat(BinaryFormat.negotiate(List.of())).isEqualTo(BinaryFormat.PHRASES);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"application/vnd.spoken-time.phrase-ids;q=high", "text/", "/"})
+  void negotiate_malformedAcceptHeader_shouldThrow(String accept) {
+    assertThatThrownBy(() -> BinaryFormat.negotiate(List.of(accept)))
+        .isInstanceOf(InvalidMediaTypeException.class);
+  }
+
+  @Test
+  void negotiate_tooManyMediaRanges_shouldThrow() {
+    List<String> accept = Collections.nCopies(51, "application/json");
+
+    assertThatThrownBy(() -> BinaryFormat.negotiate(accept))
+        .isInstanceOf(InvalidMediaTypeException.class);
+  }
+
+  private static int[] allMinutes() {
+    int[] minutes = new int[TimeConstants.MINUTES_IN_DAY];
+    for (int i = 0; i < minutes.length; i++) {
+      minutes[i] = i;
+    }
+    return minutes;
+  }
+
+  private static byte[] minutes(int... values) {
+    ByteBuffer buffer = ByteBuffer.allocate(values.length * 2);
+    for (int value : values) {
+      buffer.putShort((short) value);
+    }
+    return buffer.array();
+  }
+
+  private static List<String> decodePhrases(byte[] body) {
+    List<String> phrases = new ArrayList<>();
+    int position = 0;
+    while (position < body.length) {
+      int length = Byte.toUnsignedInt(body[position++]);
+      phrases.add(new String(body, position, length, StandardCharsets.UTF_8));
+      position += length;
+    }
+    return phrases;
+  }
+}
@@ -0,0 +1,118 @@
+package com.britishspokentime.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.domain.Time;
+import com.britishspokentime.dto.TimeResponse;
+import com.britishspokentime.service.factory.TimeFormatStrategyFactory;
+import com.britishspokentime.service.strategy.TimeFormatStrategy;
+import com.britishspokentime.service.table.SpokenTimeTable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Tests for TimeResponseCache.
+ * Verifies the cached bytes are identical to regular Jackson serialization.
+ */
+@SpringBootTest
+class TimeResponseCacheTest {
+
+  @Autowired
+  private TimeResponseCache cache;
+
+  @Autowired
+  private SpokenTimeTable table;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Test
+  void size_shouldCoverPaddedAndUnpaddedForms() {
+    // 1440 zero-padded forms plus 600 unpadded forms for hours 0-9
+    assertThat(cache.size()).isEqualTo(2040);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "00:00, 0",
+      "0:00, 0",
+      "7:05, 425",
+      "07:05, 425",
+      "12:00, 720",
+      "23:59, 1439"
+  })
+  void get_shouldMatchJacksonSerialization(String time, int minuteOfDay) throws Exception {
+    byte[] expected = objectMapper.writeValueAsBytes(
+        new TimeResponse(time, table.get(minuteOfDay)));
+
+    assertThat(cache.get(time).body()).isEqualTo(expected);
+  }
+
+  @Test
+  void get_shouldEchoInputExactly() {
+    assertThat(new String(cache.get("7:30").body(), StandardCharsets.UTF_8))
+        .isEqualTo("{\"time\":\"7:30\",\"spokenForm\":\"half past seven\"}");
+  }
+
+  @Test
+  void get_shouldCarryStrongEtagOfMinuteAndForm() {
+    CachedResponse padded = cache.get("07:30");
+    CachedResponse unpadded = cache.get("7:30");
+
+    assertThat(padded.etag()).matches("\"[0-9a-f]{16}-0730\"");
+    assertThat(unpadded.etag()).matches("\"[0-9a-f]{16}-730\"");
+    assertThat(cache.etag("07:30", 450)).isEqualTo(padded.etag());
+    assertThat(cache.etag("7:30", 450)).isEqualTo(unpadded.etag());
+  }
+
+  @Test
+  void etag_shouldChangeWithTheSpokenForms() {
+    SpokenTimeTable other = new SpokenTimeTable(new TimeFormatStrategyFactory(List.of(
+        new TimeFormatStrategy() {
+          @Override
+          public boolean canHandle(Time time) {
+            return true;
+          }
+
+          @Override
+          public String format(Time time) {
+            return table.get(time.getMinuteOfDay()) + " exactly";
+          }
+        })));
+
+    TimeResponseCache changed = new TimeResponseCache(other, objectMapper, new TimeProperties());
+
+    assertThat(changed.etag("07:30", 450)).isNotEqualTo(cache.etag("07:30", 450));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "7:5", "24:00", "12:60", " 7:30", "ab:cd"})
+  void get_uncachedInput_shouldReturnNull(String time) {
+    assertThat(cache.get(time)).isNull();
+  }
+
+  @Test
+  void get_null_shouldReturnNull() {
+    assertThat(cache.get(null)).isNull();
+  }
+
+  @Test
+  void constructor_disabled_shouldCacheNothing() {
+    TimeProperties properties = new TimeProperties();
+    properties.getResponseCache().setEnabled(false);
+
+    TimeResponseCache disabled = new TimeResponseCache(table, objectMapper, properties);
+
+    assertThat(disabled.size()).isZero();
+    assertThat(disabled.get("7:30")).isNull();
+    assertThat(disabled.etag("7:30", 450)).isEqualTo(cache.etag("7:30", 450));
+  }
+}
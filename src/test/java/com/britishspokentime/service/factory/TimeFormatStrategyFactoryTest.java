@@ -1,8 +1,14 @@
 package com.britishspokentime.service.factory;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.britishspokentime.constants.TimeConstants;
 
 import com.britishspokentime.domain.Time;
 import com.britishspokentime.service.strategy.impl.HalfPastStrategy;
@@ -15,8 +21,12 @@ import com.britishspokentime.service.strategy.impl.QuarterPastStrategy;
 import com.britishspokentime.service.strategy.impl.QuarterToStrategy;
 import com.britishspokentime.service.strategy.impl.SpecialMinutesStrategy;
 import com.britishspokentime.service.strategy.TimeFormatStrategy;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -110,4 +120,92 @@ class TimeFormatStrategyFactoryTest {
     // The actual validation happens in the converter
     assertDoesNotThrow(() -> factory.getStrategy(invalidTime));
   }
+
+  // ========== Compiled Dispatch Tests ==========
+
+  @Test
+  void testGetStrategy_minuteOfDayMatchesTimeLookup() {
+    for (int minuteOfDay = 0; minuteOfDay < TimeConstants.MINUTES_IN_DAY; minuteOfDay++) {
+      Time time = new Time(minuteOfDay / TimeConstants.MINUTES_IN_HOUR,
+          minuteOfDay % TimeConstants.MINUTES_IN_HOUR);
+      assertSame(factory.getStrategy(time), factory.getStrategy(minuteOfDay));
+    }
+  }
+
+  @Test
+  void testGetStrategy_minuteOfDay() {
+    assertInstanceOf(NoonStrategy.class, factory.getStrategy(720));
+    assertInstanceOf(SpecialMinutesStrategy.class, factory.getStrategy(392));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {-1, 1440})
+  void testGetStrategy_minuteOfDayOutOfRange(int minuteOfDay) {
+    assertThrows(IllegalArgumentException.class, () -> factory.getStrategy(minuteOfDay));
+  }
+
+  @Test
+  void testConstructor_uncoveredMinuteFailsFast() {
+    List<TimeFormatStrategy> strategies = List.of(
+        strategy(1, Time::isOclock));
+
+    IllegalStateException ex = assertThrows(IllegalStateException.class,
+        () -> new TimeFormatStrategyFactory(strategies));
+    assertTrue(ex.getMessage().contains("No strategy found"));
+  }
+
+  @Test
+  void testConstructor_overlappingStrategiesWithSamePriorityFailFast() {
+    List<TimeFormatStrategy> strategies = List.of(
+        strategy(1, time -> true),
+        strategy(1, Time::isNoon));
+
+    IllegalStateException ex = assertThrows(IllegalStateException.class,
+        () -> new TimeFormatStrategyFactory(strategies));
+    assertTrue(ex.getMessage().contains("share priority 1"));
+  }
+
+  @Test
+  void testConstructor_samePriorityWithoutOverlapIsAllowed() {
+    TimeFormatStrategy morning = strategy(1, time -> time.getHour() < 12);
+    TimeFormatStrategy afternoon = strategy(1, time -> time.getHour() >= 12);
+
+    TimeFormatStrategyFactory custom =
+        new TimeFormatStrategyFactory(List.of(morning, afternoon));
+
+    assertSame(morning, custom.getStrategy(new Time(11, 59)));
+    assertSame(afternoon, custom.getStrategy(new Time(12, 0)));
+  }
+
+  @Test
+  void testStandard_matchesTheSpringFactoryForEveryMinute() {
+    TimeFormatStrategyFactory standard = TimeFormatStrategyFactory.standard();
+
+    for (int minuteOfDay = 0; minuteOfDay < TimeConstants.MINUTES_IN_DAY; minuteOfDay++) {
+      Time time = Time.ofMinuteOfDay(minuteOfDay);
+      assertSame(factory.getStrategy(minuteOfDay).getClass(),
+          standard.getStrategy(minuteOfDay).getClass());
+      assertEquals(factory.getStrategy(minuteOfDay).format(time),
+          standard.getStrategy(minuteOfDay).format(time));
+    }
+  }
+
+  private static TimeFormatStrategy strategy(int priority, Predicate<Time> handles) {
+    return new TimeFormatStrategy() {
+      @Override
+      public boolean canHandle(Time time) {
+        return handles.test(time);
+      }
+
+      @Override
+      public String format(Time time) {
+        return "test";
+      }
+
+      @Override
+      public int getPriority() {
+        return priority;
+      }
+    };
+  }
 }
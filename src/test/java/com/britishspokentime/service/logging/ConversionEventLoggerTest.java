@@ -0,0 +1,201 @@
+package com.britishspokentime.service.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.domain.TimeParseError;
+import com.britishspokentime.service.factory.TimeFormatStrategyFactory;
+import com.britishspokentime.service.metrics.ConversionMetrics;
+import com.britishspokentime.service.table.SpokenTimeTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Tests for ConversionEventLogger.
+ * Verifies sampling, key/value content and the periodic summary.
+ */
+@SpringBootTest
+class ConversionEventLoggerTest {
+
+  @Autowired
+  private SpokenTimeTable spokenTimeTable;
+
+  @Autowired
+  private TimeFormatStrategyFactory strategyFactory;
+
+  private final Logger eventsLogger =
+      (Logger) LoggerFactory.getLogger("com.britishspokentime.events");
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  private TimeProperties properties;
+  private ConversionMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    appender.start();
+    eventsLogger.addAppender(appender);
+    properties = new TimeProperties();
+    metrics = new ConversionMetrics(new SimpleMeterRegistry(), strategyFactory, properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    eventsLogger.detachAppender(appender);
+  }
+
+  @Test
+  void conversion_withRateOne_shouldLogEveryEventWithKeyValues() {
+    // Arrange
+    properties.getLogging().getSampling().setConversion(1);
+    ConversionEventLogger logger = eventLogger();
+
+    // Act
+    logger.conversion("7:30", 450);
+
+    // Assert
+    assertThat(appender.list).hasSize(1);
+    assertThat(keyValues(appender.list.get(0))).containsExactly(
+        Map.entry("event", "conversion"),
+        Map.entry("time", "7:30"),
+        Map.entry("minuteOfDay", "450"),
+        Map.entry("strategy", "HalfPastStrategy"),
+        Map.entry("spokenForm", "half past seven"));
+  }
+
+  @Test
+  void conversion_withRateZero_shouldNotLog() {
+    // Arrange
+    properties.getLogging().getSampling().setConversion(0);
+    ConversionEventLogger logger = eventLogger();
+
+    // Act
+    for (int i = 0; i < 100; i++) {
+      logger.conversion("7:30", 450);
+    }
+
+    // Assert
+    assertThat(appender.list).isEmpty();
+  }
+
+  @Test
+  void conversion_withRate_shouldLogAFractionOfEvents() {
+    // Arrange
+    properties.getLogging().getSampling().setConversion(100);
+    ConversionEventLogger logger = eventLogger();
+
+    // Act
+    for (int i = 0; i < 20_000; i++) {
+      logger.conversion("7:30", 450);
+    }
+
+    // Assert
+    assertThat(appender.list).hasSizeBetween(100, 300);
+  }
+
+  @Test
+  void parseFailure_shouldLogReason() {
+    // Arrange
+    properties.getLogging().getSampling().setParseFailure(1);
+    ConversionEventLogger logger = eventLogger();
+
+    // Act
+    logger.parseFailure("25:00", TimeParseError.OUT_OF_RANGE);
+
+    // Assert
+    assertThat(keyValues(appender.list.get(0))).containsExactly(
+        Map.entry("event", "parse-failure"),
+        Map.entry("time", "25:00"),
+        Map.entry("reason", "out_of_range"));
+  }
+
+  @Test
+  void batch_shouldLogSizeAndFailures() {
+    // Arrange
+    ConversionEventLogger logger = eventLogger();
+
+    // Act
+    logger.batch(10, 2);
+
+    // Assert
+    assertThat(keyValues(appender.list.get(0))).containsExactly(
+        Map.entry("event", "batch"),
+        Map.entry("size", "10"),
+        Map.entry("failures", "2"));
+  }
+
+  @Test
+  void summary_shouldReportCountsSincePreviousSummary() {
+    // Arrange
+    ConversionEventLogger logger = eventLogger();
+    metrics.recordConversion(720);
+    metrics.recordConversion(450);
+    metrics.recordConversion(450);
+    metrics.recordParseFailure(TimeParseError.MALFORMED);
+    logger.summary();
+    metrics.recordConversion(450);
+
+    // Act
+    logger.summary();
+
+    // Assert
+    assertThat(appender.list).hasSize(2);
+    assertThat(keyValues(appender.list.get(0))).containsExactly(
+        Map.entry("event", "summary"),
+        Map.entry("strategy.HalfPastStrategy", "2"),
+        Map.entry("strategy.NoonStrategy", "1"),
+        Map.entry("parseFailures.malformed", "1"),
+        Map.entry("conversions", "3"),
+        Map.entry("parseFailures", "1"));
+    assertThat(keyValues(appender.list.get(1))).containsExactly(
+        Map.entry("event", "summary"),
+        Map.entry("strategy.HalfPastStrategy", "1"),
+        Map.entry("conversions", "1"),
+        Map.entry("parseFailures", "0"));
+  }
+
+  @Test
+  void summary_withoutActivity_shouldNotLog() {
+    // Act
+    eventLogger().summary();
+
+    // Assert
+    assertThat(appender.list).isEmpty();
+  }
+
+  @Test
+  void rootLogger_shouldWriteThroughNonBlockingAsyncAppender() {
+    // Arrange
+    Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+
+    // Act
+    AsyncAppender async = (AsyncAppender) root.getAppender("ASYNC");
+
+    // Assert
+    assertThat(async).isNotNull();
+    assertThat(async.isNeverBlock()).isTrue();
+    assertThat(async.getQueueSize()).isEqualTo(8192);
+    assertThat(async.getDiscardingThreshold()).isEqualTo(1638);
+  }
+
+  private ConversionEventLogger eventLogger() {
+    return new ConversionEventLogger(spokenTimeTable, strategyFactory, metrics, properties);
+  }
+
+  private static Map<String, String> keyValues(ILoggingEvent event) {
+    return event.getKeyValuePairs().stream()
+        .collect(Collectors.toMap(pair -> pair.key, pair -> String.valueOf(pair.value),
+            (a, b) -> b, LinkedHashMap::new));
+  }
+}
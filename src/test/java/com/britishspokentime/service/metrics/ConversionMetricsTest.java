@@ -0,0 +1,168 @@
+package com.britishspokentime.service.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.britishspokentime.config.TimeProperties;
+import com.britishspokentime.domain.TimeParseError;
+import com.britishspokentime.service.TimeConverter;
+import com.britishspokentime.service.factory.TimeFormatStrategyFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Tests for ConversionMetrics.
+ * Verifies meters are registered up front and recorded under the expected tags.
+ */
+@SpringBootTest
+class ConversionMetricsTest {
+
+  @Autowired
+  private TimeFormatStrategyFactory strategyFactory;
+
+  @Autowired
+  private TimeConverter timeConverter;
+
+  @Autowired
+  private MeterRegistry applicationRegistry;
+
+  private SimpleMeterRegistry registry;
+  private ConversionMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    metrics = new ConversionMetrics(registry, strategyFactory, sampleRate(1));
+  }
+
+  @Test
+  void constructor_shouldRegisterOneCounterPerStrategy() {
+    assertThat(registry.find(ConversionMetrics.CONVERSIONS).functionCounters()).hasSize(9);
+  }
+
+  @Test
+  void constructor_shouldRegisterOneCounterPerParseError() {
+    assertThat(registry.find(ConversionMetrics.PARSE_FAILURES).functionCounters())
+        .hasSize(TimeParseError.values().length);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "0, MidnightStrategy",
+      "720, NoonStrategy",
+      "420, OclockStrategy",
+      "435, QuarterPastStrategy",
+      "450, HalfPastStrategy",
+      "465, QuarterToStrategy",
+      "425, MinutesPastStrategy",
+      "452, SpecialMinutesStrategy",
+      "470, MinutesToStrategy"
+  })
+  void recordConversion_shouldCountAgainstStrategy(int minuteOfDay, String strategy) {
+    // Act
+    metrics.recordConversion(minuteOfDay);
+    metrics.recordConversion(minuteOfDay);
+
+    // Assert
+    assertThat(registry.get(ConversionMetrics.CONVERSIONS).tag("strategy", strategy)
+        .functionCounter().count()).isEqualTo(2.0);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "-1, empty",
+      "-2, malformed",
+      "-3, out_of_range"
+  })
+  void recordParseFailure_shouldCountByReason(int code, String reason) {
+    // Act
+    metrics.recordParseFailure(code);
+
+    // Assert
+    assertThat(registry.get(ConversionMetrics.PARSE_FAILURES).tag("reason", reason)
+        .functionCounter().count()).isEqualTo(1.0);
+  }
+
+  @Test
+  void recordSingleAndBatch_shouldRecordSeparateTimers() {
+    // Act
+    metrics.recordSingle(metrics.startSingle());
+    metrics.recordBatch(System.nanoTime());
+    metrics.recordBatch(System.nanoTime());
+
+    // Assert
+    Timer single = registry.get(ConversionMetrics.REQUESTS).tag("operation", "single").timer();
+    Timer batch = registry.get(ConversionMetrics.REQUESTS).tag("operation", "batch").timer();
+    assertThat(single.count()).isEqualTo(1);
+    assertThat(batch.count()).isEqualTo(2);
+  }
+
+  @Test
+  void converter_shouldRecordConversionsAndFailuresInApplicationRegistry() {
+    // Arrange
+    double noonBefore = applicationRegistry.get(ConversionMetrics.CONVERSIONS)
+        .tag("strategy", "NoonStrategy").functionCounter().count();
+    double malformedBefore = applicationRegistry.get(ConversionMetrics.PARSE_FAILURES)
+        .tag("reason", "malformed").functionCounter().count();
+
+    // Act
+    timeConverter.convert(720);
+    timeConverter.parseMinuteOfDay("7-30");
+
+    // Assert
+    assertThat(applicationRegistry.get(ConversionMetrics.CONVERSIONS)
+        .tag("strategy", "NoonStrategy").functionCounter().count()).isEqualTo(noonBefore + 1);
+    assertThat(applicationRegistry.get(ConversionMetrics.PARSE_FAILURES)
+        .tag("reason", "malformed").functionCounter().count()).isEqualTo(malformedBefore + 1);
+  }
+
+  @Test
+  void recordSingle_notSampled_shouldNotRecord() {
+    // Act
+    metrics.recordSingle(ConversionMetrics.NOT_SAMPLED);
+
+    // Assert
+    assertThat(registry.get(ConversionMetrics.REQUESTS).tag("operation", "single")
+        .timer().count()).isZero();
+  }
+
+  @Test
+  void startSingle_withSampleRate_shouldTimeAFractionOfCalls() {
+    // Arrange
+    ConversionMetrics sampled = new ConversionMetrics(registry, strategyFactory, sampleRate(64));
+    int calls = 64_000;
+
+    // Act
+    int timed = 0;
+    for (int i = 0; i < calls; i++) {
+      if (sampled.startSingle() != ConversionMetrics.NOT_SAMPLED) {
+        timed++;
+      }
+    }
+
+    // Assert
+    assertThat(timed).isBetween(500, 1500);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, -4, 3, 100})
+  void constructor_withInvalidSampleRate_shouldFail(int rate) {
+    assertThatThrownBy(() -> new ConversionMetrics(registry, strategyFactory, sampleRate(rate)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("power of two");
+  }
+
+  private static TimeProperties sampleRate(int rate) {
+    TimeProperties properties = new TimeProperties();
+    properties.getMetrics().setTimerSampleRate(rate);
+    return properties;
+  }
+}
@@ -0,0 +1,152 @@
+package com.britishspokentime.service.table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.britishspokentime.domain.SpokenMatch;
+import com.britishspokentime.domain.Time;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Tests for SpokenTimeMatcher.
+ * Checks the examples from speech recognition, the limits of the search, and that
+ * noisy phrases match exactly what a scan of every spoken form finds.
+ */
+@SpringBootTest
+class SpokenTimeMatcherTest {
+
+  @Autowired
+  private SpokenTimeTable table;
+
+  private String[] phrases;
+  private SpokenTimeMatcher matcher;
+
+  @BeforeEach
+  void setUp() {
+    phrases = new String[table.size()];
+    for (int minuteOfDay = 0; minuteOfDay < phrases.length; minuteOfDay++) {
+      phrases[minuteOfDay] = table.get(minuteOfDay);
+    }
+    matcher = new SpokenTimeMatcher(phrases);
+  }
+
+  @Test
+  void match_noisyWords_shouldFindTheIntendedPhraseFirst() {
+    assertThat(matcher.match("quater past too", 2).get(0).spokenForm())
+        .isEqualTo("quarter past two");
+    assertThat(matcher.match("Twenty-Five past three", 0))
+        .extracting(SpokenMatch::time)
+        .containsExactly(Time.of(3, 25));
+    assertThat(matcher.match("half pass ten.", 2).get(0).spokenForm())
+        .isEqualTo("half past ten");
+    assertThat(matcher.match("ten oclock", 1).get(0).spokenForm())
+        .isEqualTo("ten o'clock");
+    assertThat(matcher.match("ten o’clock", 0)).hasSize(1);
+  }
+
+  @Test
+  void match_everyPhrase_shouldMatchItselfWithFullConfidence() {
+    for (int minuteOfDay = 0; minuteOfDay < phrases.length; minuteOfDay++) {
+      SpokenMatch best = matcher.match(phrases[minuteOfDay], 2).get(0);
+
+      assertThat(best.spokenForm()).isEqualTo(phrases[minuteOfDay]);
+      assertThat(best.time().getMinuteOfDay()).isEqualTo(table.minuteOfDay(phrases[minuteOfDay]));
+      assertThat(best.distance()).isZero();
+      assertThat(best.confidence()).isEqualTo(1.0);
+    }
+  }
+
+  @Test
+  void match_mutatedPhrases_shouldFindWhatAScanFinds() {
+    Random random = new Random(42);
+    for (int round = 0; round < 2_000; round++) {
+      String text = mutate(phrases[random.nextInt(phrases.length)], random);
+      int maxDistance = random.nextInt(4);
+
+      List<SpokenMatch> matches = matcher.match(text, maxDistance);
+
+      assertThat(matches).as(text).containsExactlyElementsOf(scan(text, maxDistance));
+    }
+  }
+
+  @Test
+  void match_nothingCloseEnough_shouldBeEmpty() {
+    assertThat(matcher.match(null, 2)).isEmpty();
+    assertThat(matcher.match(" \t-, ", 2)).isEmpty();
+    assertThat(matcher.match("quater past too", 1)).isEmpty();
+    assertThat(matcher.match("the time is quarter past two", 2)).isEmpty();
+    assertThat(matcher.match("x".repeat(10_000), 2)).isEmpty();
+  }
+
+  @Test
+  void match_negativeMaxDistance_shouldThrow() {
+    assertThatThrownBy(() -> matcher.match("noon", -1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Maximum edit distance must not be negative: -1");
+  }
+
+  /**
+   * Applies up to three random letter edits, and maybe a hyphen or upper case.
+   */
+  private static String mutate(String phrase, Random random) {
+    StringBuilder text = new StringBuilder(phrase);
+    for (int edits = random.nextInt(4); edits > 0; edits--) {
+      int position = random.nextInt(text.length());
+      char letter = (char) ('a' + random.nextInt(26));
+      switch (random.nextInt(3)) {
+        case 0 -> text.insert(position, letter);
+        case 1 -> text.deleteCharAt(position);
+        default -> text.setCharAt(position, letter);
+      }
+      if (text.isEmpty()) {
+        break;
+      }
+    }
+    String mutated = text.toString();
+    if (random.nextInt(4) == 0) {
+      mutated = mutated.replaceFirst(" ", "-");
+    }
+    return random.nextInt(4) == 0 ? mutated.toUpperCase(Locale.ROOT) : mutated;
+  }
+
+  /**
+   * Compares the words of the text with those of every spoken form, keeping the
+   * first minute of repeated phrases.
+   */
+  private List<SpokenMatch> scan(String text, int maxDistance) {
+    String[] tokens = text.toLowerCase(Locale.ROOT).split("[^a-z']+");
+    List<String> words = new ArrayList<>(List.of(tokens));
+    words.removeIf(String::isEmpty);
+    List<SpokenMatch> matches = new ArrayList<>();
+    Set<String> seen = new HashSet<>();
+    for (int minuteOfDay = 0; minuteOfDay < phrases.length; minuteOfDay++) {
+      String[] phraseWords = phrases[minuteOfDay].split(" ");
+      if (!seen.add(phrases[minuteOfDay]) || phraseWords.length != words.size()) {
+        continue;
+      }
+      int distance = 0;
+      for (int i = 0; i < phraseWords.length; i++) {
+        String word = words.get(i);
+        distance += WordBkTree.distance(word.toCharArray(), 0, word.length(),
+            phraseWords[i].toCharArray(), new int[word.length() + 1]);
+      }
+      if (distance <= maxDistance) {
+        matches.add(new SpokenMatch(Time.ofMinuteOfDay(minuteOfDay), phrases[minuteOfDay],
+            distance, 1.0 - (double) distance / phrases[minuteOfDay].length()));
+      }
+    }
+    matches.sort((a, b) -> a.distance() != b.distance()
+        ? Integer.compare(a.distance(), b.distance())
+        : Integer.compare(a.time().getMinuteOfDay(), b.time().getMinuteOfDay()));
+    return matches;
+  }
+}
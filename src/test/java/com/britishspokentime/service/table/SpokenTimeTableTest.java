@@ -0,0 +1,111 @@
+package com.britishspokentime.service.table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.britishspokentime.constants.TimeConstants;
+import com.britishspokentime.domain.Time;
+import com.britishspokentime.domain.TimeParseError;
+import com.britishspokentime.service.factory.TimeFormatStrategyFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Tests for SpokenTimeTable.
+ * Verifies the precomputed table matches the strategy output for every minute of the day.
+ */
+@SpringBootTest
+class SpokenTimeTableTest {
+
+  @Autowired
+  private SpokenTimeTable table;
+
+  @Autowired
+  private TimeFormatStrategyFactory strategyFactory;
+
+  @Test
+  void size_shouldCoverEveryMinuteOfTheDay() {
+    assertThat(table.size()).isEqualTo(TimeConstants.MINUTES_IN_DAY);
+  }
+
+  @Test
+  void get_shouldMatchStrategyOutputForEveryMinute() {
+    for (int hour = 0; hour <= TimeConstants.MAX_HOUR; hour++) {
+      for (int minute = 0; minute <= TimeConstants.MAX_MINUTE; minute++) {
+        Time time = new Time(hour, minute);
+        String expected = strategyFactory.getStrategy(time).format(time);
+
+        assertThat(table.get(time.getMinuteOfDay())).as("%s", time).isEqualTo(expected);
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "0, midnight",
+      "720, noon",
+      "450, half past seven",
+      "392, six thirty two",
+      "1439, one to twelve"
+  })
+  void get_knownMinutes_shouldReturnPhrase(int minuteOfDay, String expected) {
+    assertThat(table.get(minuteOfDay)).isEqualTo(expected);
+  }
+
+  @Test
+  void get_shouldReturnSameInstanceOnEveryCall() {
+    assertThat(table.get(450)).isSameAs(table.get(450));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {-1, 1440, Integer.MAX_VALUE})
+  void get_outOfRange_shouldThrowException(int minuteOfDay) {
+    assertThatThrownBy(() -> table.get(minuteOfDay))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Invalid minute of day");
+  }
+
+  @Test
+  void minuteOfDay_everyPhrase_shouldRoundTripToTheMorningReading() {
+    for (int minuteOfDay = 0; minuteOfDay < TimeConstants.MINUTES_IN_DAY; minuteOfDay++) {
+      int expected = minuteOfDay > 720 ? minuteOfDay - 720 : minuteOfDay;
+
+      assertThat(table.minuteOfDay(table.get(minuteOfDay)))
+          .as("%s", table.get(minuteOfDay)).isEqualTo(expected);
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "midnight, 0",
+      "noon, 720",
+      "quarter to nine, 525",
+      "twenty five past three, 205",
+      "five past twelve, 5",
+      "one to twelve, 719",
+      "'  Quarter   TO nine\t', 525",
+      "eleven o’clock, 660",
+      "SIX THIRTY TWO, 392"
+  })
+  void minuteOfDay_spokenForms_shouldIgnoreCaseAndSpacing(String spokenForm, int expected) {
+    assertThat(table.minuteOfDay(spokenForm)).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"quarter", "quarter to", "quarter to nine o'clock", "half to nine",
+      "quarterto nine", "thirteen o'clock", "twenty-five past three", "quarter to nine!",
+      "café", "q"})
+  void minuteOfDay_otherText_shouldReturnUnknownPhrase(String text) {
+    assertThat(table.minuteOfDay(text)).isEqualTo(TimeParseError.UNKNOWN_PHRASE.getCode());
+  }
+
+  @Test
+  void minuteOfDay_blank_shouldReturnEmpty() {
+    assertThat(table.minuteOfDay(null)).isEqualTo(TimeParseError.EMPTY.getCode());
+    assertThat(table.minuteOfDay(" \t ")).isEqualTo(TimeParseError.EMPTY.getCode());
+  }
+}
@@ -0,0 +1,76 @@
+package com.britishspokentime.service.table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.britishspokentime.domain.TimeParseError;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Tests for SpokenTimeTrie.
+ * Compiles tries from small vocabularies to check sharing and the ambiguity rule,
+ * and checks that reading the real vocabulary allocates nothing.
+ */
+@SpringBootTest
+class SpokenTimeTrieTest {
+
+  @Autowired
+  private SpokenTimeTable table;
+
+  @Test
+  void constructor_shouldSharePrefixes() {
+    SpokenTimeTrie trie = new SpokenTimeTrie(new String[] {"ab", "ac", "b"});
+
+    assertThat(trie.size()).isEqualTo(5);
+    assertThat(trie.parse("ac")).isEqualTo(1);
+    assertThat(trie.parse("a")).isEqualTo(TimeParseError.UNKNOWN_PHRASE.getCode());
+  }
+
+  @Test
+  void constructor_twelveHourRepeats_shouldResolveToTheEarlierTime() {
+    String[] phrases = new String[1440];
+    for (int minuteOfDay = 0; minuteOfDay < phrases.length; minuteOfDay++) {
+      phrases[minuteOfDay] = "time " + minuteOfDay % 720;
+    }
+
+    assertThat(new SpokenTimeTrie(phrases).parse("time 5")).isEqualTo(5);
+  }
+
+  @Test
+  void constructor_unrelatedRepeat_shouldThrow() {
+    assertThatThrownBy(() -> new SpokenTimeTrie(new String[] {"noon", "noon"}))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Spoken form names unrelated times: noon");
+  }
+
+  @Test
+  void constructor_unsupportedCharacters_shouldThrow() {
+    assertThatThrownBy(() -> new SpokenTimeTrie(new String[] {"Noon"}))
+        .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> new SpokenTimeTrie(new String[] {"midié"}))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void parse_shouldAllocateNothing() {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    StringBuilder input = new StringBuilder("  Twenty Five past THREE ");
+
+    long checksum = 0;
+    for (int round = 0; round < 20_000; round++) {
+      checksum += table.minuteOfDay(input) + table.minuteOfDay(table.get(round % 1440));
+    }
+    long before = threads.getCurrentThreadAllocatedBytes();
+    for (int round = 0; round < 20_000; round++) {
+      checksum += table.minuteOfDay(input) + table.minuteOfDay(table.get(round % 1440));
+    }
+    long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+    assertThat(checksum).isPositive();
+    assertThat(allocated).as("Allocated bytes").isLessThan(1024);
+  }
+}
@@ -0,0 +1,111 @@
+package com.britishspokentime.service.table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for WordBkTree.
+ * Checks the edit distance on known pairs and compares searches, which compute
+ * distances bit-parallel, with a row-by-row scan of every word.
+ */
+class WordBkTreeTest {
+
+  private static final String[] WORDS = {"one", "two", "three", "four", "five", "six",
+      "seven", "eight", "nine", "ten", "eleven", "twelve", "twenty", "thirty", "forty",
+      "fifty", "past", "to", "quarter", "half", "o'clock", "noon", "midnight"};
+
+  @Test
+  void distance_shouldCountEdits() {
+    assertThat(distance("kitten", "sitting")).isEqualTo(3);
+    assertThat(distance("quater", "quarter")).isEqualTo(1);
+    assertThat(distance("too", "two")).isEqualTo(1);
+    assertThat(distance("", "noon")).isEqualTo(4);
+    assertThat(distance("noon", "noon")).isZero();
+  }
+
+  @Test
+  void search_shouldFindWhatAScanFinds() {
+    WordBkTree tree = new WordBkTree(WORDS);
+    Random random = new Random(42);
+    for (int round = 0; round < 5_000; round++) {
+      char[] token = randomToken(random);
+      int radius = random.nextInt(4);
+      Map<Integer, Integer> expected = new HashMap<>();
+      for (int word = 0; word < WORDS.length; word++) {
+        int distance = distance(String.valueOf(token), WORDS[word]);
+        if (distance <= radius) {
+          expected.put(word, distance);
+        }
+      }
+      int[] found = new int[WORDS.length];
+      int[] distances = new int[WORDS.length];
+
+      int count = tree.search(token, 0, token.length, radius, found, distances);
+
+      Map<Integer, Integer> actual = new HashMap<>();
+      for (int i = 0; i < count; i++) {
+        actual.put(found[i], distances[i]);
+      }
+      assertThat(actual).as(String.valueOf(token)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void search_tokenLongerThanAnyWordWithinRadius_shouldFindNothing() {
+    WordBkTree tree = new WordBkTree(WORDS);
+    char[] token = "midnightmidnight".toCharArray();
+
+    assertThat(tree.search(token, 0, token.length, 2, new int[WORDS.length],
+        new int[WORDS.length])).isZero();
+  }
+
+  @Test
+  void constructor_invalidWords_shouldThrow() {
+    assertThatThrownBy(() -> new WordBkTree(new String[0]))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new WordBkTree(new String[] {"one", "two", "one"}))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Repeated word: one");
+    assertThatThrownBy(() -> new WordBkTree(new String[] {"one", ""}))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new WordBkTree(new String[] {"x".repeat(65)}))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  /**
+   * Makes a token by editing a random word, or from random letters.
+   */
+  private static char[] randomToken(Random random) {
+    StringBuilder token = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+    if (random.nextInt(10) == 0) {
+      token.setLength(0);
+      for (int i = random.nextInt(10); i > 0; i--) {
+        token.append((char) ('a' + random.nextInt(26)));
+      }
+      return token.toString().toCharArray();
+    }
+    for (int edits = random.nextInt(4); edits > 0; edits--) {
+      int position = random.nextInt(token.length() + 1);
+      char letter = (char) ('a' + random.nextInt(26));
+      switch (random.nextInt(3)) {
+        case 0 -> token.insert(position, letter);
+        case 1 -> token.deleteCharAt(Math.min(position, token.length() - 1));
+        default -> token.setCharAt(Math.min(position, token.length() - 1), letter);
+      }
+      if (token.isEmpty()) {
+        break;
+      }
+    }
+    return token.toString().toCharArray();
+  }
+
+  private static int distance(String token, String word) {
+    return WordBkTree.distance(token.toCharArray(), 0, token.length(), word.toCharArray(),
+        new int[token.length() + 1]);
+  }
+}
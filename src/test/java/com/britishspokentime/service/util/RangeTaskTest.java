@@ -0,0 +1,73 @@
+package com.britishspokentime.service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Tests for RangeTask.
+ */
+class RangeTaskTest {
+
+  @ParameterizedTest
+  @CsvSource({
+      "0, 4",
+      "1, 1",
+      "4, 4",
+      "5, 4",
+      "1000, 7",
+      "100000, 1024"
+  })
+  void forRange_shouldVisitEveryIndexOnceInRangesWithinThreshold(int length, int threshold) {
+    AtomicIntegerArray visits = new AtomicIntegerArray(length);
+
+    RangeTask.forRange(length, threshold, (from, to) -> {
+      assertThat(to - from).isLessThanOrEqualTo(threshold);
+      for (int i = from; i < to; i++) {
+        visits.incrementAndGet(i);
+      }
+    });
+
+    for (int i = 0; i < length; i++) {
+      assertThat(visits.get(i)).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void forRange_shouldRunInCallersPool() {
+    ForkJoinPool pool = new ForkJoinPool(2);
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    try {
+      pool.submit(() -> RangeTask.forRange(64, 1,
+          (from, to) -> threads.add(Thread.currentThread()))).join();
+    } finally {
+      pool.shutdown();
+    }
+
+    assertThat(threads).isNotEmpty().allSatisfy(thread ->
+        assertThat(thread.getName()).startsWith("ForkJoinPool-"));
+  }
+
+  @Test
+  void forRange_shouldRethrowFailures() {
+    assertThatThrownBy(() -> RangeTask.forRange(100, 10, (from, to) -> {
+      if (from >= 50) {
+        throw new IllegalArgumentException("Invalid minute of day: " + from);
+      }
+    })).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void forRange_nonPositiveThreshold_shouldThrow() {
+    assertThatThrownBy(() -> RangeTask.forRange(10, 0, (from, to) -> { }))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Threshold must be at least 1: 0");
+  }
+}
@@ -0,0 +1,148 @@
+package com.britishspokentime.service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.britishspokentime.domain.TimeParseError;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for TimeParser.
+ */
+class TimeParserTest {
+
+  @Test
+  void constructor_shouldThrowException() throws NoSuchMethodException {
+    Constructor<TimeParser> constructor = TimeParser.class.getDeclaredConstructor();
+    constructor.setAccessible(true);
+
+    assertThatThrownBy(constructor::newInstance)
+        .isInstanceOf(InvocationTargetException.class)
+        .hasCauseInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "00:00, 0",
+      "0:00, 0",
+      "7:05, 425",
+      "07:05, 425",
+      "12:00, 720",
+      "19:30, 1170",
+      "23:59, 1439"
+  })
+  void parseMinuteOfDay_validTimes_shouldReturnMinuteOfDay(String input, int expected) {
+    assertThat(TimeParser.parseMinuteOfDay(input)).isEqualTo(expected);
+  }
+
+  @Test
+  void parseMinuteOfDay_everyCanonicalTime_shouldRoundTrip() {
+    for (int minuteOfDay = 0; minuteOfDay < 1440; minuteOfDay++) {
+      String padded = String.format("%02d:%02d", minuteOfDay / 60, minuteOfDay % 60);
+      String unpadded = String.format("%d:%02d", minuteOfDay / 60, minuteOfDay % 60);
+
+      assertThat(TimeParser.parseMinuteOfDay(padded)).isEqualTo(minuteOfDay);
+      assertThat(TimeParser.parseMinuteOfDay(unpadded)).isEqualTo(minuteOfDay);
+    }
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {"  ", "\t", "\n", "     "})
+  void parseMinuteOfDay_nullOrBlank_shouldReturnEmpty(String input) {
+    assertThat(TimeParser.parseMinuteOfDay(input)).isEqualTo(TimeParseError.EMPTY.getCode());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"1234", "12", "ab:cd", "-1:00", "12:-1", "7:5", "123:00",
+      " 7:30", "7:30 ", "7.30", "1a:30", "12:3x", ":30"})
+  void parseMinuteOfDay_malformed_shouldReturnMalformed(String input) {
+    assertThat(TimeParser.parseMinuteOfDay(input))
+        .isEqualTo(TimeParseError.MALFORMED.getCode());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"24:00", "12:60", "99:99", "30:00"})
+  void parseMinuteOfDay_outOfRange_shouldReturnOutOfRange(String input) {
+    assertThat(TimeParser.parseMinuteOfDay(input))
+        .isEqualTo(TimeParseError.OUT_OF_RANGE.getCode());
+  }
+
+  @Test
+  void parseMinuteOfDay_region_shouldParseOnlyTheRegion() {
+    String text = "08:15,9:45,xx";
+
+    assertThat(TimeParser.parseMinuteOfDay(text, 0, 5)).isEqualTo(495);
+    assertThat(TimeParser.parseMinuteOfDay(text, 6, 10)).isEqualTo(585);
+    assertThat(TimeParser.parseMinuteOfDay(text, 11, 13))
+        .isEqualTo(TimeParseError.MALFORMED.getCode());
+  }
+
+  @Test
+  void parseMinuteOfDay_errorCodes_shouldResolveToReasons() {
+    assertThat(TimeParseError.fromCode(TimeParser.parseMinuteOfDay("")))
+        .isEqualTo(TimeParseError.EMPTY);
+    assertThat(TimeParseError.fromCode(TimeParser.parseMinuteOfDay("7-30")))
+        .isEqualTo(TimeParseError.MALFORMED);
+    assertThat(TimeParseError.fromCode(TimeParser.parseMinuteOfDay("25:00")))
+        .isEqualTo(TimeParseError.OUT_OF_RANGE);
+    assertThatThrownBy(() -> TimeParseError.fromCode(10))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"00:00", "7:05", "23:59", "", "  ", "\t", "24:00", "12:60",
+      "ab:cd", "7:5", "123:00", " 7:30", "12:3x", ":30", "1234"})
+  void parseMinuteOfDay_bytes_shouldMatchCharSequence(String input) {
+    byte[] bytes = ("[" + input + "]").getBytes(StandardCharsets.ISO_8859_1);
+
+    assertThat(TimeParser.parseMinuteOfDay(bytes, 1, bytes.length - 1))
+        .isEqualTo(TimeParser.parseMinuteOfDay(input));
+  }
+
+  @Test
+  void parseMinuteOfDay_nonAsciiBytes_shouldReturnMalformed() {
+    byte[] bytes = "caf\u00e9".getBytes(StandardCharsets.UTF_8);
+
+    assertThat(TimeParser.parseMinuteOfDay(bytes, 0, bytes.length))
+        .isEqualTo(TimeParseError.MALFORMED.getCode());
+  }
+
+  @Test
+  void parseLines_shouldParseEachTrimmedLine() {
+    byte[] text = "07:30\n  9:45\r\n\n25:00\nab\n12:00"
+        .getBytes(StandardCharsets.US_ASCII);
+    int[] out = new int[text.length];
+
+    int lines = TimeParser.parseLines(text, 0, text.length, out);
+
+    assertThat(lines).isEqualTo(6);
+    assertThat(out).startsWith(450, 585, TimeParseError.EMPTY.getCode(),
+        TimeParseError.OUT_OF_RANGE.getCode(), TimeParseError.MALFORMED.getCode(), 720);
+  }
+
+  @Test
+  void parseLines_region_shouldStopAtTheEnd() {
+    byte[] text = "xx\n07:30\n12:00\nyy".getBytes(StandardCharsets.US_ASCII);
+    int[] out = new int[2];
+
+    assertThat(TimeParser.parseLines(text, 3, 15, out)).isEqualTo(2);
+    assertThat(out).containsExactly(450, 720);
+    assertThat(TimeParser.parseLines(text, 3, 3, out)).isZero();
+  }
+
+  @Test
+  void parseLines_outputTooShort_shouldThrow() {
+    byte[] text = "07:30\n12:00".getBytes(StandardCharsets.US_ASCII);
+
+    assertThatThrownBy(() -> TimeParser.parseLines(text, 0, text.length, new int[1]))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
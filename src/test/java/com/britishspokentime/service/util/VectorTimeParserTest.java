@@ -0,0 +1,156 @@
+package com.britishspokentime.service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.britishspokentime.service.TimeConverter;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Differential tests for VectorTimeParser.
+ * Every valid time must decode to what the scalar {@code parseTime} returns, and for
+ * any input the vector parser must agree with the scalar {@link TimeParser} line by
+ * line. Invalid input is compared with the scalar parser rather than
+ * {@code parseTime}, whose fallback also accepts forms such as {@code 7:5}.
+ */
+@SpringBootTest
+class VectorTimeParserTest {
+
+  private static final String[] SAMPLES = {"07:30", "7:05", "  07:30\r", "\t12:00 ", "",
+      "24:00", "12:60", "99:99", "ab:cd", "7:3", "123:00", "07-30", "0730", "café",
+      "x".repeat(80), "00:00", "23:59", "19:45"};
+
+  @Autowired
+  private TimeConverter converter;
+
+  @BeforeAll
+  static void requireVectorModule() {
+    // Surefire adds the module; without it the differential tests would prove nothing
+    assertThat(VectorTimeParser.isAvailable()).isTrue();
+  }
+
+  @Test
+  void constructor_shouldThrowException() throws NoSuchMethodException {
+    Constructor<VectorTimeParser> constructor =
+        VectorTimeParser.class.getDeclaredConstructor();
+    constructor.setAccessible(true);
+
+    assertThatThrownBy(constructor::newInstance)
+        .isInstanceOf(InvocationTargetException.class)
+        .hasCauseInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void parseLines_everyValidTime_shouldMatchParseTime() {
+    // Arrange: each time as HH:mm and, before 10:00, as H:mm
+    List<String> times = new ArrayList<>();
+    for (int minuteOfDay = 0; minuteOfDay < 1440; minuteOfDay++) {
+      times.add(String.format("%02d:%02d", minuteOfDay / 60, minuteOfDay % 60));
+      if (minuteOfDay < 600) {
+        times.add(String.format("%d:%02d", minuteOfDay / 60, minuteOfDay % 60));
+      }
+    }
+    int[] expected = times.stream()
+        .mapToInt(time -> converter.parseTime(time).getMinuteOfDay())
+        .toArray();
+
+    // Act and Assert, starting at every offset of a canonical line
+    byte[] text = bytes(String.join("\n", times));
+    for (int skipped = 0; skipped < 6; skipped++) {
+      byte[] shifted = new byte[text.length + skipped];
+      System.arraycopy(text, 0, shifted, skipped, text.length);
+      int[] out = new int[shifted.length];
+
+      int lines = VectorTimeParser.parseLines(shifted, skipped, shifted.length, out);
+
+      assertThat(Arrays.copyOf(out, lines)).containsExactly(expected);
+    }
+  }
+
+  @Test
+  void parseLines_everySingleByteChange_shouldMatchScalarParser() {
+    // Arrange: canonical lines of every hour and of every minute, with each byte,
+    // line break included, replaced by each of the 256 byte values, and with a
+    // canonical line between changes so that every change lands in a vector block
+    byte[] canonical = canonicalLines();
+    ByteArrayOutputStream mutated = new ByteArrayOutputStream();
+    byte[] line = new byte[6];
+    for (int minuteOfDay = 0; minuteOfDay < 1440; minuteOfDay += 61) {
+      for (int offset = 0; offset < 6; offset++) {
+        for (int value = 0; value < 256; value++) {
+          System.arraycopy(canonical, minuteOfDay * 6, line, 0, 6);
+          line[offset] = (byte) value;
+          mutated.write(line, 0, 6);
+          mutated.write(canonical, 0, 6);
+        }
+      }
+    }
+
+    assertMatchesScalar(mutated.toByteArray());
+  }
+
+  @Test
+  void parseLines_randomMixes_shouldMatchScalarParser() {
+    Random random = new Random(42);
+    for (int round = 0; round < 2_000; round++) {
+      StringBuilder text = new StringBuilder();
+      int lines = random.nextInt(200);
+      for (int i = 0; i < lines; i++) {
+        if (random.nextInt(4) == 0) {
+          text.append(SAMPLES[random.nextInt(SAMPLES.length)]);
+        } else {
+          int minuteOfDay = random.nextInt(1440);
+          text.append(String.format("%02d:%02d", minuteOfDay / 60, minuteOfDay % 60));
+        }
+        text.append('\n');
+      }
+      if (random.nextBoolean() && !text.isEmpty()) {
+        text.setLength(text.length() - 1 - random.nextInt(Math.min(3, text.length())));
+      }
+
+      assertMatchesScalar(text.toString().getBytes(StandardCharsets.ISO_8859_1));
+    }
+  }
+
+  @Test
+  void parseLines_outputTooShort_shouldThrow() {
+    byte[] text = canonicalLines();
+
+    assertThatThrownBy(() -> VectorTimeParser.parseLines(text, 0, text.length, new int[1439]))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static void assertMatchesScalar(byte[] text) {
+    int[] expected = new int[text.length];
+    int expectedLines = TimeParser.parseLines(text, 0, text.length, expected);
+    int[] actual = new int[text.length];
+
+    int lines = VectorTimeParser.parseLines(text, 0, text.length, actual);
+
+    assertThat(lines).isEqualTo(expectedLines);
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  private static byte[] canonicalLines() {
+    StringBuilder text = new StringBuilder();
+    for (int minuteOfDay = 0; minuteOfDay < 1440; minuteOfDay++) {
+      text.append(String.format("%02d:%02d", minuteOfDay / 60, minuteOfDay % 60)).append('\n');
+    }
+    return bytes(text.toString());
+  }
+
+  private static byte[] bytes(String text) {
+    return text.getBytes(StandardCharsets.ISO_8859_1);
+  }
+}
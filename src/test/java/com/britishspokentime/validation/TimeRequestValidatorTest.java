@@ -0,0 +1,147 @@
+package com.britishspokentime.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.britishspokentime.dto.TimeRequest;
+import com.britishspokentime.service.util.TimeParser;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for TimeRequestValidator.
+ * Verifies the scan accepts exactly what the former regular expression accepted and
+ * reports violations with the former messages.
+ */
+class TimeRequestValidatorTest {
+
+  private static final Pattern LEGACY_PATTERN =
+      Pattern.compile("^([0-1]?[0-9]|2[0-3]):[0-5][0-9]$");
+  private static final String FORMAT_MESSAGE = "Time must be in HH:mm format (00:00 to 23:59)";
+
+  private static ValidatorFactory factory;
+  private static Validator validator;
+
+  @BeforeAll
+  static void setUp() {
+    factory = Validation.buildDefaultValidatorFactory();
+    validator = factory.getValidator();
+  }
+
+  @AfterAll
+  static void tearDown() {
+    factory.close();
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "00:00, 0",
+      "0:00, 0",
+      "7:30, 450",
+      "07:30, 450",
+      "12:00, 720",
+      "23:59, 1439"
+  })
+  void validate_validTime_shouldStoreMinuteOfDay(String time, int expected) {
+    // Arrange
+    TimeRequest request = new TimeRequest(time);
+
+    // Act
+    Set<ConstraintViolation<TimeRequest>> violations = validator.validate(request);
+
+    // Assert
+    assertThat(violations).isEmpty();
+    assertThat(request.getMinuteOfDay()).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"24:00", "12:60", "7:5", "007:30", "12-30", "ab:cd", " 7:30", "+7:30"})
+  void validate_invalidTime_shouldReportFormatMessageOnTimeProperty(String time) {
+    // Arrange
+    TimeRequest request = new TimeRequest(time);
+
+    // Act
+    Set<ConstraintViolation<TimeRequest>> violations = validator.validate(request);
+
+    // Assert
+    assertThat(violations).singleElement().satisfies(violation -> {
+      assertThat(violation.getMessage()).isEqualTo(FORMAT_MESSAGE);
+      assertThat(violation.getPropertyPath()).hasToString("time");
+    });
+    assertThat(request.getMinuteOfDay()).isEqualTo(TimeRequest.NOT_PARSED);
+  }
+
+  @Test
+  void isValid_nullRequest_shouldBeValid() {
+    assertThat(new TimeRequestValidator().isValid(null, null)).isTrue();
+  }
+
+  @Test
+  void validate_nullTime_shouldOnlyReportRequired() {
+    // Act
+    Set<ConstraintViolation<TimeRequest>> violations =
+        validator.validate(new TimeRequest(null));
+
+    // Assert
+    assertThat(violations).extracting(ConstraintViolation::getMessage)
+        .containsExactly("Time is required");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "   "})
+  void validate_blankTime_shouldReportRequiredAndFormat(String time) {
+    // Act
+    Set<ConstraintViolation<TimeRequest>> violations = validator.validate(new TimeRequest(time));
+
+    // Assert
+    assertThat(violations).extracting(ConstraintViolation::getMessage)
+        .containsExactlyInAnyOrder("Time is required", FORMAT_MESSAGE);
+  }
+
+  @Test
+  void setTime_shouldDiscardParsedMinuteOfDay() {
+    // Arrange
+    TimeRequest request = new TimeRequest("7:30");
+    validator.validate(request);
+
+    // Act
+    request.setTime("8:00");
+
+    // Assert
+    assertThat(request.getMinuteOfDay()).isEqualTo(TimeRequest.NOT_PARSED);
+  }
+
+  @Test
+  void scan_shouldAgreeWithLegacyPatternOnAllShortInputs() {
+    // Every string of up to five characters over digits, separator and two others
+    char[] alphabet = "0123456789: x".toCharArray();
+    int checked = 0;
+    for (int length = 0; length <= 5; length++) {
+      int combinations = (int) Math.pow(alphabet.length, length);
+      char[] chars = new char[length];
+      for (int n = 0; n < combinations; n++) {
+        int rest = n;
+        for (int i = 0; i < length; i++) {
+          chars[i] = alphabet[rest % alphabet.length];
+          rest /= alphabet.length;
+        }
+        String input = new String(chars);
+
+        boolean accepted = TimeParser.parseMinuteOfDay(input) >= 0;
+
+        assertThat(accepted).as("'%s'", input).isEqualTo(LEGACY_PATTERN.matcher(input).matches());
+        checked++;
+      }
+    }
+    assertThat(checked).isGreaterThan(400_000);
+  }
+}